@@ -0,0 +1,56 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração da abertura e do encerramento automáticos das assembleias ({@code abreEm} e
+ * {@code encerraEm}).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.assembleias.agenda")
+public class AgendaAssembleiasConfig {
+
+    /**
+     * Habilita a abertura e o encerramento automáticos. Se desabilitado, os prazos são apenas
+     * armazenados e os prazos vencidos não são recuperados na inicialização.
+     */
+    private boolean habilitada = true;
+
+    /**
+     * Resolução da roda de temporizadores: os prazos são executados com atraso de até um tick.
+     */
+    private Duration tick = Duration.ofMillis(100);
+
+    /**
+     * Antecedência com que as estruturas em memória de uma assembleia agendada são preparadas
+     * antes da abertura.
+     */
+    private Duration aquecimento = Duration.ofSeconds(5);
+
+    public boolean isHabilitada() {
+        return habilitada;
+    }
+
+    public void setHabilitada(boolean habilitada) {
+        this.habilitada = habilitada;
+    }
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public Duration getAquecimento() {
+        return aquecimento;
+    }
+
+    public void setAquecimento(Duration aquecimento) {
+        this.aquecimento = aquecimento;
+    }
+}
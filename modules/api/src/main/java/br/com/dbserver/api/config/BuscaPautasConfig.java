@@ -0,0 +1,80 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do índice invertido em memória utilizado na busca textual de pautas.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.pautas.busca")
+public class BuscaPautasConfig {
+
+    /**
+     * Habilita o índice. Se desabilitado, a busca textual consulta o banco com {@code LIKE}.
+     */
+    private boolean habilitada = true;
+
+    /**
+     * Quantidade de pautas lidas do banco por lote na construção do índice.
+     */
+    private int tamanhoLote = 1000;
+
+    /**
+     * Quantidade máxima de termos do índice considerados para o prefixo do último termo da busca.
+     */
+    private int maxExpansoesPrefixo = 64;
+
+    /**
+     * Quantidade máxima de resultados de uma busca.
+     */
+    private int maxResultados = 50;
+
+    /**
+     * Intervalo entre as reconstruções completas do índice, que incorporam as pautas alteradas
+     * através de outras instâncias. Zero desabilita as reconstruções periódicas.
+     */
+    private Duration reconstrucao = Duration.ofMinutes(5);
+
+    public boolean isHabilitada() {
+        return habilitada;
+    }
+
+    public void setHabilitada(boolean habilitada) {
+        this.habilitada = habilitada;
+    }
+
+    public int getTamanhoLote() {
+        return tamanhoLote;
+    }
+
+    public void setTamanhoLote(int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public int getMaxExpansoesPrefixo() {
+        return maxExpansoesPrefixo;
+    }
+
+    public void setMaxExpansoesPrefixo(int maxExpansoesPrefixo) {
+        this.maxExpansoesPrefixo = maxExpansoesPrefixo;
+    }
+
+    public int getMaxResultados() {
+        return maxResultados;
+    }
+
+    public void setMaxResultados(int maxResultados) {
+        this.maxResultados = maxResultados;
+    }
+
+    public Duration getReconstrucao() {
+        return reconstrucao;
+    }
+
+    public void setReconstrucao(Duration reconstrucao) {
+        this.reconstrucao = reconstrucao;
+    }
+}
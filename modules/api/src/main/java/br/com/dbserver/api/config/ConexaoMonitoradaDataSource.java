@@ -0,0 +1,89 @@
+package br.com.dbserver.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DataSource} que acompanha a espera por conexões do pool.
+ *
+ * Com virtual threads, o número de requisições simultâneas deixa de ser limitado pelo pool de
+ * threads do Tomcat e passa a ser limitado, na prática, pelo pool de conexões. Esta classe conta
+ * quantas threads aguardam uma conexão e registra as esperas acima do limite configurado, tornando
+ * visível a saturação do pool. A espera em si ocorre no pool (HikariCP), que não utiliza
+ * {@code synchronized} e, portanto, não prende a thread portadora de uma virtual thread.
+ */
+public class ConexaoMonitoradaDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ConexaoMonitoradaDataSource.class);
+
+    private final long alertaNanos;
+    private final AtomicInteger aguardando = new AtomicInteger();
+    private final LongAdder esperasLentas = new LongAdder();
+
+    /**
+     * Constrói o monitor sobre o {@link DataSource} da aplicação.
+     *
+     * @param alvo {@link DataSource} original
+     * @param alertaEspera espera mínima por uma conexão para que seja registrada em log
+     */
+    public ConexaoMonitoradaDataSource(DataSource alvo, Duration alertaEspera) {
+        super(alvo);
+        this.alertaNanos = alertaEspera.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long inicio = System.nanoTime();
+        aguardando.incrementAndGet();
+        try {
+            return super.getConnection();
+        } finally {
+            registrar(inicio, aguardando.getAndDecrement());
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long inicio = System.nanoTime();
+        aguardando.incrementAndGet();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            registrar(inicio, aguardando.getAndDecrement());
+        }
+    }
+
+    /**
+     * Retorna a quantidade de threads aguardando uma conexão no momento.
+     *
+     * @return threads aguardando uma conexão
+     */
+    public int getAguardando() {
+        return aguardando.get();
+    }
+
+    /**
+     * Retorna a quantidade de esperas por conexão acima do limite configurado desde o início da aplicação.
+     *
+     * @return total de esperas lentas
+     */
+    public long getEsperasLentas() {
+        return esperasLentas.sum();
+    }
+
+    private void registrar(long inicio, int concorrentes) {
+        long espera = System.nanoTime() - inicio;
+        if (espera >= alertaNanos) {
+            esperasLentas.increment();
+            log.warn("Espera por conexão do pool: {} ms ({} threads aguardando)", Duration.ofNanos(espera).toMillis(), concorrentes);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuração do modo de execução das requisições.
+ *
+ * O modo é definido pela propriedade {@code spring.threads.virtual.enabled}: quando habilitada
+ * (requer o build com o perfil {@code java21}), o Tomcat atende cada requisição em uma virtual
+ * thread, e as chamadas bloqueantes ao banco feitas pelos serviços passam a liberar a thread
+ * portadora enquanto aguardam. Somente nesse modo o limite de concorrência passa a ser o pool de
+ * conexões, cuja espera é acompanhada pelo {@link ConexaoMonitoradaDataSource}; com threads de
+ * plataforma, o {@link DataSource} não é decorado.
+ *
+ * O caminho JDBC não prende a thread portadora: o HikariCP aguarda conexões sem
+ * {@code synchronized}, e o driver do PostgreSQL (a partir da versão 42.6) protege a conexão com
+ * {@link java.util.concurrent.locks.ReentrantLock}. O driver do H2, utilizado apenas em
+ * desenvolvimento e testes, sincroniza a sessão com {@code synchronized}. Os blocos
+ * {@code synchronized} da aplicação não executam chamadas bloqueantes; o perfil {@code java21}
+ * habilita {@code -Djdk.tracePinnedThreads=short} para detectar regressões.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.execucao")
+public class ExecucaoConfig {
+
+    /**
+     * Espera mínima por uma conexão do pool para que seja registrada em log.
+     */
+    private Duration alertaEsperaConexao = Duration.ofMillis(50);
+
+    public Duration getAlertaEsperaConexao() {
+        return alertaEsperaConexao;
+    }
+
+    public void setAlertaEsperaConexao(Duration alertaEsperaConexao) {
+        this.alertaEsperaConexao = alertaEsperaConexao;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    static BeanPostProcessor conexaoMonitoradaPostProcessor(ObjectProvider<ExecucaoConfig> config) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConexaoMonitoradaDataSource)) {
+                    return new ConexaoMonitoradaDataSource(dataSource, config.getObject().getAlertaEsperaConexao());
+                }
+                return bean;
+            }
+        };
+    }
+}
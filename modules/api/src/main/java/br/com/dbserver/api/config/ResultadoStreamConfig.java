@@ -0,0 +1,41 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do stream de resultados parciais (Server-Sent Events) das assembleias.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.resultados.stream")
+public class ResultadoStreamConfig {
+
+    /**
+     * Intervalo mínimo entre dois envios de resultados de uma mesma assembleia. Os votos
+     * confirmados no intervalo são agrupados em um único envio.
+     */
+    private Duration intervalo = Duration.ofSeconds(1);
+
+    /**
+     * Tempo máximo de uma conexão do stream; após esse tempo o cliente deve se reconectar.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public Duration getIntervalo() {
+        return intervalo;
+    }
+
+    public void setIntervalo(Duration intervalo) {
+        this.intervalo = intervalo;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,236 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração das estruturas em memória utilizadas no caminho de registro de votos.
+ *
+ * Cada estrutura possui limites próprios para manter o consumo de memória previsível.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.cache")
+public class UrnaCacheConfig {
+
+    /**
+     * Índice de votos por assembleia, utilizado na detecção de votos duplicados.
+     */
+    private Duplicidade duplicidade = new Duplicidade();
+
+    /**
+     * Estado das assembleias abertas, consultado na validação de cada voto.
+     */
+    private AssembleiasAbertas assembleiasAbertas = new AssembleiasAbertas();
+
+    /**
+     * Identidade dos membros (CPF, identificador e nome), consultada no registro de votos V2.
+     */
+    private Membros membros = new Membros();
+
+    /**
+     * Resultados recentes de votos registrados com {@code Idempotency-Key}.
+     */
+    private Idempotencia idempotencia = new Idempotencia();
+
+    /**
+     * Resultados serializados das assembleias encerradas.
+     */
+    private ResultadosEncerrados resultadosEncerrados = new ResultadosEncerrados();
+
+    /**
+     * Contadores de votos por assembleia e decisão, utilizados nos resultados das assembleias abertas.
+     */
+    private Totais totais = new Totais();
+
+    public Duplicidade getDuplicidade() {
+        return duplicidade;
+    }
+
+    public void setDuplicidade(Duplicidade duplicidade) {
+        this.duplicidade = duplicidade;
+    }
+
+    public AssembleiasAbertas getAssembleiasAbertas() {
+        return assembleiasAbertas;
+    }
+
+    public void setAssembleiasAbertas(AssembleiasAbertas assembleiasAbertas) {
+        this.assembleiasAbertas = assembleiasAbertas;
+    }
+
+    public Membros getMembros() {
+        return membros;
+    }
+
+    public void setMembros(Membros membros) {
+        this.membros = membros;
+    }
+
+    public Idempotencia getIdempotencia() {
+        return idempotencia;
+    }
+
+    public void setIdempotencia(Idempotencia idempotencia) {
+        this.idempotencia = idempotencia;
+    }
+
+    public ResultadosEncerrados getResultadosEncerrados() {
+        return resultadosEncerrados;
+    }
+
+    public void setResultadosEncerrados(ResultadosEncerrados resultadosEncerrados) {
+        this.resultadosEncerrados = resultadosEncerrados;
+    }
+
+    public Totais getTotais() {
+        return totais;
+    }
+
+    public void setTotais(Totais totais) {
+        this.totais = totais;
+    }
+
+    /**
+     * Configuração do índice de votos por assembleia.
+     */
+    public static class Duplicidade {
+
+        /**
+         * Quantidade máxima de assembleias mantidas simultaneamente no índice.
+         */
+        private int maxAssembleias = 1024;
+
+        /**
+         * Quantidade máxima de membros numerados pelo índice. Ao ser atingida, o índice é
+         * reiniciado e os bitmaps das assembleias são recarregados do banco no próximo acesso.
+         */
+        private int maxMembros = 1_000_000;
+
+        public int getMaxAssembleias() {
+            return maxAssembleias;
+        }
+
+        public void setMaxAssembleias(int maxAssembleias) {
+            this.maxAssembleias = maxAssembleias;
+        }
+
+        public int getMaxMembros() {
+            return maxMembros;
+        }
+
+        public void setMaxMembros(int maxMembros) {
+            this.maxMembros = maxMembros;
+        }
+    }
+
+    /**
+     * Configuração do cache de assembleias abertas.
+     */
+    public static class AssembleiasAbertas {
+
+        /**
+         * Quantidade máxima de assembleias abertas mantidas no cache.
+         */
+        private int maxEntradas = 256;
+
+        public int getMaxEntradas() {
+            return maxEntradas;
+        }
+
+        public void setMaxEntradas(int maxEntradas) {
+            this.maxEntradas = maxEntradas;
+        }
+    }
+
+    /**
+     * Configuração do cache de identidade dos membros.
+     */
+    public static class Membros {
+
+        /**
+         * Quantidade máxima de membros mantidos no cache. A tabela ocupa 32 bytes por posição,
+         * com ocupação máxima de 75% e capacidade em potência de dois (1 milhão de membros ocupam até 64 MB).
+         */
+        private int maxMembros = 1_000_000;
+
+        public int getMaxMembros() {
+            return maxMembros;
+        }
+
+        public void setMaxMembros(int maxMembros) {
+            this.maxMembros = maxMembros;
+        }
+    }
+
+    /**
+     * Configuração do armazenamento de chaves de idempotência.
+     */
+    public static class Idempotencia {
+
+        /**
+         * Quantidade máxima de chaves mantidas simultaneamente.
+         */
+        private int maxChaves = 100_000;
+
+        /**
+         * Tempo durante o qual uma chave devolve o resultado do voto original.
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        public int getMaxChaves() {
+            return maxChaves;
+        }
+
+        public void setMaxChaves(int maxChaves) {
+            this.maxChaves = maxChaves;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+
+    /**
+     * Configuração do cache de resultados das assembleias encerradas.
+     */
+    public static class ResultadosEncerrados {
+
+        /**
+         * Quantidade máxima de resultados mantidos no cache.
+         */
+        private int maxEntradas = 10_000;
+
+        public int getMaxEntradas() {
+            return maxEntradas;
+        }
+
+        public void setMaxEntradas(int maxEntradas) {
+            this.maxEntradas = maxEntradas;
+        }
+    }
+
+    /**
+     * Configuração dos contadores de votos por assembleia.
+     */
+    public static class Totais {
+
+        /**
+         * Quantidade máxima de assembleias com contadores mantidos simultaneamente.
+         */
+        private int maxAssembleias = 1024;
+
+        public int getMaxAssembleias() {
+            return maxAssembleias;
+        }
+
+        public void setMaxAssembleias(int maxAssembleias) {
+            this.maxAssembleias = maxAssembleias;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração do group commit de votos.
+ *
+ * Quando habilitado, os votos registrados individualmente por requisições concorrentes
+ * são agrupados e gravados em transações compartilhadas, diluindo o custo do commit
+ * (e do fsync do banco) entre vários votos. Os votos de uma mesma assembleia são sempre
+ * gravados pela mesma fila, em ordem.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.votos.group-commit")
+public class VotoGroupCommitConfig {
+
+    /**
+     * Habilita o agrupamento de votos em transações compartilhadas.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Quantidade de filas de gravação. Cada assembleia é atribuída a uma fila pelo hash do seu
+     * identificador, e cada fila é gravada por uma thread exclusiva.
+     */
+    private int lanes = 4;
+
+    /**
+     * Quantidade máxima de votos gravados em uma mesma transação.
+     */
+    private int maxBatchSize = 64;
+
+    /**
+     * Tempo máximo que o primeiro voto de um grupo aguarda a chegada de outros votos.
+     */
+    private Duration maxWait = Duration.ofMillis(2);
+
+    /**
+     * Tempo máximo que a requisição aguarda o commit do grupo que contém o seu voto.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getLanes() {
+        return lanes;
+    }
+
+    public void setLanes(int lanes) {
+        this.lanes = lanes;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
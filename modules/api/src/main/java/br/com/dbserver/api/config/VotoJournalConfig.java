@@ -0,0 +1,85 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuração do journal de votos, utilizado no modo de registro {@code JOURNAL}.
+ *
+ * Os votos são gravados em segmentos mapeados em memória no disco local e projetados
+ * na tabela {@code votos} em lotes, por uma thread dedicada.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.votos.journal")
+public class VotoJournalConfig {
+
+    /**
+     * Diretório dos segmentos do journal e do checkpoint de projeção.
+     */
+    private String diretorio = "data/journal";
+
+    /**
+     * Tamanho de cada segmento do journal.
+     */
+    private DataSize tamanhoSegmento = DataSize.ofMegabytes(64);
+
+    /**
+     * Quantidade máxima de votos gravados na tabela {@code votos} por transação de projeção.
+     */
+    private int tamanhoLote = 500;
+
+    /**
+     * Intervalo entre verificações do journal quando não há votos pendentes de projeção,
+     * e entre novas tentativas após uma falha de projeção.
+     */
+    private Duration intervaloProjecao = Duration.ofMillis(20);
+
+    /**
+     * Tempo máximo de espera pela projeção dos votos gravados no journal, no encerramento de uma
+     * assembleia.
+     */
+    private Duration esperaProjecao = Duration.ofSeconds(10);
+
+    public String getDiretorio() {
+        return diretorio;
+    }
+
+    public void setDiretorio(String diretorio) {
+        this.diretorio = diretorio;
+    }
+
+    public DataSize getTamanhoSegmento() {
+        return tamanhoSegmento;
+    }
+
+    public void setTamanhoSegmento(DataSize tamanhoSegmento) {
+        this.tamanhoSegmento = tamanhoSegmento;
+    }
+
+    public int getTamanhoLote() {
+        return tamanhoLote;
+    }
+
+    public void setTamanhoLote(int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public Duration getIntervaloProjecao() {
+        return intervaloProjecao;
+    }
+
+    public void setIntervaloProjecao(Duration intervaloProjecao) {
+        this.intervaloProjecao = intervaloProjecao;
+    }
+
+    public Duration getEsperaProjecao() {
+        return esperaProjecao;
+    }
+
+    public void setEsperaProjecao(Duration esperaProjecao) {
+        this.esperaProjecao = esperaProjecao;
+    }
+}
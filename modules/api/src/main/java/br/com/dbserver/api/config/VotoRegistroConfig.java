@@ -0,0 +1,68 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração da forma de registro de votos individuais.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.votos.registro")
+public class VotoRegistroConfig {
+
+    /**
+     * Modo de registro dos votos individuais.
+     */
+    private Modo modo = Modo.VALIDADO;
+
+    /**
+     * Tempo máximo que o encerramento de uma assembleia aguarda as gravações de votos em
+     * andamento nesta instância antes de apurar o resultado final.
+     */
+    private Duration esperaEncerramento = Duration.ofSeconds(10);
+
+    public Modo getModo() {
+        return modo;
+    }
+
+    public void setModo(Modo modo) {
+        this.modo = modo;
+    }
+
+    public Duration getEsperaEncerramento() {
+        return esperaEncerramento;
+    }
+
+    public void setEsperaEncerramento(Duration esperaEncerramento) {
+        this.esperaEncerramento = esperaEncerramento;
+    }
+
+    /**
+     * Modos de registro de votos.
+     */
+    public enum Modo {
+
+        /**
+         * Valida assembleia, membro e duplicidade antes de gravar o voto.
+         */
+        VALIDADO,
+
+        /**
+         * Grava o voto com um único comando condicionado à assembleia aberta, sem consultas ou
+         * bloqueios prévios, confiando na restrição única para rejeitar duplicidades e na
+         * quantidade de linhas inseridas para detectar uma assembleia encerrada. O total da
+         * decisão em {@code votos_totais} é incrementado por um segundo comando, na mesma
+         * transação. As validações só são executadas para explicar um voto recusado.
+         */
+        OTIMISTA,
+
+        /**
+         * Valida o voto e o confirma assim que é gravado no journal local ({@code urna.votos.journal}).
+         * A gravação na tabela {@code votos} ocorre de forma assíncrona, em lotes. Neste modo,
+         * o group commit não é utilizado.
+         */
+        JOURNAL
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.dbserver.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração dos totais de votos por assembleia e decisão (tabela {@code votos_totais}).
+ *
+ * Cada total é distribuído entre {@code slots} linhas, e cada transação incrementa uma linha
+ * escolhida aleatoriamente. Assim, votos concorrentes de uma mesma assembleia raramente disputam
+ * o lock da mesma linha; as consultas somam todas as linhas do total.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "urna.votos.totais")
+public class VotoTotaisConfig {
+
+    /**
+     * Quantidade de linhas por assembleia e decisão. Pode ser alterada a qualquer momento,
+     * pois as consultas somam todas as linhas existentes.
+     */
+    private int slots = 8;
+
+    public int getSlots() {
+        return slots;
+    }
+
+    public void setSlots(int slots) {
+        this.slots = slots;
+    }
+}
@@ -3,13 +3,14 @@ package br.com.dbserver.api.controller;
 import br.com.dbserver.api.domain.entities.StatusAssembleia;
 import br.com.dbserver.api.dto.AssembleiaCreateDTO;
 import br.com.dbserver.api.dto.AssembleiaDTO;
+import br.com.dbserver.api.dto.CursorPaginacao;
 import br.com.dbserver.api.dto.PaginacaoResponse;
 import br.com.dbserver.api.service.AssembleiaService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -26,6 +28,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/assembleias")
@@ -33,6 +36,7 @@ import java.util.UUID;
 public class AssembleiaController {
     
     private static final Logger log = LoggerFactory.getLogger(AssembleiaController.class);
+    private static final Function<AssembleiaDTO, CursorPaginacao> POSICAO = assembleia -> new CursorPaginacao(assembleia.getIniciadaEm(), assembleia.getIdAssembleia());
     
     private final AssembleiaService assembleiaService;
     
@@ -43,7 +47,7 @@ public class AssembleiaController {
     @GetMapping
     @Operation(
         summary = "Listar assembleias.",
-        description = "Retorna a lista paginada de assembleias, podendo filtrar por status e/ou intervalo de datas."
+        description = "Retorna a lista paginada de assembleias, podendo filtrar por status e/ou intervalo de datas. A paginação por cursor é indicada para percorrer muitas páginas: envie no parâmetro 'cursor' o campo 'proximoCursor' da resposta anterior (disponível quando não há ordenação informada); nesse modo, os itens são ordenados da assembleia mais recente para a mais antiga, 'paginaAtual' e 'ordenarPor' são ignorados e os totais são omitidos. Com 'semTotal=true', a paginação por página é mantida sem a contagem dos totais."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -72,6 +76,7 @@ public class AssembleiaController {
                         "totalItensPorPagina": 10,
                         "totalItens": 1,
                         "totalPaginas": 1,
+                        "temProxima": false,
                         "paginacao": {
                             "numeroPagina": 0,
                             "totalItensPorPagina": 10,
@@ -93,13 +98,24 @@ public class AssembleiaController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dataInicio,
             @Parameter(description = "Data/hora final do intervalo.", example = "2024-12-31T23:59:59Z") 
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dataFim,
+            @Parameter(description = "Cursor da próxima página, obtido no campo 'proximoCursor' da resposta anterior.", schema = @Schema(type = "string"))
+            @RequestParam(required = false) CursorPaginacao cursor,
+            @Parameter(description = "Omite os totais da resposta, dispensando a contagem de itens; 'temProxima' indica se há uma próxima página.", example = "true")
+            @RequestParam(defaultValue = "false") boolean semTotal,
             @Parameter(description = "Parâmetros de paginação", example = "{\n  \"paginaAtual\": 0,\n  \"itensPorPagina\": 10,\n  \"ordenarPor\": [\"iniciadaEm,desc\"]\n}")
             Pageable pageable) {
         
         log.debug("Buscando assembleias com filtros - status: {}, dataInicio: {}, dataFim: {}", status, dataInicio, dataFim);
         
-        Page<AssembleiaDTO> page = assembleiaService.findBy(status, dataInicio, dataFim, pageable);
-        return PaginacaoResponse.of(page);
+        if (cursor != null) {
+            return PaginacaoResponse.of(assembleiaService.findBy(status, dataInicio, dataFim, cursor, pageable.getPageSize()), POSICAO);
+        }
+        
+        Slice<AssembleiaDTO> page = semTotal
+            ? assembleiaService.findSliceBy(status, dataInicio, dataFim, pageable)
+            : assembleiaService.findBy(status, dataInicio, dataFim, pageable);
+        // Sem ordenação informada, a ordem da página é a mesma da paginação por cursor
+        return pageable.getSort().isUnsorted() ? PaginacaoResponse.of(page, POSICAO) : PaginacaoResponse.of(page);
     }
 
     @GetMapping("/{id}")
@@ -305,6 +321,63 @@ public class AssembleiaController {
             .orElse(ResponseEntity.notFound().build());
     }
 
+    @PatchMapping("/{id}/encerrar")
+    @Operation(
+        summary = "Encerrar assembleia.",
+        description = "Encerra uma assembleia aberta. Após o encerramento, a assembleia não aceita novos votos."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Assembleia encerrada com sucesso.",
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Assembleia encerrada",
+                    value = """
+                    {
+                        "idAssembleia": "550e8400-e29b-41d4-a716-446655440002",
+                        "pauta": {
+                            "idPauta": "550e8400-e29b-41d4-a716-446655440001",
+                            "titulo": "Aprovação do orçamento anual",
+                            "descricao": "Discussão e votação sobre o orçamento da empresa",
+                            "criadaEm": "2024-01-15T10:30:00Z"
+                        },
+                        "status": "Encerrada",
+                        "iniciadaEm": "2024-01-15T14:00:00Z",
+                        "finalizadaEm": "2024-01-15T16:00:00Z"
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404", 
+            description = "Assembleia não encontrada.",
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Erro - Assembleia não encontrada",
+                    value = """
+                    {
+                        "dataHora": "2024-01-15T10:30:00Z",
+                        "codigoErro": "ASSEMBLEIA_NAO_ENCONTRADA",
+                        "mensagem": "Assembleia não encontrada",
+                        "caminho": "/api/v1/assembleias/550e8400-e29b-41d4-a716-446655440002/encerrar"
+                    }
+                    """
+                )
+            )
+        )
+    })
+    public ResponseEntity<AssembleiaDTO> closeById(
+            @Parameter(description = "Identificador da assembleia.", example = "550e8400-e29b-41d4-a716-446655440002") @PathVariable UUID id) {
+        
+        log.info("Encerrando assembleia: {}", id);
+        
+        return assembleiaService.closeById(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
         summary = "Excluir assembleia.",
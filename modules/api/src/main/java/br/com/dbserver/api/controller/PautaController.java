@@ -1,14 +1,16 @@
 package br.com.dbserver.api.controller;
 
+import br.com.dbserver.api.dto.CursorPaginacao;
 import br.com.dbserver.api.dto.PaginacaoResponse;
+import br.com.dbserver.api.dto.PautaBuscaDTO;
 import br.com.dbserver.api.dto.PautaCreateDTO;
 import br.com.dbserver.api.dto.PautaDTO;
 import br.com.dbserver.api.service.PautaService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,13 +20,16 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/v1/pautas")
@@ -32,6 +37,7 @@ import java.util.UUID;
 public class PautaController {
     
     private static final Logger log = LoggerFactory.getLogger(PautaController.class);
+    private static final Function<PautaDTO, CursorPaginacao> POSICAO = pauta -> new CursorPaginacao(pauta.getCriadaEm(), pauta.getIdPauta());
     
     private final PautaService pautaService;
     
@@ -42,7 +48,7 @@ public class PautaController {
     @GetMapping
     @Operation(
         summary = "Listar pautas.",
-        description = "Retorna a lista paginada de pautas, podendo filtrar por busca de texto e/ou intervalo de datas."
+        description = "Retorna a lista paginada de pautas, podendo filtrar por busca de texto e/ou intervalo de datas. A paginação por cursor é indicada para percorrer muitas páginas: envie no parâmetro 'cursor' o campo 'proximoCursor' da resposta anterior (disponível quando não há ordenação informada); nesse modo, os itens são ordenados da pauta mais recente para a mais antiga, 'paginaAtual' e 'ordenarPor' são ignorados e os totais são omitidos. Com 'semTotal=true', a paginação por página é mantida sem a contagem dos totais."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -65,6 +71,7 @@ public class PautaController {
                         "totalItensPorPagina": 10,
                         "totalItens": 1,
                         "totalPaginas": 1,
+                        "temProxima": false,
                         "paginacao": {
                             "numeroPagina": 0,
                             "totalItensPorPagina": 10,
@@ -86,13 +93,60 @@ public class PautaController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dataInicio,
             @Parameter(description = "Data/hora final do intervalo.", example = "2024-12-31T23:59:59Z") 
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dataFim,
+            @Parameter(description = "Cursor da próxima página, obtido no campo 'proximoCursor' da resposta anterior.", schema = @Schema(type = "string"))
+            @RequestParam(required = false) CursorPaginacao cursor,
+            @Parameter(description = "Omite os totais da resposta, dispensando a contagem de itens; 'temProxima' indica se há uma próxima página.", example = "true")
+            @RequestParam(defaultValue = "false") boolean semTotal,
             @Parameter(description = "Parâmetros de paginação", example = "{\n  \"paginaAtual\": 0,\n  \"itensPorPagina\": 10,\n  \"ordenarPor\": [\"criadaEm,desc\"]\n}")
             Pageable pageable) {
         
         log.debug("Buscando pautas com filtros - search: '{}', dataInicio: {}, dataFim: {}", search, dataInicio, dataFim);
         
-        Page<PautaDTO> page = pautaService.findBy(search, dataInicio, dataFim, pageable);
-        return PaginacaoResponse.of(page);
+        if (cursor != null) {
+            return PaginacaoResponse.of(pautaService.findBy(search, dataInicio, dataFim, cursor, pageable.getPageSize()), POSICAO);
+        }
+        
+        Slice<PautaDTO> page = semTotal
+            ? pautaService.findSliceBy(search, dataInicio, dataFim, pageable)
+            : pautaService.findBy(search, dataInicio, dataFim, pageable);
+        // Sem ordenação informada, a ordem da página é a mesma da paginação por cursor
+        return pageable.getSort().isUnsorted() ? PaginacaoResponse.of(page, POSICAO) : PaginacaoResponse.of(page);
+    }
+
+    @GetMapping("/busca")
+    @Operation(
+        summary = "Buscar pautas por texto.",
+        description = "Retorna as pautas cujo título ou descrição contenham todos os termos informados, ignorando acentos e maiúsculas/minúsculas, em ordem de relevância. O último termo é tratado como prefixo, permitindo o uso em campos de autocompletar."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Pautas encontradas.",
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Pautas encontradas",
+                    value = """
+                    [
+                        {
+                            "idPauta": "550e8400-e29b-41d4-a716-446655440001",
+                            "titulo": "Aprovação do orçamento anual",
+                            "relevancia": 2.35
+                        }
+                    ]
+                    """
+                )
+            )
+        )
+    })
+    public List<PautaBuscaDTO> search(
+            @Parameter(description = "Texto buscado; o último termo pode estar incompleto.", example = "orcamento an") 
+            @RequestParam String texto,
+            @Parameter(description = "Quantidade máxima de resultados.", example = "10") 
+            @RequestParam(defaultValue = "10") int limite) {
+        
+        log.debug("Buscando pautas por texto: '{}', limite: {}", texto, limite);
+        
+        return pautaService.search(texto, limite);
     }
 
     @GetMapping("/{id}")
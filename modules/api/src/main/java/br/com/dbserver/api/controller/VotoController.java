@@ -1,26 +1,39 @@
 package br.com.dbserver.api.controller;
 
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import br.com.dbserver.api.dto.ResultadoPautaDTO;
 import br.com.dbserver.api.dto.VotoCreateDTO;
 import br.com.dbserver.api.dto.VotoCreateV2DTO;
 import br.com.dbserver.api.dto.VotoDTO;
+import br.com.dbserver.api.dto.VotoLoteCreateDTO;
+import br.com.dbserver.api.dto.VotoLoteResultadoDTO;
+import br.com.dbserver.api.service.ResultadoStreamService;
+import br.com.dbserver.api.service.VotoExportacaoService;
 import br.com.dbserver.api.service.VotoService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-import java.util.Map;
+import java.time.Duration;
 import java.util.UUID;
 
 @RestController
@@ -29,11 +42,18 @@ import java.util.UUID;
 public class VotoController {
     
     private static final Logger log = LoggerFactory.getLogger(VotoController.class);
+    private static final Duration RESULTADO_DEFINITIVO_MAX_AGE = Duration.ofDays(365);
     
     private final VotoService votoService;
+    private final ResultadoStreamService resultadoStreamService;
+    private final VotoExportacaoService votoExportacaoService;
     
-    public VotoController(VotoService votoService) {
+    public VotoController(VotoService votoService,
+                          ResultadoStreamService resultadoStreamService,
+                          VotoExportacaoService votoExportacaoService) {
         this.votoService = votoService;
+        this.resultadoStreamService = resultadoStreamService;
+        this.votoExportacaoService = votoExportacaoService;
     }
 
     @PostMapping("/v1/votos")
@@ -121,11 +141,13 @@ public class VotoController {
                     )
                 )
             )
-            @Valid @org.springframework.web.bind.annotation.RequestBody VotoCreateDTO dto) {
+            @Valid @org.springframework.web.bind.annotation.RequestBody VotoCreateDTO dto,
+            @Parameter(description = "Chave única da tentativa de voto. Repetições com a mesma chave neste endpoint, atendidas pela mesma instância, devolvem o voto registrado originalmente; em outra instância ou após um reinício, a repetição é recusada como voto duplicado (409).", example = "3f1c9a52-7d4e-4b8a-9c0f-2e6d8b1a7c35")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         
         log.info("Registrando voto V1 (DEPRECATED) para assembleia: {}, membro: {}", dto.getAssembleiaId(), dto.getMembroId());
         
-        VotoDTO created = votoService.register(dto);
+        VotoDTO created = votoService.register(dto, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
@@ -235,15 +257,115 @@ public class VotoController {
                     )
                 )
             )
-            @Valid @org.springframework.web.bind.annotation.RequestBody VotoCreateV2DTO dto) {
+            @Valid @org.springframework.web.bind.annotation.RequestBody VotoCreateV2DTO dto,
+            @Parameter(description = "Chave única da tentativa de voto. Repetições com a mesma chave neste endpoint, atendidas pela mesma instância, devolvem o voto registrado originalmente; em outra instância ou após um reinício, a repetição é recusada como voto duplicado (409).", example = "3f1c9a52-7d4e-4b8a-9c0f-2e6d8b1a7c35")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         
         log.info("Registrando voto V2 para assembleia: {}, membro: {} - {}", 
                 dto.getAssembleiaId(), dto.getNome(), dto.getCpf());
         
-        VotoDTO created = votoService.registerV2(dto);
+        VotoDTO created = votoService.registerV2(dto, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/v2/votos/lote")
+    @Operation(
+        summary = "Registrar lote de votos.",
+        description = "Registra vários votos (V2) em uma única requisição e transação, retornando a situação de cada item."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Lote processado. Cada item informa se foi registrado, duplicado ou recusado por erro.",
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Lote processado",
+                    value = """
+                    {
+                        "totalRegistrados": 1,
+                        "totalDuplicados": 1,
+                        "totalErros": 1,
+                        "itens": [
+                            {
+                                "indice": 0,
+                                "status": "REGISTRADO",
+                                "voto": {
+                                    "idVoto": "550e8400-e29b-41d4-a716-446655440003",
+                                    "assembleiaId": "550e8400-e29b-41d4-a716-446655440002",
+                                    "membroId": "550e8400-e29b-41d4-a716-446655440004",
+                                    "decisao": "Concordo",
+                                    "registradoEm": "2024-01-15T14:30:00Z"
+                                }
+                            },
+                            {
+                                "indice": 1,
+                                "status": "DUPLICADO",
+                                "mensagem": "Membro já votou nesta assembleia"
+                            },
+                            {
+                                "indice": 2,
+                                "status": "ERRO",
+                                "mensagem": "Membro não encontrado com CPF: 12345678901"
+                            }
+                        ]
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400", 
+            description = "Dados inválidos.",
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Erro de validação",
+                    value = """
+                    {
+                        "dataHora": "2024-01-15T10:30:00Z",
+                        "codigoErro": "DADOS_INVALIDOS",
+                        "mensagem": "Dados inválidos fornecidos",
+                        "caminho": "/api/v2/votos/lote",
+                        "erros": [
+                            {
+                                "campo": "votos",
+                                "mensagem": "O lote deve conter ao menos um voto"
+                            }
+                        ]
+                    }
+                    """
+                )
+            )
+        )
+    })
+    public ResponseEntity<VotoLoteResultadoDTO> registerBatchV2(
+            @RequestBody(
+                description = "Lote de votos para registro (V2)",
+                content = @Content(
+                    examples = @ExampleObject(
+                        name = "Exemplo de registro de lote de votos",
+                        value = """
+                        {
+                            "votos": [
+                                {
+                                    "assembleiaId": "550e8400-e29b-41d4-a716-446655440002",
+                                    "nome": "João da Silva",
+                                    "cpf": "12345678901",
+                                    "decisao": "Concordo"
+                                }
+                            ]
+                        }
+                        """
+                    )
+                )
+            )
+            @Valid @org.springframework.web.bind.annotation.RequestBody VotoLoteCreateDTO dto) {
+        
+        log.info("Registrando lote de {} votos V2", dto.getVotos().size());
+        
+        VotoLoteResultadoDTO resultado = votoService.registerBatchV2(dto.getVotos());
+        return ResponseEntity.ok(resultado);
+    }
+
     @GetMapping("/v1/votos/pauta/{pautaId}")
     @Operation(
         summary = "Obter resultado da votação por pauta.",
@@ -258,19 +380,21 @@ public class VotoController {
                     name = "Resultado da votação",
                     value = """
                     {
-                        "pautaId": "550e8400-e29b-41d4-a716-446655440001",
-                        "titulo": "Aprovação do orçamento anual",
-                        "totalVotos": 150,
-                        "votosSim": 85,
-                        "votosNao": 65,
-                        "percentualSim": 56.67,
-                        "percentualNao": 43.33,
-                        "resultado": "APROVADO",
-                        "detalhes": [
+                        "pauta": {
+                            "idPauta": "550e8400-e29b-41d4-a716-446655440001",
+                            "titulo": "Aprovação do orçamento anual",
+                            "descricao": "Discussão e votação sobre o orçamento da empresa para o próximo ano",
+                            "criadaEm": "2024-01-15T10:30:00Z"
+                        },
+                        "assembleias": [
                             {
                                 "assembleiaId": "550e8400-e29b-41d4-a716-446655440002",
-                                "statusAssembleia": "FINALIZADA",
-                                "totalVotosAssembleia": 150
+                                "status": "Encerrada",
+                                "iniciadaEm": "2024-01-15T10:30:00Z",
+                                "finalizadaEm": "2024-01-15T18:30:00Z",
+                                "totalVotos": 150,
+                                "concordo": 85,
+                                "discordo": 65
                             }
                         ]
                     }
@@ -296,14 +420,158 @@ public class VotoController {
             )
         )
     })
-    public ResponseEntity<Map<String, Object>> getResultsByPautaId(
+    public ResponseEntity<ResultadoPautaDTO> getResultsByPautaId(
             @Parameter(description = "Identificador da pauta.", example = "550e8400-e29b-41d4-a716-446655440001") @PathVariable UUID pautaId,
             @Parameter(description = "Identificador da assembleia.", example = "550e8400-e29b-41d4-a716-446655440002") @RequestParam(required = false) UUID assembleiaId,
             @Parameter(description = "Identificador do membro.", example = "550e8400-e29b-41d4-a716-446655440005") @RequestParam(required = false) UUID membroId) {
         
         log.debug("Obtendo resultados de votação para pauta: {}, assembleia: {}, membro: {}", pautaId, assembleiaId, membroId);
         
-        Map<String, Object> results = votoService.getResultsByPautaId(pautaId, assembleiaId, membroId);
+        ResultadoPautaDTO results = votoService.getResultsByPautaId(pautaId, assembleiaId, membroId);
         return ResponseEntity.ok(results);
     }
-}
\ No newline at end of file
+
+    @GetMapping(value = "/v2/assembleias/{id}/resultados", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Obter resultado da votação de uma assembleia.",
+        description = "Retorna os totais de votos da assembleia com uma ETag forte. O resultado selado de uma assembleia encerrada " +
+                     "é definitivo e enviado com 'Cache-Control: immutable'; requisições com 'If-None-Match' recebem 304 se não houver alteração."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resultado retornado com sucesso.",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ResultadoAssembleiaDTO.class),
+                examples = @ExampleObject(
+                    name = "Resultado da assembleia",
+                    value = """
+                    {
+                        "assembleiaId": "550e8400-e29b-41d4-a716-446655440002",
+                        "status": "Encerrada",
+                        "iniciadaEm": "2024-01-15T10:30:00Z",
+                        "finalizadaEm": "2024-01-15T18:30:00Z",
+                        "totalVotos": 150,
+                        "concordo": 85,
+                        "discordo": 65
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Resultado não alterado desde a ETag informada em 'If-None-Match'."
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Assembleia não encontrada."
+        )
+    })
+    public ResponseEntity<byte[]> getResultsByAssembleiaId(
+            @Parameter(description = "Identificador da assembleia.", example = "550e8400-e29b-41d4-a716-446655440002") @PathVariable UUID id) {
+
+        log.debug("Obtendo resultado de votação da assembleia: {}", id);
+
+        return votoService.getSerializedResultsByAssembleiaId(id)
+            .map(resultado -> ResponseEntity.ok()
+                .eTag(resultado.etag())
+                .cacheControl(resultado.definitivo()
+                    ? CacheControl.maxAge(RESULTADO_DEFINITIVO_MAX_AGE).cachePublic().immutable()
+                    : CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(resultado.conteudo()))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/v2/assembleias/{id}/resultados/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Acompanhar o resultado parcial de uma assembleia (Server-Sent Events).",
+        description = "Mantém a conexão aberta e envia um evento 'resultado' com os totais atuais da assembleia " +
+                     "imediatamente e, a seguir, no máximo uma vez por intervalo configurado, apenas quando houver novos votos. " +
+                     "Quando o resultado final é selado, envia um evento 'encerramento' com os totais selados e conclui a conexão; " +
+                     "para uma assembleia já encerrada, envia apenas o evento 'encerramento'."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream de resultados aberto.",
+            content = @Content(
+                mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                examples = {
+                    @ExampleObject(
+                        name = "Evento de resultado",
+                        value = """
+                        event:resultado
+                        data:{"assembleiaId":"550e8400-e29b-41d4-a716-446655440002","totalVotos":150,"concordo":85,"discordo":65}
+                        """
+                    ),
+                    @ExampleObject(
+                        name = "Evento de encerramento",
+                        value = """
+                        event:encerramento
+                        data:{"assembleiaId":"550e8400-e29b-41d4-a716-446655440002","totalVotos":152,"concordo":86,"discordo":66}
+                        """
+                    )
+                }
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Assembleia não encontrada."
+        )
+    })
+    public ResponseEntity<SseEmitter> streamResultsByAssembleiaId(
+            @Parameter(description = "Identificador da assembleia.", example = "550e8400-e29b-41d4-a716-446655440002") @PathVariable UUID id) {
+
+        log.debug("Abrindo stream de resultados da assembleia: {}", id);
+
+        return resultadoStreamService.assinar(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/v2/assembleias/{id}/votos/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Exportar os votos de uma assembleia (NDJSON).",
+        description = "Envia todos os votos da assembleia em JSON delimitado por linhas (um voto por linha), " +
+                     "ordenados pela data de registro. Os votos são lidos do banco e enviados à medida que são lidos, " +
+                     "permitindo exportar assembleias com qualquer quantidade de votos."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Exportação iniciada.",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                examples = @ExampleObject(
+                    name = "Votos exportados",
+                    value = """
+                    {"idVoto":"550e8400-e29b-41d4-a716-446655440003","assembleiaId":"550e8400-e29b-41d4-a716-446655440002","membroId":"550e8400-e29b-41d4-a716-446655440005","decisao":"Concordo","registradoEm":"2024-01-15T14:30:00Z"}
+                    {"idVoto":"550e8400-e29b-41d4-a716-446655440004","assembleiaId":"550e8400-e29b-41d4-a716-446655440002","membroId":"550e8400-e29b-41d4-a716-446655440006","decisao":"Discordo","registradoEm":"2024-01-15T14:31:00Z"}
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Assembleia não encontrada."
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportVotosByAssembleiaId(
+            @Parameter(description = "Identificador da assembleia.", example = "550e8400-e29b-41d4-a716-446655440002") @PathVariable UUID id) {
+
+        log.debug("Exportando votos da assembleia: {}", id);
+
+        if (!votoExportacaoService.existeAssembleia(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StreamingResponseBody votos = saida -> votoExportacaoService.exportar(id, saida);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("votos-" + id + ".ndjson").build().toString())
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(votos);
+    }
+}
@@ -19,6 +19,23 @@ public final class QueryConstants {
     public static final String COUNT_PAUTAS_AFTER_DATE = 
         "SELECT COUNT(p) FROM Pauta p WHERE p.criadaEm >= :dataInicio";
     
+    public static final String SEARCH_PAUTAS_BY_TITULO_OR_DESCRICAO = 
+        "SELECT p FROM Pauta p WHERE LOWER(p.titulo) LIKE LOWER(CONCAT('%', :#{escape(#texto)}, '%')) ESCAPE :#{escapeCharacter()} " +
+        "OR LOWER(p.descricao) LIKE LOWER(CONCAT('%', :#{escape(#texto)}, '%')) ESCAPE :#{escapeCharacter()}";
+    
+    public static final String COUNT_SEARCH_PAUTAS_BY_TITULO_OR_DESCRICAO = 
+        "SELECT COUNT(p) FROM Pauta p WHERE LOWER(p.titulo) LIKE LOWER(CONCAT('%', :#{escape(#texto)}, '%')) ESCAPE :#{escapeCharacter()} " +
+        "OR LOWER(p.descricao) LIKE LOWER(CONCAT('%', :#{escape(#texto)}, '%')) ESCAPE :#{escapeCharacter()}";
+    
+    public static final String FIND_PAUTAS_APOS_ID = 
+        "SELECT p FROM Pauta p WHERE p.idPauta > :idPauta ORDER BY p.idPauta";
+    
+    // PostgreSQL: coluna gerada pautas.busca (tsvector), criada por PautaBuscaPostgres
+    public static final String SEARCH_PAUTAS_TEXTO_COMPLETO_POSTGRES = 
+        "SELECT p.id_pauta, p.titulo, ts_rank(p.busca, consulta) AS relevancia " +
+        "FROM pautas p CROSS JOIN to_tsquery('portuguese', :consulta) AS consulta " +
+        "WHERE p.busca @@ consulta ORDER BY relevancia DESC, p.titulo LIMIT :limite";
+    
     // Membro
     public static final String FIND_MEMBRO_BY_CPF = 
         "SELECT m FROM Membro m WHERE m.cpf.currentCpf = :cpf";
@@ -26,6 +43,9 @@ public final class QueryConstants {
     public static final String EXISTS_MEMBRO_BY_CPF = 
         "SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END FROM Membro m WHERE m.cpf.currentCpf = :cpf";
     
+    public static final String FIND_MEMBROS_BY_CPFS = 
+        "SELECT m FROM Membro m WHERE m.cpf.currentCpf IN :cpfs";
+    
     public static final String COUNT_TOTAL_MEMBROS = 
         "SELECT COUNT(m) FROM Membro m";
     
@@ -42,22 +62,47 @@ public final class QueryConstants {
     public static final String FIND_ASSEMBLEIAS_ABERTAS = 
         "SELECT a FROM Assembleia a WHERE a.status = 'Aberta' ORDER BY a.iniciadaEm ASC";
     
+    public static final String FIND_IDS_ASSEMBLEIAS_ABERTAS_BY_IDS = 
+        "SELECT a.idAssembleia FROM Assembleia a WHERE a.idAssembleia IN :ids AND a.status = 'Aberta'";
+    
     public static final String FIND_ASSEMBLEIAS_FINALIZADAS_NO_PERIODO = 
         "SELECT a FROM Assembleia a WHERE a.finalizadaEm IS NOT NULL AND a.finalizadaEm >= :dataInicio AND a.finalizadaEm <= :dataFim";
     
     public static final String EXISTS_ASSEMBLEIA_ABERTA_BY_PAUTA = 
         "SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM Assembleia a WHERE a.pauta = :pauta AND a.status = 'Aberta'";
     
+    public static final String FIND_ASSEMBLEIAS_COM_PRAZO_PENDENTE = 
+        "SELECT a FROM Assembleia a WHERE (a.status = 'Agendada' AND a.abreEm IS NOT NULL) " +
+        "OR (a.status <> 'Encerrada' AND a.encerraEm IS NOT NULL)";
+    
+    public static final String FIND_ASSEMBLEIAS_ENCERRADAS_SEM_RESULTADO_FINAL = 
+        "SELECT a FROM Assembleia a WHERE a.status = 'Encerrada' " +
+        "AND NOT EXISTS (SELECT f FROM ResultadoFinal f WHERE f.assembleiaId = a.idAssembleia)";
+    
+    public static final String OPEN_ASSEMBLEIAS_AGENDADAS_VENCIDAS = 
+        "UPDATE Assembleia a SET a.status = 'Aberta' WHERE a.status = 'Agendada' AND a.abreEm <= :agora";
+    
+    public static final String FIND_IDS_ASSEMBLEIAS_VENCIDAS = 
+        "SELECT a.idAssembleia FROM Assembleia a WHERE a.status <> 'Encerrada' AND a.encerraEm <= :agora";
+    
+    public static final String CLOSE_ASSEMBLEIAS_VENCIDAS = 
+        "UPDATE Assembleia a SET a.status = 'Encerrada', a.finalizadaEm = a.encerraEm " +
+        "WHERE a.status = 'Aberta' AND a.encerraEm <= :agora";
+    
     // Voto
     public static final String COUNT_VOTOS_BY_ASSEMBLEIA = 
-        "SELECT COUNT(v) FROM Voto v WHERE v.assembleia = :assembleia";
+        "SELECT COALESCE(SUM(t.total), 0L) FROM VotoTotal t WHERE t.assembleiaId = :#{#assembleia.idAssembleia}";
     
     public static final String COUNT_VOTOS_BY_ASSEMBLEIA_AND_DECISAO = 
-        "SELECT COUNT(v) FROM Voto v WHERE v.assembleia = :assembleia AND v.decisao = :decisao";
+        "SELECT COALESCE(SUM(t.total), 0L) FROM VotoTotal t WHERE t.assembleiaId = :#{#assembleia.idAssembleia} AND t.decisao = :decisao";
     
     public static final String FIND_VOTOS_BY_ASSEMBLEIA_ORDERED = 
         "SELECT v FROM Voto v WHERE v.assembleia = :assembleia ORDER BY v.registradoEm ASC";
     
+    public static final String STREAM_VOTOS_BY_ASSEMBLEIA = 
+        "SELECT new br.com.dbserver.api.dto.VotoDTO(v.idVoto, v.assembleia.idAssembleia, v.membro.idMembro, v.decisao, v.registradoEm) " +
+        "FROM Voto v WHERE v.assembleia.idAssembleia = :assembleiaId ORDER BY v.registradoEm ASC, v.idVoto ASC";
+    
     public static final String FIND_VOTOS_BY_PERIODO_REGISTRO = 
         "SELECT v FROM Voto v WHERE v.registradoEm >= :dataInicio AND v.registradoEm <= :dataFim";
     
@@ -65,11 +110,45 @@ public final class QueryConstants {
         "SELECT CASE WHEN COUNT(v) > 0 THEN true ELSE false END FROM Voto v WHERE v.assembleia = :assembleia AND v.membro = :membro";
     
     public static final String COUNT_VOTOS_BY_DECISAO_FOR_ASSEMBLEIA = 
-        "SELECT v.decisao, COUNT(v) FROM Voto v WHERE v.assembleia = :assembleia GROUP BY v.decisao";
+        "SELECT t.decisao, SUM(t.total) FROM VotoTotal t WHERE t.assembleiaId = :#{#assembleia.idAssembleia} GROUP BY t.decisao HAVING SUM(t.total) > 0";
+    
+    public static final String RECOUNT_VOTOS_BY_DECISAO_FOR_ASSEMBLEIA = 
+        "SELECT v.decisao, COUNT(v) FROM Voto v WHERE v.assembleia.idAssembleia = :assembleiaId GROUP BY v.decisao";
+    
+    public static final String FIND_RESULTADOS_SELADOS_BY_PAUTA = 
+        "SELECT new br.com.dbserver.api.dto.ResultadoAssembleiaDTO(a.idAssembleia, a.status, a.iniciadaEm, a.finalizadaEm, " +
+        "COALESCE(f.concordo, 0L), COALESCE(f.discordo, 0L), f.hash, f.divergente) " +
+        "FROM Assembleia a LEFT JOIN ResultadoFinal f ON f.assembleiaId = a.idAssembleia " +
+        "WHERE a.pauta.idPauta = :pautaId ORDER BY a.iniciadaEm ASC";
+    
+    public static final String FIND_RESULTADO_BY_ASSEMBLEIA = 
+        "SELECT new br.com.dbserver.api.dto.ResultadoAssembleiaDTO(a.idAssembleia, a.status, a.iniciadaEm, a.finalizadaEm, " +
+        "COALESCE(f.concordo, SUM(CASE WHEN t.decisao = 'Concordo' THEN t.total ELSE 0L END), 0L), " +
+        "COALESCE(f.discordo, SUM(CASE WHEN t.decisao = 'Discordo' THEN t.total ELSE 0L END), 0L), f.hash, f.divergente) " +
+        "FROM Assembleia a LEFT JOIN ResultadoFinal f ON f.assembleiaId = a.idAssembleia " +
+        "LEFT JOIN VotoTotal t ON t.assembleiaId = a.idAssembleia AND f.assembleiaId IS NULL " +
+        "WHERE a.idAssembleia = :assembleiaId " +
+        "GROUP BY a.idAssembleia, a.status, a.iniciadaEm, a.finalizadaEm, f.concordo, f.discordo, f.hash, f.divergente";
     
     public static final String COUNT_VOTOS_BY_MEMBRO = 
         "SELECT COUNT(v) FROM Voto v WHERE v.membro = :membro";
     
+    public static final String FIND_MEMBRO_IDS_BY_ASSEMBLEIA_ID = 
+        "SELECT v.membro.idMembro FROM Voto v WHERE v.assembleia.idAssembleia = :assembleiaId";
+    
+    public static final String FIND_VOTOS_EXISTENTES_BY_ASSEMBLEIAS_AND_MEMBROS = 
+        "SELECT v.assembleia.idAssembleia, v.membro.idMembro FROM Voto v WHERE v.assembleia.idAssembleia IN :assembleiaIds AND v.membro.idMembro IN :membroIds";
+    
+    public static final String INSERT_VOTO_IF_ASSEMBLEIA_ABERTA = 
+        "INSERT INTO Voto (idVoto, assembleia, membro, decisao, registradoEm) " +
+        "SELECT :idVoto, a, m, :decisao, :registradoEm FROM Assembleia a, Membro m " +
+        "WHERE a.idAssembleia = :assembleiaId AND m.idMembro = :membroId AND a.status = 'Aberta'";
+    
+    // Totais de votos
+    public static final String INCREMENT_VOTO_TOTAL = 
+        "INSERT INTO VotoTotal (assembleiaId, decisao, slot, total) VALUES (:assembleiaId, :decisao, :slot, :quantidade) " +
+        "ON CONFLICT (assembleiaId, decisao, slot) DO UPDATE SET total = total + excluded.total";
+    
     private QueryConstants() {
         throw new UnsupportedOperationException("Classe de constantes não pode ser instanciada");
     }
@@ -4,13 +4,16 @@ import br.com.dbserver.api.domain.exceptions.AssembleiaClosedException;
 import br.com.dbserver.api.domain.exceptions.InvalidStatusTransitionException;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Persistable;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
 @Entity
-@Table(name = "assembleias")
-public class Assembleia {
+@Table(name = "assembleias", indexes = {
+    @Index(name = "assembleias_iniciada_em_idx", columnList = "iniciada_em, id_assembleia")
+})
+public class Assembleia implements Persistable<UUID> {
     @Id
     @Column(name = "id_assembleia")
     private UUID idAssembleia;
@@ -25,6 +28,12 @@ public class Assembleia {
     private OffsetDateTime iniciadaEm;
     @Column(name = "finalizada_em")
     private OffsetDateTime finalizadaEm;
+    @Column(name = "abre_em")
+    private OffsetDateTime abreEm;
+    @Column(name = "encerra_em")
+    private OffsetDateTime encerraEm;
+    @Transient
+    private boolean novo = true;
 
     public Assembleia() {
     }
@@ -44,12 +53,71 @@ public class Assembleia {
         this.iniciadaEm = OffsetDateTime.now();
     }
 
+    /**
+     * Cria uma assembleia com abertura e/ou encerramento automáticos. Se a abertura estiver no
+     * futuro, a assembleia é criada como agendada e {@code iniciadaEm} guarda o horário previsto
+     * até a abertura; caso contrário, é aberta imediatamente.
+     *
+     * @param pauta pauta a ser votada
+     * @param abreEm horário de abertura automática, ou {@code null} para abrir imediatamente
+     * @param encerraEm horário de encerramento automático, ou {@code null} para encerramento manual
+     */
+    public Assembleia(Pauta pauta, OffsetDateTime abreEm, OffsetDateTime encerraEm) {
+        this(pauta);
+        if (abreEm != null && abreEm.isAfter(this.iniciadaEm)) {
+            this.status = StatusAssembleia.Agendada;
+            this.iniciadaEm = abreEm;
+        }
+        if (encerraEm != null && !encerraEm.isAfter(this.iniciadaEm)) {
+            throw new IllegalArgumentException("Data de encerramento deve ser posterior à data de abertura");
+        }
+        this.abreEm = abreEm;
+        this.encerraEm = encerraEm;
+    }
+
+    public void open() {
+        if (this.status != StatusAssembleia.Agendada) {
+            throw new InvalidStatusTransitionException("Apenas assembleias agendadas podem ser abertas");
+        }
+        this.status = StatusAssembleia.Aberta;
+        this.iniciadaEm = OffsetDateTime.now();
+    }
+
     public void close() {
+        if (this.status == StatusAssembleia.Agendada) {
+            throw new InvalidStatusTransitionException("Assembleias agendadas não podem ser encerradas antes da abertura");
+        }
         isValidStatusTransition(StatusAssembleia.Encerrada);
         this.status = StatusAssembleia.Encerrada;
         this.finalizadaEm = OffsetDateTime.now();
     }
 
+    /**
+     * Altera os horários de abertura e/ou de encerramento automáticos. Horários nulos são mantidos.
+     *
+     * A abertura só pode ser reagendada enquanto a assembleia estiver agendada, e o encerramento
+     * deve permanecer posterior à abertura.
+     *
+     * @param abreEm novo horário de abertura automática, ou {@code null} para manter o atual
+     * @param encerraEm novo horário de encerramento automático, ou {@code null} para manter o atual
+     */
+    public void reagendar(OffsetDateTime abreEm, OffsetDateTime encerraEm) {
+        validateChangeAllowed();
+        if (abreEm != null && this.status != StatusAssembleia.Agendada) {
+            throw new InvalidStatusTransitionException("Apenas assembleias agendadas podem ter a abertura reagendada");
+        }
+        OffsetDateTime abertura = abreEm != null ? abreEm : this.iniciadaEm;
+        OffsetDateTime encerramento = encerraEm != null ? encerraEm : this.encerraEm;
+        if (encerramento != null && !encerramento.isAfter(abertura)) {
+            throw new IllegalArgumentException("Data de encerramento deve ser posterior à data de abertura");
+        }
+        if (abreEm != null) {
+            this.abreEm = abreEm;
+            this.iniciadaEm = abreEm;
+        }
+        this.encerraEm = encerramento;
+    }
+
     public boolean isOpen() {
         return StatusAssembleia.Aberta.equals(this.status);
     }
@@ -58,6 +126,22 @@ public class Assembleia {
         return idAssembleia;
     }
 
+    @Override
+    public UUID getId() {
+        return idAssembleia;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.novo = false;
+    }
+
     public Pauta getPauta() {
         return pauta;
     }
@@ -125,6 +209,18 @@ public class Assembleia {
         this.finalizadaEm = null;
     }
 
+    public OffsetDateTime getAbreEm() {
+        return abreEm;
+    }
+
+    public OffsetDateTime getEncerraEm() {
+        return encerraEm;
+    }
+
+    public boolean isAgendada() {
+        return StatusAssembleia.Agendada.equals(this.status);
+    }
+
     public boolean isEncerrada() {
         return StatusAssembleia.Encerrada.equals(this.status);
     }
@@ -150,6 +246,8 @@ public class Assembleia {
                 ", status=" + status +
                 ", iniciadaEm=" + iniciadaEm +
                 ", finalizadaEm=" + finalizadaEm +
+                ", abreEm=" + abreEm +
+                ", encerraEm=" + encerraEm +
                 '}';
     }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package br.com.dbserver.api.domain.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Persistable;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -12,7 +13,7 @@ import br.com.dbserver.api.domain.utils.type.Cpf;
 @Table(name = "membros", uniqueConstraints = {
     @UniqueConstraint(columnNames = "cpf")
 })
-public class Membro {
+public class Membro implements Persistable<UUID> {
     @Id
     @Column(name = "id_membro")
     private UUID idMembro;
@@ -23,6 +24,8 @@ public class Membro {
     @Embedded
     @AttributeOverride(name = "currentCpf", column = @Column(name = "cpf", nullable = false, length = 11))
     private Cpf cpf;
+    @Transient
+    private boolean novo = true;
 
     public Membro() {
     }
@@ -45,6 +48,22 @@ public class Membro {
         return idMembro;
     }
 
+    @Override
+    public UUID getId() {
+        return idMembro;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.novo = false;
+    }
+
 
     public String getNome() {
         return nome;
@@ -3,13 +3,16 @@ package br.com.dbserver.api.domain.entities;
 import br.com.dbserver.api.domain.utils.constants.ValidationMessages;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.data.domain.Persistable;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
 @Entity
-@Table(name = "pautas")
-public class Pauta {
+@Table(name = "pautas", indexes = {
+    @Index(name = "pautas_criada_em_idx", columnList = "criada_em, id_pauta")
+})
+public class Pauta implements Persistable<UUID> {
     @Id
     @Column(name = "id_pauta")
     private UUID idPauta;
@@ -21,6 +24,8 @@ public class Pauta {
     private String descricao;
     @Column(name = "criada_em", nullable = false)
     private OffsetDateTime criadaEm;
+    @Transient
+    private boolean novo = true;
 
     public Pauta() {
     }
@@ -43,6 +48,22 @@ public class Pauta {
         return idPauta;
     }
 
+    @Override
+    public UUID getId() {
+        return idPauta;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.novo = false;
+    }
+
     public String getTitulo() {
         return titulo;
     }
@@ -0,0 +1,138 @@
+package br.com.dbserver.api.domain.entities;
+
+import jakarta.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Resultado final de uma assembleia, apurado e selado no encerramento.
+ *
+ * O hash (SHA-256) cobre a assembleia e os totais apurados, permitindo verificar que o
+ * resultado não foi alterado após a apuração. Um resultado divergente foi selado a partir da
+ * recontagem da tabela {@code votos}, pois os totais de {@code votos_totais} não conferiam.
+ */
+@Entity
+@Table(name = "resultados_finais")
+public class ResultadoFinal {
+    @Id
+    @Column(name = "assembleia_id")
+    private UUID assembleiaId;
+    @Column(name = "concordo", nullable = false)
+    private long concordo;
+    @Column(name = "discordo", nullable = false)
+    private long discordo;
+    @Column(name = "total_votos", nullable = false)
+    private long totalVotos;
+    @Column(name = "hash", nullable = false, length = 64)
+    private String hash;
+    @Column(name = "apurado_em", nullable = false)
+    private OffsetDateTime apuradoEm;
+    @Column(name = "divergente", nullable = false)
+    private boolean divergente;
+
+    public ResultadoFinal() {
+    }
+
+    public ResultadoFinal(UUID assembleiaId, long concordo, long discordo) {
+        this(assembleiaId, concordo, discordo, false);
+    }
+
+    public ResultadoFinal(UUID assembleiaId, long concordo, long discordo, boolean divergente) {
+        this.assembleiaId = assembleiaId;
+        apurar(concordo, discordo, divergente);
+    }
+
+    /**
+     * Registra uma nova apuração dos totais, recalculando o hash.
+     *
+     * @param concordo quantidade de votos 'Concordo'
+     * @param discordo quantidade de votos 'Discordo'
+     * @param divergente indica se os totais mantidos em {@code votos_totais} divergiram da recontagem
+     */
+    public void apurar(long concordo, long discordo, boolean divergente) {
+        this.concordo = concordo;
+        this.discordo = discordo;
+        this.totalVotos = concordo + discordo;
+        this.divergente = divergente;
+        this.hash = calcularHash();
+        this.apuradoEm = OffsetDateTime.now();
+    }
+
+    /**
+     * Verifica se o hash armazenado corresponde aos totais do resultado.
+     *
+     * @return {@code true} se o resultado não foi alterado após a apuração
+     */
+    public boolean isIntegro() {
+        return calcularHash().equals(hash);
+    }
+
+    private String calcularHash() {
+        String conteudo = assembleiaId + ";Concordo=" + concordo + ";Discordo=" + discordo + ";total=" + totalVotos;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
+    public UUID getAssembleiaId() {
+        return assembleiaId;
+    }
+
+    public long getConcordo() {
+        return concordo;
+    }
+
+    public long getDiscordo() {
+        return discordo;
+    }
+
+    public long getTotalVotos() {
+        return totalVotos;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public OffsetDateTime getApuradoEm() {
+        return apuradoEm;
+    }
+
+    public boolean isDivergente() {
+        return divergente;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ResultadoFinal that = (ResultadoFinal) o;
+        return Objects.equals(assembleiaId, that.assembleiaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(assembleiaId);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoFinal{" +
+                "assembleiaId=" + assembleiaId +
+                ", concordo=" + concordo +
+                ", discordo=" + discordo +
+                ", totalVotos=" + totalVotos +
+                ", hash='" + hash + '\'' +
+                ", apuradoEm=" + apuradoEm +
+                ", divergente=" + divergente +
+                '}';
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.dbserver.api.domain.entities;
 
 public enum StatusAssembleia {
+    Agendada,
     Aberta,
     Encerrada
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import br.com.dbserver.api.domain.exceptions.AssembleiaClosedException;
 import br.com.dbserver.api.domain.exceptions.VotoAlreadyRegisteredException;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Persistable;
 import java.time.OffsetDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -11,8 +12,10 @@ import java.util.UUID;
 @Entity
 @Table(name = "votos", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"assembleia_id", "membro_id"})
+}, indexes = {
+    @Index(name = "votos_assembleia_registrado_em_idx", columnList = "assembleia_id, registrado_em")
 })
-public class Voto {
+public class Voto implements Persistable<UUID> {
     @Id
     @Column(name = "id_voto")
     private UUID idVoto;
@@ -30,6 +33,8 @@ public class Voto {
     private Decisao decisao;
     @Column(name = "registrado_em", nullable = false)
     private OffsetDateTime registradoEm;
+    @Transient
+    private boolean novo = true;
 
     public Voto() {
     }
@@ -57,6 +62,27 @@ public class Voto {
         return idVoto;
     }
 
+    /**
+     * O identificador é atribuído pela aplicação, então o Spring Data não consegue
+     * distinguir um voto novo de um existente pelo ID. Sem isso, cada {@code save}
+     * executaria um {@code merge} (SELECT antes do INSERT), impedindo a inserção em lote.
+     */
+    @Override
+    public UUID getId() {
+        return idVoto;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.novo = false;
+    }
+
     public Assembleia getAssembleia() {
         return assembleia;
     }
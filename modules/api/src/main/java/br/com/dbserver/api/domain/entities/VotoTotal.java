@@ -0,0 +1,120 @@
+package br.com.dbserver.api.domain.entities;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Parcela do total de votos de uma decisão em uma assembleia, mantida na mesma transação
+ * em que cada {@link Voto} é inserido. O total é a soma das parcelas de todos os slots.
+ */
+@Entity
+@Table(name = "votos_totais")
+@IdClass(VotoTotal.Chave.class)
+public class VotoTotal {
+    @Id
+    @Column(name = "assembleia_id")
+    private UUID assembleiaId;
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "decisao", length = 10)
+    private Decisao decisao;
+    @Id
+    @Column(name = "slot")
+    private int slot;
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    public VotoTotal() {
+    }
+
+    public VotoTotal(UUID assembleiaId, Decisao decisao, int slot, long total) {
+        this.assembleiaId = assembleiaId;
+        this.decisao = decisao;
+        this.slot = slot;
+        this.total = total;
+    }
+
+    public UUID getAssembleiaId() {
+        return assembleiaId;
+    }
+
+    public Decisao getDecisao() {
+        return decisao;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VotoTotal that = (VotoTotal) o;
+        return Objects.equals(assembleiaId, that.assembleiaId) && decisao == that.decisao && slot == that.slot;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(assembleiaId, decisao, slot);
+    }
+
+    @Override
+    public String toString() {
+        return "VotoTotal{" +
+                "assembleiaId=" + assembleiaId +
+                ", decisao=" + decisao +
+                ", slot=" + slot +
+                ", total=" + total +
+                '}';
+    }
+
+    /**
+     * Chave composta da parcela: assembleia, decisão e slot.
+     */
+    public static class Chave implements Serializable {
+        private UUID assembleiaId;
+        private Decisao decisao;
+        private int slot;
+
+        public Chave() {
+        }
+
+        public Chave(UUID assembleiaId, Decisao decisao, int slot) {
+            this.assembleiaId = assembleiaId;
+            this.decisao = decisao;
+            this.slot = slot;
+        }
+
+        public UUID getAssembleiaId() {
+            return assembleiaId;
+        }
+
+        public Decisao getDecisao() {
+            return decisao;
+        }
+
+        public int getSlot() {
+            return slot;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Chave chave = (Chave) o;
+            return Objects.equals(assembleiaId, chave.assembleiaId) && decisao == chave.decisao && slot == chave.slot;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(assembleiaId, decisao, slot);
+        }
+    }
+}
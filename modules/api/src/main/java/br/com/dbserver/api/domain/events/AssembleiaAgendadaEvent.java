@@ -0,0 +1,34 @@
+package br.com.dbserver.api.domain.events;
+
+import br.com.dbserver.api.domain.entities.Assembleia;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Evento publicado na transação em que uma {@link Assembleia} com abertura e/ou encerramento
+ * automáticos é criada ou reagendada.
+ *
+ * Os ouvintes devem utilizar {@code @TransactionalEventListener} para agendar os prazos somente
+ * após o commit.
+ *
+ * @param assembleiaId identificador da assembleia
+ * @param abreEm horário de abertura automática, ou {@code null} se a assembleia já estiver aberta
+ * @param encerraEm horário de encerramento automático, ou {@code null} se o encerramento for manual
+ */
+public record AssembleiaAgendadaEvent(UUID assembleiaId, OffsetDateTime abreEm, OffsetDateTime encerraEm) {
+
+    /**
+     * Cria o evento a partir da assembleia gravada.
+     *
+     * @param assembleia assembleia gravada
+     * @return evento correspondente
+     */
+    public static AssembleiaAgendadaEvent of(Assembleia assembleia) {
+        return new AssembleiaAgendadaEvent(
+            assembleia.getIdAssembleia(),
+            assembleia.isAgendada() ? assembleia.getAbreEm() : null,
+            assembleia.getEncerraEm()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.dbserver.api.domain.events;
+
+import br.com.dbserver.api.domain.entities.Assembleia;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado na transação em que uma {@link Assembleia} é excluída.
+ *
+ * Os ouvintes devem utilizar {@code @TransactionalEventListener} para descartar as estruturas em
+ * memória da assembleia somente após o commit, para que uma exclusão revertida não as descarte.
+ *
+ * @param assembleiaId identificador da assembleia excluída
+ */
+public record AssembleiaExcluidaEvent(UUID assembleiaId) {
+}
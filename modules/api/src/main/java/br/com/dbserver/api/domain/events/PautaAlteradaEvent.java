@@ -0,0 +1,28 @@
+package br.com.dbserver.api.domain.events;
+
+import br.com.dbserver.api.domain.entities.Pauta;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado na transação em que uma {@link Pauta} é criada ou alterada.
+ *
+ * Os ouvintes devem utilizar {@code @TransactionalEventListener} para atualizar as estruturas em
+ * memória somente após o commit, para que uma alteração revertida não seja refletida nelas.
+ *
+ * @param idPauta identificador da pauta
+ * @param titulo título gravado
+ * @param descricao descrição gravada
+ */
+public record PautaAlteradaEvent(UUID idPauta, String titulo, String descricao) {
+
+    /**
+     * Cria o evento a partir da pauta gravada.
+     *
+     * @param pauta pauta gravada
+     * @return evento correspondente
+     */
+    public static PautaAlteradaEvent of(Pauta pauta) {
+        return new PautaAlteradaEvent(pauta.getIdPauta(), pauta.getTitulo(), pauta.getDescricao());
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.dbserver.api.domain.events;
+
+import br.com.dbserver.api.domain.entities.Pauta;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado na transação em que uma {@link Pauta} é excluída.
+ *
+ * Os ouvintes devem utilizar {@code @TransactionalEventListener} para descartar as estruturas em
+ * memória da pauta somente após o commit, para que uma exclusão revertida não as descarte.
+ *
+ * @param idPauta identificador da pauta excluída
+ */
+public record PautaExcluidaEvent(UUID idPauta) {
+}
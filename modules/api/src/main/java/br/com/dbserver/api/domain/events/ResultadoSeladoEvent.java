@@ -0,0 +1,29 @@
+package br.com.dbserver.api.domain.events;
+
+import br.com.dbserver.api.domain.entities.ResultadoFinal;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado na transação em que o {@link ResultadoFinal} de uma assembleia encerrada é
+ * selado.
+ *
+ * Os ouvintes devem utilizar {@code @TransactionalEventListener} para reagir somente após o
+ * commit, quando o resultado selado já é o definitivo da assembleia.
+ *
+ * @param assembleiaId identificador da assembleia
+ * @param concordo quantidade de votos 'Concordo' selada
+ * @param discordo quantidade de votos 'Discordo' selada
+ */
+public record ResultadoSeladoEvent(UUID assembleiaId, long concordo, long discordo) {
+
+    /**
+     * Cria o evento a partir do resultado selado.
+     *
+     * @param resultado resultado final selado
+     * @return evento correspondente
+     */
+    public static ResultadoSeladoEvent of(ResultadoFinal resultado) {
+        return new ResultadoSeladoEvent(resultado.getAssembleiaId(), resultado.getConcordo(), resultado.getDiscordo());
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.dbserver.api.domain.events;
+
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Voto;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado na transação em que um {@link Voto} é gravado.
+ *
+ * Os ouvintes devem utilizar {@code @TransactionalEventListener} para reagir somente
+ * após o commit, garantindo que estruturas em memória reflitam apenas votos efetivamente gravados.
+ *
+ * @param idVoto identificador do voto
+ * @param assembleiaId identificador da assembleia em que o voto foi registrado
+ * @param membroId identificador do membro que votou
+ * @param decisao decisão registrada
+ */
+public record VotoRegistradoEvent(UUID idVoto, UUID assembleiaId, UUID membroId, Decisao decisao) {
+
+    /**
+     * Cria o evento a partir do voto gravado.
+     *
+     * @param voto voto gravado
+     * @return evento correspondente
+     */
+    public static VotoRegistradoEvent of(Voto voto) {
+        return new VotoRegistradoEvent(
+            voto.getIdVoto(),
+            voto.getAssembleia().getIdAssembleia(),
+            voto.getMembro().getIdMembro(),
+            voto.getDecisao()
+        );
+    }
+}
@@ -4,12 +4,19 @@ import br.com.dbserver.api.domain.constants.QueryConstants;
 import br.com.dbserver.api.domain.entities.Assembleia;
 import br.com.dbserver.api.domain.entities.Pauta;
 import br.com.dbserver.api.domain.entities.StatusAssembleia;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,11 +25,24 @@ import java.util.UUID;
  * Repositório responsável pelas operações de persistência e consultas da entidade {@link Assembleia}.
  * 
  * Disponibiliza métodos para busca e contagem de assembleias com base em critérios
- * como status, período, pauta e estado de votação.
+ * como status, período, pauta e estado de votação. Filtros combinados e paginados são
+ * expressos com as especificações de {@code AssembleiaSpecifications}.
  * 
  */
 @Repository
-public interface AssembleiaRepository extends JpaRepository<Assembleia, UUID> {
+public interface AssembleiaRepository extends JpaRepository<Assembleia, UUID>, JpaSpecificationExecutor<Assembleia> {
+    
+    /**
+     * Retorna uma página das assembleias que atendem à especificação, carregando a pauta de
+     * cada assembleia na mesma consulta.
+     *
+     * @param spec especificação com os filtros da consulta
+     * @param pageable configurações de paginação e ordenação
+     * @return página contendo as assembleias encontradas
+     */
+    @Override
+    @EntityGraph(attributePaths = "pauta")
+    Page<Assembleia> findAll(Specification<Assembleia> spec, Pageable pageable);
     
     /**
      * Retorna todas as assembleias com o {@link StatusAssembleia} especificado.
@@ -85,6 +105,19 @@ public interface AssembleiaRepository extends JpaRepository<Assembleia, UUID> {
     @Query(QueryConstants.FIND_ASSEMBLEIAS_ABERTAS)
     List<Assembleia> findAssembleiasAbertas();
     
+    /**
+     * Retorna, dentre as assembleias informadas, os identificadores das que estão abertas.
+     *
+     * Utilizado na gravação de um grupo de votos validados anteriormente, como conferência única
+     * do status de todas as assembleias do grupo, sem carregar nem bloquear as assembleias.
+     *
+     * @param ids identificadores das assembleias
+     * @return identificadores das assembleias abertas dentre as informadas
+     * @see br.com.dbserver.api.service.VotoGravacoesEmAndamento
+     */
+    @Query(QueryConstants.FIND_IDS_ASSEMBLEIAS_ABERTAS_BY_IDS)
+    List<UUID> findIdsAbertas(@Param("ids") Collection<UUID> ids);
+    
     /**
      * Retorna assembleias finalizadas dentro do período entre {@code dataInicio} e {@code dataFim}.
      *
@@ -103,4 +136,52 @@ public interface AssembleiaRepository extends JpaRepository<Assembleia, UUID> {
      */
     @Query(QueryConstants.EXISTS_ASSEMBLEIA_ABERTA_BY_PAUTA)
     boolean existsAssembleiaAbertaByPauta(@Param("pauta") Pauta pauta);
-}
\ No newline at end of file
+
+    /**
+     * Retorna as assembleias com abertura ou encerramento automáticos ainda não executados.
+     *
+     * @return lista de assembleias agendadas ou abertas com prazo definido
+     */
+    @Query(QueryConstants.FIND_ASSEMBLEIAS_COM_PRAZO_PENDENTE)
+    List<Assembleia> findComPrazoPendente();
+
+    /**
+     * Retorna as assembleias encerradas que ainda não possuem resultado final selado, seja por
+     * encerramento automático, seja por uma queda entre o encerramento e a selagem.
+     *
+     * @return lista de assembleias encerradas sem resultado final
+     */
+    @Query(QueryConstants.FIND_ASSEMBLEIAS_ENCERRADAS_SEM_RESULTADO_FINAL)
+    List<Assembleia> findEncerradasSemResultadoFinal();
+
+    /**
+     * Abre, em uma única atualização, as assembleias agendadas cujo horário de abertura já passou.
+     *
+     * @param agora data/hora de referência
+     * @return quantidade de assembleias abertas
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(QueryConstants.OPEN_ASSEMBLEIAS_AGENDADAS_VENCIDAS)
+    int openAgendadasVencidas(@Param("agora") OffsetDateTime agora);
+
+    /**
+     * Retorna os identificadores das assembleias ainda não encerradas cujo horário de
+     * encerramento já passou.
+     *
+     * @param agora data/hora de referência
+     * @return identificadores das assembleias a encerrar
+     */
+    @Query(QueryConstants.FIND_IDS_ASSEMBLEIAS_VENCIDAS)
+    List<UUID> findIdsVencidas(@Param("agora") OffsetDateTime agora);
+
+    /**
+     * Encerra, em uma única atualização, as assembleias abertas cujo horário de encerramento já
+     * passou, registrando o horário previsto como data de finalização.
+     *
+     * @param agora data/hora de referência
+     * @return quantidade de assembleias encerradas
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(QueryConstants.CLOSE_ASSEMBLEIAS_VENCIDAS)
+    int closeVencidas(@Param("agora") OffsetDateTime agora);
+}
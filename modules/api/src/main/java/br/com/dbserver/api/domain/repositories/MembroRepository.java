@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,6 +31,15 @@ public interface MembroRepository extends JpaRepository<Membro, UUID> {
     @Query(QueryConstants.FIND_MEMBRO_BY_CPF)
     Optional<Membro> findByCpf(@Param("cpf") String cpf);
     
+    /**
+     * Busca, em uma única consulta, todos os membros cujos CPFs estejam na coleção informada.
+     *
+     * @param cpfs números de CPF (sem formatação) utilizados para a busca
+     * @return lista de membros encontrados; CPFs sem cadastro são ignorados
+     */
+    @Query(QueryConstants.FIND_MEMBROS_BY_CPFS)
+    List<Membro> findByCpfIn(@Param("cpfs") Collection<String> cpfs);
+    
     /**
      * Retorna membros cujo nome contenha o texto informado, ignorando diferenças de maiúsculas/minúsculas.
      *
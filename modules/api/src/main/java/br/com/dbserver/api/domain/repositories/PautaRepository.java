@@ -2,7 +2,10 @@ package br.com.dbserver.api.domain.repositories;
 
 import br.com.dbserver.api.domain.constants.QueryConstants;
 import br.com.dbserver.api.domain.entities.Pauta;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,11 +19,12 @@ import java.util.UUID;
  * Repositório responsável pelas operações de persistência e consultas da entidade {@link Pauta}.
  * 
  * Disponibiliza métodos para buscas específicas por título, descrição, período de criação,
- * além de consultas para estatísticas relacionadas às pautas cadastradas.
+ * além de consultas para estatísticas relacionadas às pautas cadastradas. As listagens com
+ * filtros dinâmicos utilizam as especificações de {@code PautaSpecifications}.
  * 
  */
 @Repository
-public interface PautaRepository extends JpaRepository<Pauta, UUID> {
+public interface PautaRepository extends JpaRepository<Pauta, UUID>, JpaSpecificationExecutor<Pauta> {
     
     /**
      * Busca uma pauta pelo título exato, ignorando diferenças entre maiúsculas e minúsculas.
@@ -46,6 +50,48 @@ public interface PautaRepository extends JpaRepository<Pauta, UUID> {
      */
     List<Pauta> findByDescricaoContainingIgnoreCase(String descricao);
     
+    /**
+     * Busca, de forma paginada, pautas cujo título ou descrição contenha o texto informado,
+     * ignorando maiúsculas/minúsculas. Os caracteres curinga do texto ({@code %} e {@code _})
+     * são tratados literalmente.
+     *
+     * A ordenação e a paginação são aplicadas pelo banco, e o total de elementos é obtido por
+     * uma consulta de contagem separada.
+     *
+     * @param texto texto parcial para busca no título ou na descrição da pauta
+     * @param pageable configurações de paginação e ordenação
+     * @return página contendo as pautas que correspondem ao filtro
+     */
+    @Query(value = QueryConstants.SEARCH_PAUTAS_BY_TITULO_OR_DESCRICAO,
+           countQuery = QueryConstants.COUNT_SEARCH_PAUTAS_BY_TITULO_OR_DESCRICAO)
+    Page<Pauta> searchByTituloOrDescricao(@Param("texto") String texto, Pageable pageable);
+    
+    /**
+     * Busca pautas pela coluna {@code busca} ({@code tsvector} do título e da descrição), com o
+     * índice GIN, em ordem decrescente de relevância ({@code ts_rank}).
+     *
+     * Disponível apenas no PostgreSQL, após a criação da coluna pelo {@code PautaBuscaPostgres}.
+     *
+     * @param consulta expressão {@code tsquery} na configuração {@code portuguese}
+     * @param limite quantidade máxima de resultados
+     * @return lista de arrays contendo [idPauta, titulo, relevancia]
+     */
+    @Query(value = QueryConstants.SEARCH_PAUTAS_TEXTO_COMPLETO_POSTGRES, nativeQuery = true)
+    List<Object[]> searchTextoCompleto(@Param("consulta") String consulta, @Param("limite") int limite);
+    
+    /**
+     * Retorna um lote de pautas com identificador maior que o informado, em ordem de identificador.
+     *
+     * Utilizado para percorrer todas as pautas em lotes sem {@code OFFSET}: cada lote começa
+     * após o último identificador do lote anterior.
+     *
+     * @param idPauta identificador a partir do qual o lote começa (exclusivo)
+     * @param pageable tamanho do lote; o número da página deve ser zero
+     * @return lote de pautas ordenado por identificador
+     */
+    @Query(QueryConstants.FIND_PAUTAS_APOS_ID)
+    List<Pauta> findLoteAposId(@Param("idPauta") UUID idPauta, Pageable pageable);
+    
     /**
      * Retorna pautas criadas dentro do intervalo entre {@code dataInicio} e {@code dataFim}.
      *
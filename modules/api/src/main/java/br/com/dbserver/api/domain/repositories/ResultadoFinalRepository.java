@@ -0,0 +1,19 @@
+package br.com.dbserver.api.domain.repositories;
+
+import br.com.dbserver.api.domain.entities.ResultadoFinal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório responsável pelos resultados finais selados no encerramento das assembleias
+ * ({@link ResultadoFinal}).
+ *
+ * As consultas de resultado de assembleias encerradas leem os totais desta tabela, sem
+ * depender das tabelas {@code votos} e {@code votos_totais}.
+ *
+ */
+@Repository
+public interface ResultadoFinalRepository extends JpaRepository<ResultadoFinal, UUID> {
+}
@@ -5,15 +5,23 @@ import br.com.dbserver.api.domain.entities.Assembleia;
 import br.com.dbserver.api.domain.entities.Decisao;
 import br.com.dbserver.api.domain.entities.Membro;
 import br.com.dbserver.api.domain.entities.Voto;
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import br.com.dbserver.api.dto.VotoDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repositório responsável pelas operações de persistência e consultas da entidade {@link Voto}.
@@ -23,7 +31,24 @@ import java.util.UUID;
  * 
  */
 @Repository
-public interface VotoRepository extends JpaRepository<Voto, UUID> {
+public interface VotoRepository extends JpaRepository<Voto, UUID>, VotoRepositoryCustom {
+    
+    /*
+     * As operações de gravação são redeclaradas para resolver a ambiguidade entre JpaRepository
+     * e VotoRepositoryCustom; a implementação utilizada é a de VotoRepositoryCustomImpl.
+     */
+    
+    @Override
+    <S extends Voto> S save(S voto);
+    
+    @Override
+    <S extends Voto> S saveAndFlush(S voto);
+    
+    @Override
+    <S extends Voto> List<S> saveAll(Iterable<S> votos);
+    
+    @Override
+    <S extends Voto> List<S> saveAllAndFlush(Iterable<S> votos);
     
     /**
      * Busca o voto registrado por um membro em uma assembleia específica.
@@ -86,6 +111,21 @@ public interface VotoRepository extends JpaRepository<Voto, UUID> {
     @Query(QueryConstants.FIND_VOTOS_BY_ASSEMBLEIA_ORDERED)
     List<Voto> findByAssembleiaOrderByRegistradoEm(@Param("assembleia") Assembleia assembleia);
     
+    /**
+     * Percorre os votos de uma assembleia, ordenados pela data de registro, sem carregá-los
+     * todos em memória.
+     *
+     * Os votos são lidos por um cursor do banco, em blocos de 1000 linhas, e convertidos
+     * diretamente em DTOs, sem entidades gerenciadas no contexto de persistência. O stream
+     * deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return stream dos votos da assembleia em ordem de registro
+     */
+    @Query(QueryConstants.STREAM_VOTOS_BY_ASSEMBLEIA)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<VotoDTO> streamByAssembleiaId(@Param("assembleiaId") UUID assembleiaId);
+    
     /**
      * Busca votos registrados dentro de um intervalo entre {@code dataInicio} e {@code dataFim}.
      *
@@ -115,6 +155,37 @@ public interface VotoRepository extends JpaRepository<Voto, UUID> {
     @Query(QueryConstants.COUNT_VOTOS_BY_DECISAO_FOR_ASSEMBLEIA)
     List<Object[]> countVotosByDecisaoForAssembleia(@Param("assembleia") Assembleia assembleia);
     
+    /**
+     * Reconta os votos de uma assembleia por decisão diretamente na tabela {@code votos},
+     * sem utilizar os totais mantidos em {@code votos_totais}.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return lista de arrays contendo pares [Decisao, Long] representando a contagem por decisão
+     */
+    @Query(QueryConstants.RECOUNT_VOTOS_BY_DECISAO_FOR_ASSEMBLEIA)
+    List<Object[]> recountVotosByDecisaoForAssembleia(@Param("assembleiaId") UUID assembleiaId);
+    
+    /**
+     * Retorna as assembleias de uma pauta com os seus resultados finais selados, em uma única
+     * consulta, sem agregar votos. Assembleias sem resultado selado são retornadas com totais
+     * zerados e sem hash, para que os totais sejam obtidos dos contadores em memória.
+     *
+     * @param pautaId identificador da pauta
+     * @return resultado de cada assembleia da pauta, em ordem de início
+     */
+    @Query(QueryConstants.FIND_RESULTADOS_SELADOS_BY_PAUTA)
+    List<ResultadoAssembleiaDTO> findResultadosSeladosByPauta(@Param("pautaId") UUID pautaId);
+    
+    /**
+     * Retorna o resultado de uma assembleia: os totais selados, se a assembleia possuir resultado
+     * final, ou a soma dos totais de votos por decisão.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return {@link Optional} contendo o resultado da assembleia ou vazio se inexistente
+     */
+    @Query(QueryConstants.FIND_RESULTADO_BY_ASSEMBLEIA)
+    Optional<ResultadoAssembleiaDTO> findResultadoByAssembleia(@Param("assembleiaId") UUID assembleiaId);
+    
     /**
      * Conta o número total de votos realizados por um membro.
      *
@@ -123,4 +194,49 @@ public interface VotoRepository extends JpaRepository<Voto, UUID> {
      */
     @Query(QueryConstants.COUNT_VOTOS_BY_MEMBRO)
     Long countByMembro(@Param("membro") Membro membro);
-}
\ No newline at end of file
+    
+    /**
+     * Retorna os identificadores dos membros que já votaram em uma assembleia.
+     *
+     * Utilizado para construir o índice em memória de votos por assembleia.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return lista de identificadores dos membros que votaram na assembleia
+     */
+    @Query(QueryConstants.FIND_MEMBRO_IDS_BY_ASSEMBLEIA_ID)
+    List<UUID> findMembroIdsByAssembleiaId(@Param("assembleiaId") UUID assembleiaId);
+    
+    /**
+     * Retorna os pares [ID da assembleia, ID do membro] que já possuem voto registrado,
+     * restritos às assembleias e membros informados.
+     *
+     * Utilizado no registro em lote para detectar votos duplicados com uma única consulta.
+     *
+     * @param assembleiaIds identificadores das assembleias
+     * @param membroIds identificadores dos membros
+     * @return lista de arrays contendo pares [UUID, UUID] (assembleia, membro)
+     */
+    @Query(QueryConstants.FIND_VOTOS_EXISTENTES_BY_ASSEMBLEIAS_AND_MEMBROS)
+    List<Object[]> findVotosExistentes(@Param("assembleiaIds") Collection<UUID> assembleiaIds, @Param("membroIds") Collection<UUID> membroIds);
+    
+    /**
+     * Insere um voto em um único comando, somente se a assembleia estiver aberta e o membro existir.
+     *
+     * A duplicidade não é verificada previamente: um voto repetido viola a restrição única
+     * {@code (assembleia_id, membro_id)} e resulta em {@link org.springframework.dao.DataIntegrityViolationException}.
+     *
+     * @param idVoto identificador do novo voto
+     * @param assembleiaId identificador da assembleia
+     * @param membroId identificador do membro
+     * @param decisao decisão registrada
+     * @param registradoEm data e hora do registro
+     * @return 1 se o voto foi inserido; 0 se a assembleia não existir ou estiver encerrada, ou se o membro não existir
+     */
+    @Modifying
+    @Query(QueryConstants.INSERT_VOTO_IF_ASSEMBLEIA_ABERTA)
+    int insertIfAssembleiaAberta(@Param("idVoto") UUID idVoto,
+                                 @Param("assembleiaId") UUID assembleiaId,
+                                 @Param("membroId") UUID membroId,
+                                 @Param("decisao") Decisao decisao,
+                                 @Param("registradoEm") OffsetDateTime registradoEm);
+}
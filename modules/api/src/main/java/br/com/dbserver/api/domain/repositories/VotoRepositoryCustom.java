@@ -0,0 +1,65 @@
+package br.com.dbserver.api.domain.repositories;
+
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Voto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Operações de gravação do {@link VotoRepository} que mantêm os totais de votos
+ * ({@link br.com.dbserver.api.domain.entities.VotoTotal}) na mesma transação da inserção.
+ *
+ * Substituem as implementações padrão do Spring Data para que nenhum voto seja inserido
+ * sem atualizar os totais.
+ */
+public interface VotoRepositoryCustom {
+
+    /**
+     * Grava um voto, incrementando o total da sua decisão na assembleia quando o voto é novo.
+     *
+     * @param voto voto a ser gravado
+     * @param <S> tipo do voto
+     * @return voto gravado
+     */
+    <S extends Voto> S save(S voto);
+
+    /**
+     * Grava um voto e sincroniza imediatamente com o banco.
+     *
+     * @param voto voto a ser gravado
+     * @param <S> tipo do voto
+     * @return voto gravado
+     * @see #save(Voto)
+     */
+    <S extends Voto> S saveAndFlush(S voto);
+
+    /**
+     * Grava um conjunto de votos, incrementando os totais com um comando por assembleia e decisão.
+     *
+     * @param votos votos a serem gravados
+     * @param <S> tipo dos votos
+     * @return votos gravados
+     */
+    <S extends Voto> List<S> saveAll(Iterable<S> votos);
+
+    /**
+     * Grava um conjunto de votos e sincroniza imediatamente com o banco.
+     *
+     * @param votos votos a serem gravados
+     * @param <S> tipo dos votos
+     * @return votos gravados
+     * @see #saveAll(Iterable)
+     */
+    <S extends Voto> List<S> saveAllAndFlush(Iterable<S> votos);
+
+    /**
+     * Soma uma quantidade ao total de votos de uma decisão em uma assembleia, para votos
+     * inseridos sem passar pelos métodos de gravação deste repositório.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param decisao decisão dos votos
+     * @param quantidade quantidade de votos a somar
+     */
+    void incrementarTotal(UUID assembleiaId, Decisao decisao, long quantidade);
+}
@@ -0,0 +1,100 @@
+package br.com.dbserver.api.domain.repositories;
+
+import br.com.dbserver.api.config.VotoTotaisConfig;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Voto;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementação das operações de gravação de {@link VotoRepositoryCustom}.
+ *
+ * Cada chamada incrementa os totais em um único slot, escolhido aleatoriamente, e percorre os
+ * totais sempre na mesma ordem (assembleia e decisão). Transações concorrentes que escolhem o
+ * mesmo slot bloqueiam as mesmas linhas na mesma ordem, sem risco de deadlock entre si.
+ */
+@Transactional
+class VotoRepositoryCustomImpl implements VotoRepositoryCustom {
+
+    private static final Comparator<Total> ORDEM = Comparator
+        .comparing(Total::assembleiaId)
+        .thenComparing(Total::decisao);
+
+    private final EntityManager entityManager;
+    private final VotoTotalRepository votoTotalRepository;
+    private final VotoTotaisConfig config;
+
+    /**
+     * A configuração é opcional para que o repositório também funcione em contextos que carregam
+     * apenas a camada JPA; na sua ausência, são utilizados os valores padrão.
+     */
+    VotoRepositoryCustomImpl(EntityManager entityManager, VotoTotalRepository votoTotalRepository, ObjectProvider<VotoTotaisConfig> config) {
+        this.entityManager = entityManager;
+        this.votoTotalRepository = votoTotalRepository;
+        this.config = config.getIfAvailable(VotoTotaisConfig::new);
+    }
+
+    @Override
+    public <S extends Voto> S save(S voto) {
+        if (!voto.isNew()) {
+            return entityManager.merge(voto);
+        }
+        entityManager.persist(voto);
+        incrementarTotal(voto.getAssembleia().getIdAssembleia(), voto.getDecisao(), 1);
+        return voto;
+    }
+
+    @Override
+    public <S extends Voto> S saveAndFlush(S voto) {
+        S salvo = save(voto);
+        entityManager.flush();
+        return salvo;
+    }
+
+    @Override
+    public <S extends Voto> List<S> saveAll(Iterable<S> votos) {
+        List<S> salvos = new ArrayList<>();
+        Map<Total, Long> incrementos = new TreeMap<>(ORDEM);
+        for (S voto : votos) {
+            if (voto.isNew()) {
+                entityManager.persist(voto);
+                incrementos.merge(new Total(voto.getAssembleia().getIdAssembleia(), voto.getDecisao()), 1L, Long::sum);
+                salvos.add(voto);
+            } else {
+                salvos.add(entityManager.merge(voto));
+            }
+        }
+        int slot = slot();
+        incrementos.forEach((total, quantidade) ->
+            votoTotalRepository.incrementar(total.assembleiaId(), total.decisao(), slot, quantidade));
+        return salvos;
+    }
+
+    @Override
+    public <S extends Voto> List<S> saveAllAndFlush(Iterable<S> votos) {
+        List<S> salvos = saveAll(votos);
+        entityManager.flush();
+        return salvos;
+    }
+
+    @Override
+    public void incrementarTotal(UUID assembleiaId, Decisao decisao, long quantidade) {
+        votoTotalRepository.incrementar(assembleiaId, decisao, slot(), quantidade);
+    }
+
+    private int slot() {
+        return ThreadLocalRandom.current().nextInt(Math.max(config.getSlots(), 1));
+    }
+
+    private record Total(UUID assembleiaId, Decisao decisao) {
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.dbserver.api.domain.repositories;
+
+import br.com.dbserver.api.domain.constants.QueryConstants;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.VotoTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório responsável pelos totais de votos por assembleia e decisão ({@link VotoTotal}).
+ *
+ * Os totais são incrementados pelo {@link VotoRepository} na mesma transação em que os votos
+ * são inseridos, e consultados no lugar de contagens sobre a tabela {@code votos}. Cada total
+ * é dividido em parcelas (slots), que devem ser somadas na leitura.
+ *
+ */
+@Repository
+public interface VotoTotalRepository extends JpaRepository<VotoTotal, VotoTotal.Chave> {
+
+    /**
+     * Retorna os totais de votos de uma assembleia.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return parcelas dos totais de cada decisão que já recebeu votos na assembleia
+     */
+    List<VotoTotal> findByAssembleiaId(UUID assembleiaId);
+
+    /**
+     * Soma uma quantidade a uma parcela do total de votos de uma decisão em uma assembleia,
+     * criando a parcela caso ainda não exista.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param decisao decisão dos votos
+     * @param slot parcela do total a ser incrementada
+     * @param quantidade quantidade de votos a somar
+     * @return quantidade de linhas inseridas ou atualizadas
+     */
+    @Modifying
+    @Query(QueryConstants.INCREMENT_VOTO_TOTAL)
+    int incrementar(@Param("assembleiaId") UUID assembleiaId,
+                    @Param("decisao") Decisao decisao,
+                    @Param("slot") int slot,
+                    @Param("quantidade") long quantidade);
+}
@@ -0,0 +1,100 @@
+package br.com.dbserver.api.domain.specifications;
+
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.StatusAssembleia;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Especificações (critérios dinâmicos) para consultas de {@link Assembleia}.
+ *
+ * Os filtros informados são combinados em uma única consulta, executada pelo banco junto com a
+ * paginação, a ordenação e a contagem do total de elementos.
+ */
+public final class AssembleiaSpecifications {
+
+    /**
+     * Ordenação das listagens paginadas por cursor, também utilizada como padrão: da assembleia mais recente
+     * para a mais antiga, com o identificador como desempate.
+     */
+    public static final Sort ORDENACAO_CURSOR = Sort.by(Sort.Direction.DESC, "iniciadaEm", "idAssembleia");
+
+    private AssembleiaSpecifications() {
+    }
+
+    /**
+     * Combina os filtros opcionais da listagem de assembleias. Filtros nulos são ignorados;
+     * sem nenhum filtro, todas as assembleias são selecionadas.
+     *
+     * @param status status da assembleia (opcional)
+     * @param dataInicio limite inferior, inclusivo, da data de início (opcional)
+     * @param dataFim limite superior, inclusivo, da data de início (opcional)
+     * @return especificação com os filtros informados
+     */
+    public static Specification<Assembleia> filtrar(StatusAssembleia status, OffsetDateTime dataInicio, OffsetDateTime dataFim) {
+        Specification<Assembleia> filtro = Specification.unrestricted();
+        if (status != null) {
+            filtro = filtro.and(comStatus(status));
+        }
+        if (dataInicio != null) {
+            filtro = filtro.and(iniciadaAPartirDe(dataInicio));
+        }
+        if (dataFim != null) {
+            filtro = filtro.and(iniciadaAte(dataFim));
+        }
+        return filtro;
+    }
+
+    /**
+     * Seleciona as assembleias com o status informado.
+     *
+     * @param status status da assembleia
+     * @return especificação do filtro
+     */
+    public static Specification<Assembleia> comStatus(StatusAssembleia status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Seleciona as assembleias iniciadas na data informada ou depois dela.
+     *
+     * @param dataInicio limite inferior, inclusivo
+     * @return especificação do filtro
+     */
+    public static Specification<Assembleia> iniciadaAPartirDe(OffsetDateTime dataInicio) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("iniciadaEm"), dataInicio);
+    }
+
+    /**
+     * Seleciona as assembleias iniciadas até a data informada.
+     *
+     * @param dataFim limite superior, inclusivo
+     * @return especificação do filtro
+     */
+    public static Specification<Assembleia> iniciadaAte(OffsetDateTime dataFim) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("iniciadaEm"), dataFim);
+    }
+
+    /**
+     * Seleciona as assembleias posteriores, na {@link #ORDENACAO_CURSOR}, à posição informada:
+     * as iniciadas antes de {@code iniciadaEm} ou, com a mesma data de início, de identificador menor.
+     *
+     * @param iniciadaEm data de início da última assembleia entregue
+     * @param idAssembleia identificador da última assembleia entregue
+     * @return especificação do filtro
+     */
+    public static Specification<Assembleia> aposCursor(OffsetDateTime iniciadaEm, UUID idAssembleia) {
+        return (root, query, cb) -> {
+            Path<OffsetDateTime> chave = root.get("iniciadaEm");
+            Path<UUID> id = root.get("idAssembleia");
+            return cb.and(
+                cb.lessThanOrEqualTo(chave, iniciadaEm),
+                cb.or(cb.lessThan(chave, iniciadaEm), cb.and(cb.equal(chave, iniciadaEm), cb.lessThan(id, idAssembleia)))
+            );
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.dbserver.api.domain.specifications;
+
+import br.com.dbserver.api.domain.entities.Pauta;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Especificações (critérios dinâmicos) para consultas de {@link Pauta}.
+ *
+ * Os filtros informados são combinados em uma única consulta, executada pelo banco junto com a
+ * paginação e a ordenação.
+ */
+public final class PautaSpecifications {
+
+    /**
+     * Ordenação das listagens paginadas por cursor: da pauta mais recente para a mais antiga,
+     * com o identificador como desempate.
+     */
+    public static final Sort ORDENACAO_CURSOR = Sort.by(Sort.Direction.DESC, "criadaEm", "idPauta");
+
+    private PautaSpecifications() {
+    }
+
+    /**
+     * Combina os filtros opcionais da listagem de pautas. A busca por texto tem precedência
+     * sobre o intervalo de datas, que só é aplicado quando os dois limites são informados;
+     * sem nenhum filtro, todas as pautas são selecionadas.
+     *
+     * @param search texto para busca no título ou na descrição (opcional)
+     * @param dataInicio limite inferior, inclusivo, da data de criação (opcional)
+     * @param dataFim limite superior, inclusivo, da data de criação (opcional)
+     * @return especificação com os filtros informados
+     */
+    public static Specification<Pauta> filtrar(String search, OffsetDateTime dataInicio, OffsetDateTime dataFim) {
+        if (search != null && !search.trim().isEmpty()) {
+            return contendo(search);
+        }
+        if (dataInicio != null && dataFim != null) {
+            return criadaEntre(dataInicio, dataFim);
+        }
+        return Specification.unrestricted();
+    }
+
+    /**
+     * Seleciona as pautas cujo título ou descrição contenham o texto informado, ignorando
+     * maiúsculas/minúsculas. Os caracteres curinga do texto ({@code %} e {@code _}) são
+     * tratados literalmente.
+     *
+     * @param texto texto parcial buscado
+     * @return especificação do filtro
+     */
+    public static Specification<Pauta> contendo(String texto) {
+        String padrao = "%" + EscapeCharacter.DEFAULT.escape(texto.toLowerCase(Locale.ROOT)) + "%";
+        char escape = EscapeCharacter.DEFAULT.getEscapeCharacter();
+        return (root, query, cb) -> cb.or(
+            cb.like(cb.lower(root.get("titulo")), padrao, escape),
+            cb.like(cb.lower(root.get("descricao")), padrao, escape)
+        );
+    }
+
+    /**
+     * Seleciona as pautas criadas dentro do intervalo informado.
+     *
+     * @param dataInicio limite inferior, inclusivo
+     * @param dataFim limite superior, inclusivo
+     * @return especificação do filtro
+     */
+    public static Specification<Pauta> criadaEntre(OffsetDateTime dataInicio, OffsetDateTime dataFim) {
+        return (root, query, cb) -> cb.between(root.get("criadaEm"), dataInicio, dataFim);
+    }
+
+    /**
+     * Seleciona as pautas posteriores, na {@link #ORDENACAO_CURSOR}, à posição informada: as
+     * criadas antes de {@code criadaEm} ou, com a mesma data de criação, de identificador menor.
+     *
+     * @param criadaEm data de criação da última pauta entregue
+     * @param idPauta identificador da última pauta entregue
+     * @return especificação do filtro
+     */
+    public static Specification<Pauta> aposCursor(OffsetDateTime criadaEm, UUID idPauta) {
+        return (root, query, cb) -> {
+            Path<OffsetDateTime> chave = root.get("criadaEm");
+            Path<UUID> id = root.get("idPauta");
+            return cb.and(
+                cb.lessThanOrEqualTo(chave, criadaEm),
+                cb.or(cb.lessThan(chave, criadaEm), cb.and(cb.equal(chave, criadaEm), cb.lessThan(id, idPauta)))
+            );
+        };
+    }
+}
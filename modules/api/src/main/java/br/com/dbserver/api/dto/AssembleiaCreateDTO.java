@@ -1,8 +1,11 @@
 package br.com.dbserver.api.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -17,6 +20,14 @@ public class AssembleiaCreateDTO {
     @Schema(description = "Identificador da pauta que será votada na assembleia", required = true, example = "550e8400-e29b-41d4-a716-446655440001")
     private UUID pautaId;
 
+    @FutureOrPresent(message = "A data de abertura não pode estar no passado")
+    @Schema(description = "Data e hora de abertura automática; se ausente, a assembleia é aberta imediatamente. Na atualização, campos ausentes mantêm os horários atuais", example = "2024-01-15T14:00:00Z")
+    private OffsetDateTime abreEm;
+
+    @Future(message = "A data de encerramento deve estar no futuro")
+    @Schema(description = "Data e hora de encerramento automático; se ausente, a assembleia é encerrada manualmente", example = "2024-01-15T16:00:00Z")
+    private OffsetDateTime encerraEm;
+
     /**
      * Construtor padrão para serialização/deserialização.
      */
@@ -38,4 +49,20 @@ public class AssembleiaCreateDTO {
     public void setPautaId(UUID pautaId) {
         this.pautaId = pautaId;
     }
-}
\ No newline at end of file
+
+    public OffsetDateTime getAbreEm() {
+        return abreEm;
+    }
+
+    public void setAbreEm(OffsetDateTime abreEm) {
+        this.abreEm = abreEm;
+    }
+
+    public OffsetDateTime getEncerraEm() {
+        return encerraEm;
+    }
+
+    public void setEncerraEm(OffsetDateTime encerraEm) {
+        this.encerraEm = encerraEm;
+    }
+}
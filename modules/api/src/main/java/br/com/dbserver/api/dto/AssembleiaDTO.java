@@ -28,6 +28,12 @@ public class AssembleiaDTO {
     
     @Schema(description = "Data e hora de finalização da assembleia", example = "2024-01-15T16:00:00Z")
     private OffsetDateTime finalizadaEm;
+    
+    @Schema(description = "Data e hora de abertura automática da assembleia", example = "2024-01-15T14:00:00Z")
+    private OffsetDateTime abreEm;
+    
+    @Schema(description = "Data e hora de encerramento automático da assembleia", example = "2024-01-15T16:00:00Z")
+    private OffsetDateTime encerraEm;
 
     /**
      * Construtor padrão para serialização/deserialização.
@@ -52,6 +58,25 @@ public class AssembleiaDTO {
         this.finalizadaEm = finalizadaEm;
     }
 
+    /**
+     * Construtor com todos os parâmetros, incluindo os horários de abertura e encerramento automáticos.
+     *
+     * @param idAssembleia identificador único da assembleia
+     * @param pauta dados da pauta associada à assembleia
+     * @param status status atual da assembleia
+     * @param iniciadaEm timestamp de início da assembleia
+     * @param finalizadaEm timestamp de finalização da assembleia (pode ser null)
+     * @param abreEm horário de abertura automática (pode ser null)
+     * @param encerraEm horário de encerramento automático (pode ser null)
+     */
+    public AssembleiaDTO(UUID idAssembleia, PautaDTO pauta, StatusAssembleia status,
+                        OffsetDateTime iniciadaEm, OffsetDateTime finalizadaEm,
+                        OffsetDateTime abreEm, OffsetDateTime encerraEm) {
+        this(idAssembleia, pauta, status, iniciadaEm, finalizadaEm);
+        this.abreEm = abreEm;
+        this.encerraEm = encerraEm;
+    }
+
     public UUID getIdAssembleia() {
         return idAssembleia;
     }
@@ -91,4 +116,20 @@ public class AssembleiaDTO {
     public void setFinalizadaEm(OffsetDateTime finalizadaEm) {
         this.finalizadaEm = finalizadaEm;
     }
-}
\ No newline at end of file
+
+    public OffsetDateTime getAbreEm() {
+        return abreEm;
+    }
+
+    public void setAbreEm(OffsetDateTime abreEm) {
+        this.abreEm = abreEm;
+    }
+
+    public OffsetDateTime getEncerraEm() {
+        return encerraEm;
+    }
+
+    public void setEncerraEm(OffsetDateTime encerraEm) {
+        this.encerraEm = encerraEm;
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.dbserver.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de uma listagem paginada por cursor (keyset): a chave de ordenação e o identificador
+ * do último item entregue. A página seguinte começa logo após essa posição, sem que o banco
+ * precise percorrer os itens das páginas anteriores.
+ *
+ * Para o cliente, o cursor é um texto opaco ({@link #codificar()}), recebido no campo
+ * {@code proximoCursor} e devolvido no parâmetro {@code cursor}. O método {@link #valueOf(String)}
+ * permite a conversão direta de parâmetros de requisição; cursores inválidos resultam em
+ * {@code 400 Bad Request}.
+ *
+ * @param chave valor da chave de ordenação (por exemplo, {@code criadaEm} ou {@code iniciadaEm})
+ * @param id identificador do item, utilizado como desempate entre chaves iguais
+ */
+public record CursorPaginacao(OffsetDateTime chave, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    /**
+     * Codifica o cursor como texto opaco, seguro para uso em URLs.
+     *
+     * @return cursor codificado
+     */
+    public String codificar() {
+        String posicao = chave.toInstant() + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(posicao.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor produzido por {@link #codificar()}.
+     *
+     * @param cursor cursor codificado
+     * @return posição correspondente
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    public static CursorPaginacao valueOf(String cursor) {
+        try {
+            String posicao = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = posicao.indexOf(SEPARADOR);
+            return new CursorPaginacao(
+                Instant.parse(posicao.substring(0, separador)).atOffset(ZoneOffset.UTC),
+                UUID.fromString(posicao.substring(separador + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return codificar();
+    }
+}
@@ -1,15 +1,22 @@
 package br.com.dbserver.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * DTO wrapper para respostas paginadas com propriedades em português.
  * 
  * Esta classe encapsula os dados de uma página Spring Data, traduzindo
  * as propriedades para facilitar o entendimento pelos usuários da API.
+ * 
+ * Nas listagens sem total ({@code semTotal=true}) e nas paginadas por cursor, a contagem não é
+ * executada e os totais são omitidos; {@code temProxima} indica se há mais itens e, na paginação
+ * por cursor, {@code proximoCursor} indica a posição a partir da qual a próxima página começa.
  */
 @Schema(description = "Resposta paginada")
 public class PaginacaoResponse<T> {
@@ -23,11 +30,21 @@ public class PaginacaoResponse<T> {
     @Schema(description = "Total de itens por página", example = "10")
     private int totalItensPorPagina;
     
-    @Schema(description = "Total de itens encontrados", example = "150")
-    private long totalItens;
+    @Schema(description = "Total de itens encontrados; omitido nas listagens sem total e na paginação por cursor", example = "150")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalItens;
+    
+    @Schema(description = "Total de páginas disponíveis; omitido nas listagens sem total e na paginação por cursor", example = "8")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPaginas;
     
-    @Schema(description = "Total de páginas disponíveis", example = "8")
-    private int totalPaginas;
+    @Schema(description = "Indica se há itens após a página atual", example = "true")
+    private boolean temProxima;
+    
+    @Schema(description = "Cursor opaco da próxima página, a ser enviado no parâmetro 'cursor'; omitido na última página ou quando a ordenação não permite cursor",
+            example = "MjAyNC0wMS0xNVQxMDozMDowMFp8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAx")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String proximoCursor;
     
     @Schema(description = "Informações de paginação")
     private PaginacaoInfo paginacao;
@@ -38,17 +55,21 @@ public class PaginacaoResponse<T> {
     public PaginacaoResponse() {}
 
     /**
-     * Construtor que recebe uma Page do Spring Data e converte para o formato traduzido.
+     * Construtor que recebe uma Page ou Slice do Spring Data e converte para o formato traduzido.
+     * Os totais são preenchidos apenas se a fatia for uma {@link Page}.
      *
-     * @param page página do Spring Data
+     * @param slice página ou fatia do Spring Data
      */
-    public PaginacaoResponse(Page<T> page) {
-        this.conteudo = page.getContent();
-        this.numeroPagina = page.getNumber();
-        this.totalItensPorPagina = page.getSize();
-        this.totalItens = page.getTotalElements();
-        this.totalPaginas = page.getTotalPages();
-        this.paginacao = new PaginacaoInfo(page.getPageable());
+    public PaginacaoResponse(Slice<T> slice) {
+        this.conteudo = slice.getContent();
+        this.numeroPagina = slice.getNumber();
+        this.totalItensPorPagina = slice.getSize();
+        if (slice instanceof Page<T> page) {
+            this.totalItens = page.getTotalElements();
+            this.totalPaginas = page.getTotalPages();
+        }
+        this.temProxima = slice.hasNext();
+        this.paginacao = new PaginacaoInfo(slice.getPageable());
     }
 
     /**
@@ -62,6 +83,35 @@ public class PaginacaoResponse<T> {
         return new PaginacaoResponse<>(page);
     }
 
+    /**
+     * Método estático para criar uma instância a partir de uma Slice do Spring Data, sem totais.
+     *
+     * @param <T> tipo dos dados
+     * @param slice fatia do Spring Data
+     * @return instância de PaginacaoResponse
+     */
+    public static <T> PaginacaoResponse<T> of(Slice<T> slice) {
+        return new PaginacaoResponse<>(slice);
+    }
+
+    /**
+     * Cria uma instância a partir de uma página ou fatia ordenada pela chave do cursor,
+     * preenchendo {@code proximoCursor} com a posição do último item quando houver mais itens.
+     * Os totais são preenchidos apenas se a fatia for uma {@link Page}.
+     *
+     * @param <T> tipo dos dados
+     * @param slice página ou fatia do Spring Data
+     * @param cursor função que obtém a posição de um item
+     * @return instância de PaginacaoResponse
+     */
+    public static <T> PaginacaoResponse<T> of(Slice<T> slice, Function<T, CursorPaginacao> cursor) {
+        PaginacaoResponse<T> response = new PaginacaoResponse<>(slice);
+        if (slice.hasNext() && slice.hasContent()) {
+            response.proximoCursor = cursor.apply(slice.getContent().get(slice.getNumberOfElements() - 1)).codificar();
+        }
+        return response;
+    }
+
     public List<T> getConteudo() {
         return conteudo;
     }
@@ -86,22 +136,38 @@ public class PaginacaoResponse<T> {
         this.totalItensPorPagina = totalItensPorPagina;
     }
 
-    public long getTotalItens() {
+    public Long getTotalItens() {
         return totalItens;
     }
 
-    public void setTotalItens(long totalItens) {
+    public void setTotalItens(Long totalItens) {
         this.totalItens = totalItens;
     }
 
-    public int getTotalPaginas() {
+    public Integer getTotalPaginas() {
         return totalPaginas;
     }
 
-    public void setTotalPaginas(int totalPaginas) {
+    public void setTotalPaginas(Integer totalPaginas) {
         this.totalPaginas = totalPaginas;
     }
 
+    public boolean isTemProxima() {
+        return temProxima;
+    }
+
+    public void setTemProxima(boolean temProxima) {
+        this.temProxima = temProxima;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public void setProximoCursor(String proximoCursor) {
+        this.proximoCursor = proximoCursor;
+    }
+
     public PaginacaoInfo getPaginacao() {
         return paginacao;
     }
@@ -0,0 +1,91 @@
+package br.com.dbserver.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) com uma pauta encontrada pela busca textual, utilizado em
+ * listas de sugestões (autocompletar).
+ */
+@Schema(description = "Pauta encontrada pela busca textual")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PautaBuscaDTO {
+
+    @Schema(description = "Identificador único da pauta", example = "550e8400-e29b-41d4-a716-446655440001")
+    private UUID idPauta;
+
+    @Schema(description = "Título da pauta", example = "Aprovação do orçamento anual")
+    private String titulo;
+
+    @Schema(description = "Relevância da pauta para o texto buscado; ausente quando a busca é feita no banco", example = "2.35")
+    private Double relevancia;
+
+    /**
+     * Construtor padrão para serialização/deserialização.
+     */
+    public PautaBuscaDTO() {}
+
+    /**
+     * Construtor com todos os parâmetros para criar uma instância completa do DTO.
+     *
+     * @param idPauta identificador único da pauta
+     * @param titulo título da pauta
+     * @param relevancia relevância da pauta para o texto buscado, ou {@code null} se não calculada
+     */
+    public PautaBuscaDTO(UUID idPauta, String titulo, Double relevancia) {
+        this.idPauta = idPauta;
+        this.titulo = titulo;
+        this.relevancia = relevancia;
+    }
+
+    public UUID getIdPauta() {
+        return idPauta;
+    }
+
+    public void setIdPauta(UUID idPauta) {
+        this.idPauta = idPauta;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public void setTitulo(String titulo) {
+        this.titulo = titulo;
+    }
+
+    public Double getRelevancia() {
+        return relevancia;
+    }
+
+    public void setRelevancia(Double relevancia) {
+        this.relevancia = relevancia;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PautaBuscaDTO that = (PautaBuscaDTO) o;
+        return Objects.equals(idPauta, that.idPauta) &&
+               Objects.equals(titulo, that.titulo) &&
+               Objects.equals(relevancia, that.relevancia);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idPauta, titulo, relevancia);
+    }
+
+    @Override
+    public String toString() {
+        return "PautaBuscaDTO{" +
+                "idPauta=" + idPauta +
+                ", titulo='" + titulo + '\'' +
+                ", relevancia=" + relevancia +
+                '}';
+    }
+}
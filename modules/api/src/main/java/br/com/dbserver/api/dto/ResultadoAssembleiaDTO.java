@@ -0,0 +1,213 @@
+package br.com.dbserver.api.dto;
+
+import br.com.dbserver.api.domain.entities.StatusAssembleia;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) com o resultado da votação de uma assembleia.
+ *
+ * Na consulta consolidada, contém os totais de votos por decisão; na consulta do voto de um
+ * membro, contém apenas o voto do membro na assembleia.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado da votação de uma assembleia")
+public class ResultadoAssembleiaDTO {
+
+    @Schema(description = "Identificador da assembleia", example = "550e8400-e29b-41d4-a716-446655440002")
+    private UUID assembleiaId;
+
+    @Schema(description = "Status atual da assembleia", example = "Encerrada")
+    private StatusAssembleia status;
+
+    @Schema(description = "Data e hora de início da assembleia", example = "2024-01-15T10:30:00Z")
+    private OffsetDateTime iniciadaEm;
+
+    @Schema(description = "Data e hora de finalização da assembleia", example = "2024-01-15T18:30:00Z")
+    private OffsetDateTime finalizadaEm;
+
+    @Schema(description = "Quantidade total de votos", example = "150")
+    private Long totalVotos;
+
+    @Schema(description = "Quantidade de votos 'Concordo'", example = "85")
+    private Long concordo;
+
+    @Schema(description = "Quantidade de votos 'Discordo'", example = "65")
+    private Long discordo;
+
+    @Schema(description = "Hash (SHA-256) do resultado final selado no encerramento da assembleia",
+            example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String hashResultado;
+
+    @Schema(description = "Indica se os totais apurados divergiram da recontagem dos votos no encerramento; " +
+            "o resultado selado é o da recontagem", example = "false")
+    private Boolean resultadoDivergente;
+
+    @Schema(description = "Voto do membro consultado na assembleia")
+    private VotoDTO votoMembro;
+
+    @Schema(description = "Indica se o membro consultado votou na assembleia", example = "true")
+    private Boolean membroVotou;
+
+    @Schema(description = "Motivo da ausência do voto do membro", example = "Membro não encontrado")
+    private String mensagem;
+
+    /**
+     * Construtor padrão para serialização/deserialização.
+     */
+    public ResultadoAssembleiaDTO() {}
+
+    /**
+     * Construtor com os dados da assembleia, sem totais de votos.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param status status atual da assembleia
+     * @param iniciadaEm data e hora de início da assembleia
+     * @param finalizadaEm data e hora de finalização da assembleia
+     */
+    public ResultadoAssembleiaDTO(UUID assembleiaId, StatusAssembleia status, OffsetDateTime iniciadaEm, OffsetDateTime finalizadaEm) {
+        this.assembleiaId = assembleiaId;
+        this.status = status;
+        this.iniciadaEm = iniciadaEm;
+        this.finalizadaEm = finalizadaEm;
+    }
+
+    /**
+     * Construtor com os dados da assembleia e os totais por decisão, utilizado pela consulta
+     * consolidada de resultados; o total geral é a soma das decisões.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param status status atual da assembleia
+     * @param iniciadaEm data e hora de início da assembleia
+     * @param finalizadaEm data e hora de finalização da assembleia
+     * @param concordo quantidade de votos 'Concordo'
+     * @param discordo quantidade de votos 'Discordo'
+     * @param hashResultado hash do resultado final selado, ou {@code null} se a assembleia não foi encerrada
+     */
+    public ResultadoAssembleiaDTO(UUID assembleiaId, StatusAssembleia status, OffsetDateTime iniciadaEm, OffsetDateTime finalizadaEm,
+                                  Long concordo, Long discordo, String hashResultado) {
+        this(assembleiaId, status, iniciadaEm, finalizadaEm);
+        this.totalVotos = concordo + discordo;
+        this.concordo = concordo;
+        this.discordo = discordo;
+        this.hashResultado = hashResultado;
+    }
+
+    /**
+     * Construtor utilizado pelas consultas de resultado, com a indicação de divergência do
+     * resultado final selado.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param status status atual da assembleia
+     * @param iniciadaEm data e hora de início da assembleia
+     * @param finalizadaEm data e hora de finalização da assembleia
+     * @param concordo quantidade de votos 'Concordo'
+     * @param discordo quantidade de votos 'Discordo'
+     * @param hashResultado hash do resultado final selado, ou {@code null} se a assembleia não foi encerrada
+     * @param resultadoDivergente indica se o resultado selado divergiu da recontagem, ou {@code null} se não foi selado
+     */
+    public ResultadoAssembleiaDTO(UUID assembleiaId, StatusAssembleia status, OffsetDateTime iniciadaEm, OffsetDateTime finalizadaEm,
+                                  Long concordo, Long discordo, String hashResultado, Boolean resultadoDivergente) {
+        this(assembleiaId, status, iniciadaEm, finalizadaEm, concordo, discordo, hashResultado);
+        this.resultadoDivergente = resultadoDivergente;
+    }
+
+    public UUID getAssembleiaId() {
+        return assembleiaId;
+    }
+
+    public void setAssembleiaId(UUID assembleiaId) {
+        this.assembleiaId = assembleiaId;
+    }
+
+    public StatusAssembleia getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusAssembleia status) {
+        this.status = status;
+    }
+
+    public OffsetDateTime getIniciadaEm() {
+        return iniciadaEm;
+    }
+
+    public void setIniciadaEm(OffsetDateTime iniciadaEm) {
+        this.iniciadaEm = iniciadaEm;
+    }
+
+    public OffsetDateTime getFinalizadaEm() {
+        return finalizadaEm;
+    }
+
+    public void setFinalizadaEm(OffsetDateTime finalizadaEm) {
+        this.finalizadaEm = finalizadaEm;
+    }
+
+    public Long getTotalVotos() {
+        return totalVotos;
+    }
+
+    public void setTotalVotos(Long totalVotos) {
+        this.totalVotos = totalVotos;
+    }
+
+    public Long getConcordo() {
+        return concordo;
+    }
+
+    public void setConcordo(Long concordo) {
+        this.concordo = concordo;
+    }
+
+    public Long getDiscordo() {
+        return discordo;
+    }
+
+    public void setDiscordo(Long discordo) {
+        this.discordo = discordo;
+    }
+
+    public String getHashResultado() {
+        return hashResultado;
+    }
+
+    public void setHashResultado(String hashResultado) {
+        this.hashResultado = hashResultado;
+    }
+
+    public Boolean getResultadoDivergente() {
+        return resultadoDivergente;
+    }
+
+    public void setResultadoDivergente(Boolean resultadoDivergente) {
+        this.resultadoDivergente = resultadoDivergente;
+    }
+
+    public VotoDTO getVotoMembro() {
+        return votoMembro;
+    }
+
+    public void setVotoMembro(VotoDTO votoMembro) {
+        this.votoMembro = votoMembro;
+    }
+
+    public Boolean getMembroVotou() {
+        return membroVotou;
+    }
+
+    public void setMembroVotou(Boolean membroVotou) {
+        this.membroVotou = membroVotou;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+}
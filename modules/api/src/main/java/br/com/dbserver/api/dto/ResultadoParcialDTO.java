@@ -0,0 +1,91 @@
+package br.com.dbserver.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * DTO (Data Transfer Object) com os totais de votos de uma assembleia em um determinado momento,
+ * enviado pelo stream de resultados enquanto a votação está em andamento.
+ */
+@Schema(description = "Totais de votos de uma assembleia")
+public class ResultadoParcialDTO {
+
+    @Schema(description = "Identificador da assembleia", example = "550e8400-e29b-41d4-a716-446655440002")
+    private UUID assembleiaId;
+
+    @Schema(description = "Quantidade total de votos", example = "150")
+    private long totalVotos;
+
+    @Schema(description = "Quantidade de votos 'Concordo'", example = "85")
+    private long concordo;
+
+    @Schema(description = "Quantidade de votos 'Discordo'", example = "65")
+    private long discordo;
+
+    /**
+     * Construtor padrão para serialização/deserialização.
+     */
+    public ResultadoParcialDTO() {}
+
+    /**
+     * Construtor com os totais por decisão; o total geral é a soma das decisões.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param concordo quantidade de votos 'Concordo'
+     * @param discordo quantidade de votos 'Discordo'
+     */
+    public ResultadoParcialDTO(UUID assembleiaId, long concordo, long discordo) {
+        this.assembleiaId = assembleiaId;
+        this.totalVotos = concordo + discordo;
+        this.concordo = concordo;
+        this.discordo = discordo;
+    }
+
+    public UUID getAssembleiaId() {
+        return assembleiaId;
+    }
+
+    public void setAssembleiaId(UUID assembleiaId) {
+        this.assembleiaId = assembleiaId;
+    }
+
+    public long getTotalVotos() {
+        return totalVotos;
+    }
+
+    public void setTotalVotos(long totalVotos) {
+        this.totalVotos = totalVotos;
+    }
+
+    public long getConcordo() {
+        return concordo;
+    }
+
+    public void setConcordo(long concordo) {
+        this.concordo = concordo;
+    }
+
+    public long getDiscordo() {
+        return discordo;
+    }
+
+    public void setDiscordo(long discordo) {
+        this.discordo = discordo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ResultadoParcialDTO that = (ResultadoParcialDTO) o;
+        return totalVotos == that.totalVotos && concordo == that.concordo && discordo == that.discordo
+                && Objects.equals(assembleiaId, that.assembleiaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(assembleiaId, totalVotos, concordo, discordo);
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.dbserver.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) com o resultado da votação de uma pauta, composto pelos dados
+ * da pauta e pelo resultado de cada uma de suas assembleias.
+ */
+@Schema(description = "Resultado da votação de uma pauta")
+public class ResultadoPautaDTO {
+
+    @Schema(description = "Dados da pauta")
+    private PautaDTO pauta;
+
+    @Schema(description = "Resultado de cada assembleia da pauta")
+    private List<ResultadoAssembleiaDTO> assembleias;
+
+    /**
+     * Construtor padrão para serialização/deserialização.
+     */
+    public ResultadoPautaDTO() {}
+
+    /**
+     * Construtor com todos os parâmetros para criar uma instância completa do DTO.
+     *
+     * @param pauta dados da pauta
+     * @param assembleias resultado de cada assembleia da pauta
+     */
+    public ResultadoPautaDTO(PautaDTO pauta, List<ResultadoAssembleiaDTO> assembleias) {
+        this.pauta = pauta;
+        this.assembleias = assembleias;
+    }
+
+    public PautaDTO getPauta() {
+        return pauta;
+    }
+
+    public void setPauta(PautaDTO pauta) {
+        this.pauta = pauta;
+    }
+
+    public List<ResultadoAssembleiaDTO> getAssembleias() {
+        return assembleias;
+    }
+
+    public void setAssembleias(List<ResultadoAssembleiaDTO> assembleias) {
+        this.assembleias = assembleias;
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.dbserver.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) utilizado para receber um lote de votos a serem registrados em uma única requisição.
+ *
+ * Cada item segue o mesmo formato do registro de voto V2 (nome e CPF do membro).
+ * O tamanho do lote é limitado para manter a transação e o consumo de memória previsíveis.
+ */
+@Schema(description = "Lote de votos para registro (V2)")
+public class VotoLoteCreateDTO {
+
+    public static final int TAMANHO_MAXIMO = 1000;
+
+    @NotEmpty(message = "O lote deve conter ao menos um voto")
+    @Size(max = TAMANHO_MAXIMO, message = "O lote deve conter no máximo " + TAMANHO_MAXIMO + " votos")
+    @Schema(description = "Votos a serem registrados", required = true)
+    private List<@Valid VotoCreateV2DTO> votos;
+
+    /**
+     * Construtor padrão para serialização/deserialização.
+     */
+    public VotoLoteCreateDTO() {}
+
+    /**
+     * Construtor com a lista de votos do lote.
+     *
+     * @param votos votos a serem registrados
+     */
+    public VotoLoteCreateDTO(List<VotoCreateV2DTO> votos) {
+        this.votos = votos;
+    }
+
+    public List<VotoCreateV2DTO> getVotos() {
+        return votos;
+    }
+
+    public void setVotos(List<VotoCreateV2DTO> votos) {
+        this.votos = votos;
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.dbserver.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO (Data Transfer Object) que representa o resultado do processamento de um item de um lote de votos.
+ *
+ * O índice corresponde à posição do voto na lista enviada, permitindo ao cliente
+ * identificar quais votos precisam ser reenviados ou corrigidos.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de um item do lote de votos")
+public class VotoLoteItemDTO {
+
+    /**
+     * Situação final de um item do lote.
+     */
+    public enum Status {
+        REGISTRADO,
+        DUPLICADO,
+        ERRO
+    }
+
+    @Schema(description = "Posição do voto na lista enviada (inicia em 0)", example = "0")
+    private int indice;
+
+    @Schema(description = "Situação do item após o processamento", example = "REGISTRADO")
+    private Status status;
+
+    @Schema(description = "Dados do voto registrado (apenas quando a situação for REGISTRADO)")
+    private VotoDTO voto;
+
+    @Schema(description = "Motivo da recusa do voto", example = "Membro já votou nesta assembleia")
+    private String mensagem;
+
+    /**
+     * Construtor padrão para serialização/deserialização.
+     */
+    public VotoLoteItemDTO() {}
+
+    /**
+     * Construtor com todos os parâmetros para criar uma instância completa do DTO.
+     *
+     * @param indice posição do voto na lista enviada
+     * @param status situação do item após o processamento
+     * @param voto dados do voto registrado (pode ser null)
+     * @param mensagem motivo da recusa (pode ser null)
+     */
+    public VotoLoteItemDTO(int indice, Status status, VotoDTO voto, String mensagem) {
+        this.indice = indice;
+        this.status = status;
+        this.voto = voto;
+        this.mensagem = mensagem;
+    }
+
+    public static VotoLoteItemDTO registrado(int indice, VotoDTO voto) {
+        return new VotoLoteItemDTO(indice, Status.REGISTRADO, voto, null);
+    }
+
+    public static VotoLoteItemDTO duplicado(int indice, String mensagem) {
+        return new VotoLoteItemDTO(indice, Status.DUPLICADO, null, mensagem);
+    }
+
+    public static VotoLoteItemDTO erro(int indice, String mensagem) {
+        return new VotoLoteItemDTO(indice, Status.ERRO, null, mensagem);
+    }
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public VotoDTO getVoto() {
+        return voto;
+    }
+
+    public void setVoto(VotoDTO voto) {
+        this.voto = voto;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.dbserver.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) com o resultado consolidado do registro de um lote de votos.
+ *
+ * Contém os totalizadores por situação e o resultado individual de cada item, na mesma
+ * ordem em que os votos foram enviados.
+ */
+@Schema(description = "Resultado do registro de um lote de votos")
+public class VotoLoteResultadoDTO {
+
+    @Schema(description = "Quantidade de votos registrados", example = "498")
+    private int totalRegistrados;
+
+    @Schema(description = "Quantidade de votos recusados por duplicidade", example = "1")
+    private int totalDuplicados;
+
+    @Schema(description = "Quantidade de votos recusados por erro", example = "1")
+    private int totalErros;
+
+    @Schema(description = "Resultado de cada item do lote")
+    private List<VotoLoteItemDTO> itens;
+
+    /**
+     * Construtor padrão para serialização/deserialização.
+     */
+    public VotoLoteResultadoDTO() {}
+
+    /**
+     * Construtor que calcula os totalizadores a partir dos itens processados.
+     *
+     * @param itens resultado de cada item do lote
+     */
+    public VotoLoteResultadoDTO(List<VotoLoteItemDTO> itens) {
+        this.itens = itens;
+        for (VotoLoteItemDTO item : itens) {
+            switch (item.getStatus()) {
+                case REGISTRADO -> totalRegistrados++;
+                case DUPLICADO -> totalDuplicados++;
+                case ERRO -> totalErros++;
+            }
+        }
+    }
+
+    public int getTotalRegistrados() {
+        return totalRegistrados;
+    }
+
+    public void setTotalRegistrados(int totalRegistrados) {
+        this.totalRegistrados = totalRegistrados;
+    }
+
+    public int getTotalDuplicados() {
+        return totalDuplicados;
+    }
+
+    public void setTotalDuplicados(int totalDuplicados) {
+        this.totalDuplicados = totalDuplicados;
+    }
+
+    public int getTotalErros() {
+        return totalErros;
+    }
+
+    public void setTotalErros(int totalErros) {
+        this.totalErros = totalErros;
+    }
+
+    public List<VotoLoteItemDTO> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<VotoLoteItemDTO> itens) {
+        this.itens = itens;
+    }
+}
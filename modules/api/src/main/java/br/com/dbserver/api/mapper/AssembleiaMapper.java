@@ -43,7 +43,9 @@ public class AssembleiaMapper {
             pautaMapper.toDTO(entity.getPauta()),
             entity.getStatus(),
             entity.getIniciadaEm(),
-            entity.getFinalizadaEm()
+            entity.getFinalizadaEm(),
+            entity.getAbreEm(),
+            entity.getEncerraEm()
         );
     }
 }
\ No newline at end of file
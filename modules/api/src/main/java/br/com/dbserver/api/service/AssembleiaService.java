@@ -1,22 +1,36 @@
 package br.com.dbserver.api.service;
 
+import br.com.dbserver.api.config.VotoRegistroConfig;
 import br.com.dbserver.api.domain.entities.Assembleia;
 import br.com.dbserver.api.domain.entities.Pauta;
 import br.com.dbserver.api.domain.entities.StatusAssembleia;
+import br.com.dbserver.api.domain.events.AssembleiaAgendadaEvent;
+import br.com.dbserver.api.domain.events.AssembleiaExcluidaEvent;
 import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
 import br.com.dbserver.api.domain.repositories.PautaRepository;
+import br.com.dbserver.api.domain.specifications.AssembleiaSpecifications;
 import br.com.dbserver.api.dto.AssembleiaCreateDTO;
 import br.com.dbserver.api.dto.AssembleiaDTO;
+import br.com.dbserver.api.dto.CursorPaginacao;
 import br.com.dbserver.api.mapper.AssembleiaMapper;
+import br.com.dbserver.api.service.cache.AssembleiaAbertaCache;
+import br.com.dbserver.api.service.cache.ResultadoEncerradoCache;
+import br.com.dbserver.api.service.journal.VotoJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,6 +50,14 @@ public class AssembleiaService {
     private final AssembleiaRepository assembleiaRepository;
     private final PautaRepository pautaRepository;
     private final AssembleiaMapper assembleiaMapper;
+    private final AssembleiaAbertaCache assembleiaAbertaCache;
+    private final ResultadoEncerradoCache resultadoEncerradoCache;
+    private final ResultadoFinalService resultadoFinalService;
+    private final VotoJournal journal;
+    private final VotoGravacoesEmAndamento gravacoes;
+    private final VotoRegistroConfig registroConfig;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     
     /**
      * Construtor que injeta as dependências necessárias para o serviço.
@@ -43,20 +65,48 @@ public class AssembleiaService {
      * @param assembleiaRepository repositório para operações de persistência de assembleias
      * @param pautaRepository repositório para validação e busca de pautas
      * @param assembleiaMapper mapper para conversão entre entidades e DTOs
+     * @param assembleiaAbertaCache cache do estado das assembleias abertas, invalidado a cada alteração
+     * @param resultadoEncerradoCache cache dos resultados das assembleias encerradas, invalidado a cada alteração
+     * @param resultadoFinalService serviço de apuração do resultado final, selado no encerramento
+     * @param journal journal local de votos, cujos votos pendentes são projetados antes do encerramento
+     * @param gravacoes registro das gravações de votos em andamento, aguardadas antes da apuração
+     * @param registroConfig configuração do registro de votos, com a espera máxima do encerramento
+     * @param eventPublisher publicador dos eventos de agendamento e de exclusão, consumidos pela
+     *                       agenda de prazos e pelas estruturas de votos em memória
+     * @param transactionManager gerenciador das transações do encerramento
      */
     public AssembleiaService(AssembleiaRepository assembleiaRepository, 
                            PautaRepository pautaRepository,
-                           AssembleiaMapper assembleiaMapper) {
+                           AssembleiaMapper assembleiaMapper,
+                           AssembleiaAbertaCache assembleiaAbertaCache,
+                           ResultadoEncerradoCache resultadoEncerradoCache,
+                           ResultadoFinalService resultadoFinalService,
+                           VotoJournal journal,
+                           VotoGravacoesEmAndamento gravacoes,
+                           VotoRegistroConfig registroConfig,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
         this.assembleiaRepository = assembleiaRepository;
         this.pautaRepository = pautaRepository;
         this.assembleiaMapper = assembleiaMapper;
+        this.assembleiaAbertaCache = assembleiaAbertaCache;
+        this.resultadoEncerradoCache = resultadoEncerradoCache;
+        this.resultadoFinalService = resultadoFinalService;
+        this.journal = journal;
+        this.gravacoes = gravacoes;
+        this.registroConfig = registroConfig;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     /**
      * Busca assembleias aplicando filtros opcionais e paginação.
      * 
-     * Permite filtrar assembleias por status e/ou intervalo de datas de início.
-     * Se nenhum filtro for aplicado, retorna todas as assembleias paginadas.
+     * Permite filtrar assembleias por status e/ou intervalo de datas de início, em qualquer
+     * combinação; cada limite do intervalo pode ser informado isoladamente. Os filtros, a
+     * paginação e a ordenação são aplicados pelo banco em uma única consulta, acompanhada da
+     * contagem do total. Sem ordenação informada, as assembleias são ordenadas da mais recente
+     * para a mais antiga.
      *
      * @param status filtro opcional por status da assembleia
      * @param dataInicio data inicial do intervalo de busca (opcional)
@@ -71,26 +121,68 @@ public class AssembleiaService {
                                      Pageable pageable) {
         log.debug("Buscando assembleias com status={}, dataInicio={}, dataFim={}", status, dataInicio, dataFim);
         
-        Page<Assembleia> assembleias;
-        
-        if (status != null) {
-            List<Assembleia> list = assembleiaRepository.findByStatus(status);
-            assembleias = toPage(list, pageable);
-        } else if (dataInicio != null && dataFim != null) {
-            List<Assembleia> list = assembleiaRepository.findByPeriodoInicio(dataInicio, dataFim);
-            assembleias = toPage(list, pageable);
-        } else {
-            assembleias = assembleiaRepository.findAll(pageable);
-        }
+        return assembleiaRepository.findAll(AssembleiaSpecifications.filtrar(status, dataInicio, dataFim), ordenacaoPadrao(pageable))
+            .map(assembleiaMapper::toDTO);
+    }
+    
+    /**
+     * Busca assembleias com os mesmos filtros e a mesma ordenação de
+     * {@link #findBy(StatusAssembleia, OffsetDateTime, OffsetDateTime, Pageable)}, sem calcular o total.
+     * 
+     * A consulta de contagem não é executada: o banco lê apenas uma assembleia além da página
+     * para indicar se há uma próxima página.
+     *
+     * @param status filtro opcional por status da assembleia
+     * @param dataInicio data inicial do intervalo de busca (opcional)
+     * @param dataFim data final do intervalo de busca (opcional)
+     * @param pageable configurações de paginação
+     * @return fatia contendo as assembleias encontradas
+     */
+    @Transactional(readOnly = true)
+    public Slice<AssembleiaDTO> findSliceBy(StatusAssembleia status,
+                                           OffsetDateTime dataInicio,
+                                           OffsetDateTime dataFim,
+                                           Pageable pageable) {
+        log.debug("Buscando assembleias sem total com status={}, dataInicio={}, dataFim={}", status, dataInicio, dataFim);
         
-        return assembleias.map(assembleiaMapper::toDTO);
+        return assembleiaRepository.findBy(AssembleiaSpecifications.filtrar(status, dataInicio, dataFim), consulta -> consulta
+                .project("pauta")
+                .slice(ordenacaoPadrao(pageable)))
+            .map(assembleiaMapper::toDTO);
     }
     
-    private Page<Assembleia> toPage(List<Assembleia> list, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-        List<Assembleia> subList = start > list.size() ? List.of() : list.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(subList, pageable, list.size());
+    /**
+     * Busca assembleias com os mesmos filtros de
+     * {@link #findBy(StatusAssembleia, OffsetDateTime, OffsetDateTime, Pageable)}, paginando por cursor.
+     * 
+     * As assembleias são ordenadas da mais recente para a mais antiga e a página começa logo
+     * após a posição do cursor, localizada pelo banco através do índice de data de início, sem
+     * percorrer as páginas anteriores. O total de elementos não é calculado.
+     *
+     * @param status filtro opcional por status da assembleia
+     * @param dataInicio data inicial do intervalo de busca (opcional)
+     * @param dataFim data final do intervalo de busca (opcional)
+     * @param cursor posição da última assembleia entregue, ou {@code null} para a primeira página
+     * @param itensPorPagina quantidade de assembleias da página
+     * @return fatia contendo as assembleias encontradas
+     */
+    @Transactional(readOnly = true)
+    public Slice<AssembleiaDTO> findBy(StatusAssembleia status,
+                                      OffsetDateTime dataInicio,
+                                      OffsetDateTime dataFim,
+                                      CursorPaginacao cursor,
+                                      int itensPorPagina) {
+        log.debug("Buscando assembleias com status={}, dataInicio={}, dataFim={}, cursor={}", status, dataInicio, dataFim, cursor);
+        
+        Specification<Assembleia> filtro = AssembleiaSpecifications.filtrar(status, dataInicio, dataFim);
+        if (cursor != null) {
+            filtro = filtro.and(AssembleiaSpecifications.aposCursor(cursor.chave(), cursor.id()));
+        }
+        
+        return assembleiaRepository.findBy(filtro, consulta -> consulta
+                .project("pauta")
+                .slice(PageRequest.of(0, itensPorPagina, AssembleiaSpecifications.ORDENACAO_CURSOR)))
+            .map(assembleiaMapper::toDTO);
     }
     
     /**
@@ -111,11 +203,14 @@ public class AssembleiaService {
      * Cria uma nova assembleia baseada nos dados fornecidos.
      * 
      * Valida a existência da pauta associada antes de criar a assembleia.
-     * A assembleia é criada automaticamente com status "Aberta" e timestamp atual.
+     * A assembleia é criada com status "Aberta" e timestamp atual ou, se {@code abreEm} estiver
+     * no futuro, com status "Agendada". Os prazos de abertura e encerramento automáticos são
+     * agendados após o commit.
      *
      * @param dto dados para criação da assembleia
      * @return DTO da assembleia criada
-     * @throws IllegalArgumentException se a pauta não for encontrada
+     * @throws IllegalArgumentException se a pauta não for encontrada ou se o encerramento não for
+     *         posterior à abertura
      */
     public AssembleiaDTO create(AssembleiaCreateDTO dto) {
         log.info("Criando assembleia para pauta: {}", dto.getPautaId());
@@ -123,10 +218,13 @@ public class AssembleiaService {
         Pauta pauta = pautaRepository.findById(dto.getPautaId())
             .orElseThrow(() -> new IllegalArgumentException("Pauta não encontrada: " + dto.getPautaId()));
         
-        Assembleia assembleia = new Assembleia(pauta);
+        Assembleia assembleia = new Assembleia(pauta, dto.getAbreEm(), dto.getEncerraEm());
         Assembleia savedAssembleia = assembleiaRepository.save(assembleia);
+        if (savedAssembleia.isAgendada() || savedAssembleia.getEncerraEm() != null) {
+            eventPublisher.publishEvent(AssembleiaAgendadaEvent.of(savedAssembleia));
+        }
         
-        log.info("Assembleia criada com id: {}", savedAssembleia.getIdAssembleia());
+        log.info("Assembleia criada com id: {}, status: {}", savedAssembleia.getIdAssembleia(), savedAssembleia.getStatus());
         
         return assembleiaMapper.toDTO(savedAssembleia);
     }
@@ -135,12 +233,15 @@ public class AssembleiaService {
      * Atualiza uma assembleia existente com os novos dados fornecidos.
      * 
      * Valida a existência tanto da assembleia quanto da nova pauta associada.
-     * Aplica as regras de negócio da entidade durante a atualização.
+     * Aplica as regras de negócio da entidade durante a atualização. Se {@code abreEm} ou
+     * {@code encerraEm} forem informados, os prazos são reagendados; os prazos anteriores que
+     * permanecerem na agenda são ignorados ao vencer.
      *
      * @param id identificador da assembleia a ser atualizada
      * @param dto novos dados para a assembleia
      * @return Optional contendo o DTO da assembleia atualizada se encontrada
-     * @throws IllegalArgumentException se a pauta não for encontrada
+     * @throws IllegalArgumentException se a pauta não for encontrada ou se o encerramento não for posterior à abertura
+     * @throws br.com.dbserver.api.domain.exceptions.InvalidStatusTransitionException se a abertura de uma assembleia já aberta for reagendada
      */
     public Optional<AssembleiaDTO> updateById(UUID id, AssembleiaCreateDTO dto) {
         log.info("Atualizando assembleia: {}", id);
@@ -151,7 +252,17 @@ public class AssembleiaService {
                     .orElseThrow(() -> new IllegalArgumentException("Pauta não encontrada: " + dto.getPautaId()));
                 
                 assembleia.setPauta(pauta);
+                boolean reagendada = dto.getAbreEm() != null || dto.getEncerraEm() != null;
+                if (reagendada) {
+                    assembleia.reagendar(dto.getAbreEm(), dto.getEncerraEm());
+                }
                 Assembleia savedAssembleia = assembleiaRepository.save(assembleia);
+                assembleiaAbertaCache.invalidar(id);
+                resultadoEncerradoCache.invalidar(id);
+                
+                if (reagendada) {
+                    eventPublisher.publishEvent(AssembleiaAgendadaEvent.of(savedAssembleia));
+                }
                 
                 log.info("Assembleia atualizada: {}", id);
                 
@@ -159,10 +270,143 @@ public class AssembleiaService {
             });
     }
     
+    /**
+     * Abre uma assembleia agendada, liberando o registro de votos.
+     *
+     * @param id identificador da assembleia a ser aberta
+     * @return Optional contendo o DTO da assembleia aberta se encontrada
+     * @throws br.com.dbserver.api.domain.exceptions.InvalidStatusTransitionException se a assembleia não estiver agendada
+     */
+    public Optional<AssembleiaDTO> openById(UUID id) {
+        log.info("Abrindo assembleia: {}", id);
+        
+        return assembleiaRepository.findById(id)
+            .map(assembleia -> {
+                assembleia.open();
+                Assembleia savedAssembleia = assembleiaRepository.save(assembleia);
+                assembleiaAbertaCache.invalidar(id);
+                resultadoEncerradoCache.invalidar(id);
+                
+                log.info("Assembleia aberta: {}", id);
+                
+                return assembleiaMapper.toDTO(savedAssembleia);
+            });
+    }
+    
+    /**
+     * Encerra uma assembleia aberta, impedindo o registro de novos votos, e sela o seu
+     * resultado final.
+     * 
+     * A atualização do status é confirmada em uma transação própria, sem aguardar as gravações
+     * de votos, que não bloqueiam a assembleia: as gravações seguintes encontram a assembleia
+     * encerrada. Antes da apuração, o encerramento aguarda o término das gravações em andamento
+     * nesta instância ({@link VotoGravacoesEmAndamento}), por até
+     * {@code urna.votos.registro.espera-encerramento}. No modo {@code JOURNAL}, o journal passa a
+     * recusar os votos da assembleia e os já gravados são projetados antes do início da transação
+     * de encerramento; se o encerramento não for confirmado, o journal volta a aceitá-los.
+     *
+     * @param id identificador da assembleia a ser encerrada
+     * @return Optional contendo o DTO da assembleia encerrada se encontrada
+     * @throws br.com.dbserver.api.domain.exceptions.InvalidStatusTransitionException se a assembleia já estiver encerrada
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<AssembleiaDTO> closeById(UUID id) {
+        log.info("Encerrando assembleia: {}", id);
+        
+        if (journal.isAtivo()) {
+            journal.encerrar(id);
+        }
+        Optional<AssembleiaDTO> encerrada;
+        try {
+            encerrada = transactionTemplate.execute(status -> assembleiaRepository.findById(id)
+                .map(assembleia -> {
+                    assembleia.close();
+                    return assembleiaMapper.toDTO(assembleiaRepository.save(assembleia));
+                }));
+        } catch (RuntimeException e) {
+            journal.cancelarEncerramento(id);
+            throw e;
+        }
+        if (encerrada == null || encerrada.isEmpty()) {
+            journal.cancelarEncerramento(id);
+            return Optional.empty();
+        }
+        assembleiaAbertaCache.invalidar(id);
+        resultadoEncerradoCache.invalidar(id);
+        
+        if (!gravacoes.aguardar(id, registroConfig.getEsperaEncerramento())) {
+            log.warn("Gravações de votos da assembleia {} ainda em andamento após {}; apurando o resultado assim mesmo",
+                id, registroConfig.getEsperaEncerramento());
+        }
+        transactionTemplate.executeWithoutResult(status -> resultadoFinalService.selar(assembleiaRepository.getReferenceById(id)));
+        
+        log.info("Assembleia encerrada: {}", id);
+        
+        return encerrada;
+    }
+    
+    /**
+     * Executa os prazos de abertura e encerramento automáticos vencidos enquanto a aplicação
+     * estava parada.
+     *
+     * As assembleias são abertas e encerradas em atualizações em lote, sem carregar cada
+     * assembleia. Em seguida, o resultado final das assembleias encerradas que ainda não foram
+     * seladas, automaticamente ou por uma queda entre o encerramento e a selagem, é apurado e
+     * selado, cada um em uma transação. No modo {@code JOURNAL}, o journal passa a recusar os
+     * votos das assembleias vencidas e os já gravados são projetados antes da transação dos
+     * encerramentos; se a projeção não terminar a tempo, os encerramentos em lote são adiados e
+     * executados individualmente pela agenda.
+     *
+     * @param agora data/hora de referência
+     * @return quantidade de assembleias abertas ou encerradas
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int processPrazosVencidos(OffsetDateTime agora) {
+        boolean encerrar = prepararEncerramentoNoJournal(agora);
+        
+        int[] atualizadas = transactionTemplate.execute(status -> new int[] {
+            assembleiaRepository.openAgendadasVencidas(agora),
+            encerrar ? assembleiaRepository.closeVencidas(agora) : 0
+        });
+        int abertas = atualizadas[0];
+        int encerradas = atualizadas[1];
+        
+        for (Assembleia assembleia : assembleiaRepository.findEncerradasSemResultadoFinal()) {
+            transactionTemplate.executeWithoutResult(status ->
+                resultadoFinalService.selar(assembleiaRepository.getReferenceById(assembleia.getIdAssembleia())));
+            assembleiaAbertaCache.invalidar(assembleia.getIdAssembleia());
+        }
+        
+        if (abertas + encerradas > 0) {
+            log.info("Prazos vencidos executados: {} assembleias abertas, {} encerradas", abertas, encerradas);
+        }
+        return abertas + encerradas;
+    }
+    
+    /**
+     * No modo {@code JOURNAL}, recusa os votos das assembleias vencidas e aguarda a projeção dos
+     * já gravados.
+     *
+     * @return {@code false} se a projeção não terminou a tempo e os encerramentos devem ser adiados
+     */
+    private boolean prepararEncerramentoNoJournal(OffsetDateTime agora) {
+        if (!journal.isAtivo()) {
+            return true;
+        }
+        try {
+            journal.encerrar(assembleiaRepository.findIdsVencidas(agora));
+            return true;
+        } catch (IllegalStateException e) {
+            log.warn("Encerramento das assembleias vencidas adiado: {}", e.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Exclui uma assembleia pelo seu identificador.
      * 
-     * Verifica a existência da assembleia antes de proceder com a exclusão.
+     * Verifica a existência da assembleia antes de proceder com a exclusão. Após o commit, a
+     * assembleia é removida também do índice de duplicidade e dos contadores de votos em memória.
      *
      * @param id identificador da assembleia a ser excluída
      * @return true se a assembleia foi excluída, false se não foi encontrada
@@ -172,6 +416,9 @@ public class AssembleiaService {
         
         if (assembleiaRepository.existsById(id)) {
             assembleiaRepository.deleteById(id);
+            resultadoFinalService.descartar(id);
+            assembleiaAbertaCache.invalidar(id);
+            eventPublisher.publishEvent(new AssembleiaExcluidaEvent(id));
             log.info("Assembleia excluída: {}", id);
             return true;
         }
@@ -179,4 +426,10 @@ public class AssembleiaService {
         log.warn("Assembleia não encontrada para exclusão: {}", id);
         return false;
     }
-}
\ No newline at end of file
+    
+    private Pageable ordenacaoPadrao(Pageable pageable) {
+        return pageable.isPaged() && pageable.getSort().isUnsorted()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), AssembleiaSpecifications.ORDENACAO_CURSOR)
+            : pageable;
+    }
+}
@@ -1,14 +1,26 @@
 package br.com.dbserver.api.service;
 
 import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.config.BuscaPautasConfig;
+import br.com.dbserver.api.domain.events.PautaAlteradaEvent;
+import br.com.dbserver.api.domain.events.PautaExcluidaEvent;
 import br.com.dbserver.api.domain.repositories.PautaRepository;
+import br.com.dbserver.api.domain.specifications.PautaSpecifications;
+import br.com.dbserver.api.dto.CursorPaginacao;
+import br.com.dbserver.api.dto.PautaBuscaDTO;
 import br.com.dbserver.api.dto.PautaCreateDTO;
 import br.com.dbserver.api.dto.PautaDTO;
 import br.com.dbserver.api.mapper.PautaMapper;
+import br.com.dbserver.api.service.busca.PautaBuscaPostgres;
+import br.com.dbserver.api.service.busca.PautaTextoIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,23 +44,42 @@ public class PautaService {
     
     private final PautaRepository pautaRepository;
     private final PautaMapper pautaMapper;
+    private final PautaTextoIndex pautaTextoIndex;
+    private final PautaBuscaPostgres pautaBuscaPostgres;
+    private final BuscaPautasConfig buscaConfig;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Construtor que injeta as dependências necessárias para o serviço.
      *
      * @param pautaRepository repositório para operações de persistência de pautas
      * @param pautaMapper mapper para conversão entre entidades e DTOs
+     * @param pautaTextoIndex índice de busca textual em memória, utilizado nos bancos sem busca textual completa
+     * @param pautaBuscaPostgres busca textual completa do PostgreSQL, utilizada quando disponível
+     * @param buscaConfig configuração da busca textual
+     * @param eventPublisher publicador dos eventos de pauta alterada e excluída, consumidos pelo índice de busca
      */
-    public PautaService(PautaRepository pautaRepository, PautaMapper pautaMapper) {
+    public PautaService(PautaRepository pautaRepository,
+                        PautaMapper pautaMapper,
+                        PautaTextoIndex pautaTextoIndex,
+                        PautaBuscaPostgres pautaBuscaPostgres,
+                        BuscaPautasConfig buscaConfig,
+                        ApplicationEventPublisher eventPublisher) {
         this.pautaRepository = pautaRepository;
         this.pautaMapper = pautaMapper;
+        this.pautaTextoIndex = pautaTextoIndex;
+        this.pautaBuscaPostgres = pautaBuscaPostgres;
+        this.buscaConfig = buscaConfig;
+        this.eventPublisher = eventPublisher;
     }
     
     /**
      * Busca pautas aplicando filtros opcionais de texto e data com paginação.
      * 
-     * Permite buscar por texto no título ou descrição e/ou filtrar por intervalo
+     * Permite buscar por texto no título ou descrição ou filtrar por intervalo
      * de datas de criação. Se nenhum filtro for aplicado, retorna todas as pautas.
+     * Os filtros, a paginação e a ordenação são aplicados pelo banco; sem ordenação
+     * informada, as pautas são ordenadas da mais recente para a mais antiga.
      *
      * @param search texto para busca no título ou descrição (opcional)
      * @param dataInicio data inicial do intervalo de busca (opcional)
@@ -63,36 +94,111 @@ public class PautaService {
                                 Pageable pageable) {
         log.debug("Buscando pautas com search='{}', dataInicio={}, dataFim={}", search, dataInicio, dataFim);
         
-        Page<Pauta> pautas;
+        return pautaRepository.findAll(PautaSpecifications.filtrar(search, dataInicio, dataFim), ordenacaoPadrao(pageable))
+            .map(pautaMapper::toDTO);
+    }
+    
+    /**
+     * Busca pautas com os mesmos filtros e a mesma ordenação de
+     * {@link #findBy(String, OffsetDateTime, OffsetDateTime, Pageable)}, sem calcular o total.
+     * 
+     * A consulta de contagem não é executada: o banco lê apenas uma pauta além da página para
+     * indicar se há uma próxima página.
+     *
+     * @param search texto para busca no título ou descrição (opcional)
+     * @param dataInicio data inicial do intervalo de busca (opcional)
+     * @param dataFim data final do intervalo de busca (opcional)
+     * @param pageable configurações de paginação
+     * @return fatia contendo as pautas encontradas
+     */
+    @Transactional(readOnly = true)
+    public Slice<PautaDTO> findSliceBy(String search,
+                                      OffsetDateTime dataInicio,
+                                      OffsetDateTime dataFim,
+                                      Pageable pageable) {
+        log.debug("Buscando pautas sem total com search='{}', dataInicio={}, dataFim={}", search, dataInicio, dataFim);
         
-        if (search != null && !search.trim().isEmpty()) {
-            List<Pauta> titleResults = pautaRepository.findByTituloContainingIgnoreCase(search);
-            List<Pauta> descriptionResults = pautaRepository.findByDescricaoContainingIgnoreCase(search);
-            
-            List<Pauta> combined = titleResults.stream()
-                .distinct()
-                .collect(java.util.stream.Collectors.toList());
-            
-            descriptionResults.stream()
-                .filter(pauta -> !combined.contains(pauta))
-                .forEach(combined::add);
-                
-            pautas = toPage(combined, pageable);
-        } else if (dataInicio != null && dataFim != null) {
-            List<Pauta> list = pautaRepository.findByPeriodoCriacao(dataInicio, dataFim);
-            pautas = toPage(list, pageable);
-        } else {
-            pautas = pautaRepository.findAll(pageable);
+        return pautaRepository.findBy(PautaSpecifications.filtrar(search, dataInicio, dataFim), consulta -> consulta.slice(ordenacaoPadrao(pageable)))
+            .map(pautaMapper::toDTO);
+    }
+    
+    /**
+     * Busca pautas com os mesmos filtros de {@link #findBy(String, OffsetDateTime, OffsetDateTime, Pageable)},
+     * paginando por cursor.
+     * 
+     * As pautas são ordenadas da mais recente para a mais antiga e a página começa logo após a
+     * posição do cursor, localizada pelo banco através do índice de data de criação, sem
+     * percorrer as páginas anteriores. O total de elementos não é calculado.
+     *
+     * @param search texto para busca no título ou descrição (opcional)
+     * @param dataInicio data inicial do intervalo de busca (opcional)
+     * @param dataFim data final do intervalo de busca (opcional)
+     * @param cursor posição da última pauta entregue, ou {@code null} para a primeira página
+     * @param itensPorPagina quantidade de pautas da página
+     * @return fatia contendo as pautas encontradas
+     */
+    @Transactional(readOnly = true)
+    public Slice<PautaDTO> findBy(String search,
+                                 OffsetDateTime dataInicio,
+                                 OffsetDateTime dataFim,
+                                 CursorPaginacao cursor,
+                                 int itensPorPagina) {
+        log.debug("Buscando pautas com search='{}', dataInicio={}, dataFim={}, cursor={}", search, dataInicio, dataFim, cursor);
+        
+        Specification<Pauta> filtro = PautaSpecifications.filtrar(search, dataInicio, dataFim);
+        if (cursor != null) {
+            filtro = filtro.and(PautaSpecifications.aposCursor(cursor.chave(), cursor.id()));
+        }
+        
+        return pautaRepository.findBy(filtro, consulta -> consulta.slice(PageRequest.of(0, itensPorPagina, PautaSpecifications.ORDENACAO_CURSOR)))
+            .map(pautaMapper::toDTO);
+    }
+    
+    /**
+     * Busca pautas pelo título e pela descrição, em ordem de relevância, para sugestões
+     * (autocompletar).
+     * 
+     * Todos os termos do texto devem estar presentes na pauta, ignorando acentos e
+     * maiúsculas/minúsculas, e o último termo é tratado como prefixo. No PostgreSQL, a busca
+     * utiliza a busca textual completa do banco, ordenada por relevância (sem desconsiderar
+     * acentos), que enxerga as alterações de todas as instâncias. Nos demais bancos, utiliza o
+     * índice em memória e, enquanto este não estiver pronto, busca por trecho no título ou na
+     * descrição, sem cálculo de relevância.
+     *
+     * @param texto texto buscado
+     * @param limite quantidade máxima de resultados, limitada por {@code urna.pautas.busca.max-resultados}
+     * @return pautas encontradas, da mais para a menos relevante
+     */
+    @Transactional(readOnly = true)
+    public List<PautaBuscaDTO> search(String texto, int limite) {
+        int quantidade = Math.max(1, Math.min(limite, buscaConfig.getMaxResultados()));
+        
+        if (pautaBuscaPostgres.isTextoCompleto()) {
+            String consulta = PautaBuscaPostgres.consulta(texto);
+            if (consulta.isEmpty()) {
+                return List.of();
+            }
+            return pautaRepository.searchTextoCompleto(consulta, quantidade).stream()
+                .map(resultado -> new PautaBuscaDTO((UUID) resultado[0], (String) resultado[1], ((Number) resultado[2]).doubleValue()))
+                .toList();
+        }
+        
+        if (pautaTextoIndex.isPronto()) {
+            return pautaTextoIndex.buscar(texto, quantidade).stream()
+                .map(resultado -> new PautaBuscaDTO(resultado.idPauta(), resultado.titulo(), resultado.relevancia()))
+                .toList();
         }
         
-        return pautas.map(pautaMapper::toDTO);
+        log.debug("Índice de busca de pautas indisponível; buscando '{}' no banco", texto);
+        return pautaRepository.searchByTituloOrDescricao(texto.trim(), PageRequest.of(0, quantidade)).stream()
+            .map(pauta -> new PautaBuscaDTO(pauta.getIdPauta(), pauta.getTitulo(), null))
+            .toList();
     }
     
-    private Page<Pauta> toPage(List<Pauta> list, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), list.size());
-        List<Pauta> subList = start > list.size() ? List.of() : list.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(subList, pageable, list.size());
+    private Pageable ordenacaoPadrao(Pageable pageable) {
+        return pageable.isPaged() && pageable.getSort().isUnsorted()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), PautaSpecifications.ORDENACAO_CURSOR)
+            : pageable;
     }
     
     @Transactional(readOnly = true)
@@ -116,6 +222,7 @@ public class PautaService {
         
         Pauta pauta = pautaMapper.toEntity(dto);
         Pauta savedPauta = pautaRepository.save(pauta);
+        eventPublisher.publishEvent(PautaAlteradaEvent.of(savedPauta));
         
         log.info("Pauta criada com id: {}", savedPauta.getIdPauta());
         
@@ -131,6 +238,7 @@ public class PautaService {
                 pauta.setDescricao(dto.getDescricao());
                 
                 Pauta savedPauta = pautaRepository.save(pauta);
+                eventPublisher.publishEvent(PautaAlteradaEvent.of(savedPauta));
                 
                 log.info("Pauta atualizada: {}", id);
                 
@@ -143,6 +251,7 @@ public class PautaService {
         
         if (pautaRepository.existsById(id)) {
             pautaRepository.deleteById(id);
+            eventPublisher.publishEvent(new PautaExcluidaEvent(id));
             log.info("Pauta excluída: {}", id);
             return true;
         }
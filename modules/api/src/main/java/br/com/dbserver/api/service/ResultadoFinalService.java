@@ -0,0 +1,123 @@
+package br.com.dbserver.api.service;
+
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.ResultadoFinal;
+import br.com.dbserver.api.domain.events.ResultadoSeladoEvent;
+import br.com.dbserver.api.domain.repositories.ResultadoFinalRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.service.cache.ResultadoEncerradoCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serviço responsável por apurar e selar o resultado final das assembleias encerradas.
+ *
+ * No encerramento, os totais mantidos em {@code votos_totais} são conferidos com uma recontagem
+ * independente sobre a tabela {@code votos}, na própria transação da selagem. Se divergirem, a
+ * recontagem, que reflete os votos efetivamente gravados, é selada e o resultado é marcado como
+ * divergente ({@link ResultadoFinal#isDivergente()}), informação exposta nas consultas de
+ * resultado. Os totais selados passam a ser lidos pelas consultas de resultado.
+ *
+ * O resultado é selado uma única vez: todos os caminhos de gravação de votos conferem, na
+ * própria transação de gravação, se a assembleia continua aberta, e o encerramento só sela o
+ * resultado depois de aguardar as gravações em andamento no nó, acompanhadas por
+ * {@link VotoGravacoesEmAndamento}.
+ */
+@Service
+@Transactional
+public class ResultadoFinalService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultadoFinalService.class);
+
+    private final ResultadoFinalRepository resultadoFinalRepository;
+    private final VotoRepository votoRepository;
+    private final ResultadoEncerradoCache resultadoEncerradoCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Construtor que injeta as dependências necessárias para o serviço.
+     *
+     * @param resultadoFinalRepository repositório para persistência dos resultados finais
+     * @param votoRepository repositório para apuração e recontagem dos votos
+     * @param resultadoEncerradoCache cache dos resultados serializados, invalidado a cada apuração
+     * @param eventPublisher publicador do evento de resultado selado, consumido pelo stream de resultados
+     */
+    public ResultadoFinalService(ResultadoFinalRepository resultadoFinalRepository,
+                                 VotoRepository votoRepository,
+                                 ResultadoEncerradoCache resultadoEncerradoCache,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.resultadoFinalRepository = resultadoFinalRepository;
+        this.votoRepository = votoRepository;
+        this.resultadoEncerradoCache = resultadoEncerradoCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Apura e sela o resultado final de uma assembleia encerrada.
+     *
+     * A atualização do status da assembleia deve ter sido enviada ao banco antes da apuração,
+     * para que as gravações de votos em andamento tenham sido confirmadas e as seguintes sejam
+     * recusadas. Após o commit, o resultado selado é enviado aos clientes do stream de resultados
+     * ({@link ResultadoSeladoEvent}).
+     *
+     * @param assembleia assembleia encerrada
+     * @return resultado final selado
+     */
+    public ResultadoFinal selar(Assembleia assembleia) {
+        UUID assembleiaId = assembleia.getIdAssembleia();
+
+        Map<Decisao, Long> contadores = totaisPorDecisao(votoRepository.countVotosByDecisaoForAssembleia(assembleia));
+        Map<Decisao, Long> recontagem = totaisPorDecisao(votoRepository.recountVotosByDecisaoForAssembleia(assembleiaId));
+        boolean divergente = !contadores.equals(recontagem);
+        if (divergente) {
+            log.error("Totais da assembleia {} divergem da recontagem: totais={}, recontagem={}; selando a recontagem",
+                assembleiaId, contadores, recontagem);
+        }
+
+        long concordo = recontagem.get(Decisao.Concordo);
+        long discordo = recontagem.get(Decisao.Discordo);
+        ResultadoFinal resultado = resultadoFinalRepository.findById(assembleiaId)
+            .map(existente -> {
+                existente.apurar(concordo, discordo, divergente);
+                return existente;
+            })
+            .orElseGet(() -> new ResultadoFinal(assembleiaId, concordo, discordo, divergente));
+        ResultadoFinal selado = resultadoFinalRepository.save(resultado);
+
+        resultadoEncerradoCache.invalidar(assembleiaId);
+        eventPublisher.publishEvent(ResultadoSeladoEvent.of(selado));
+        log.info("Resultado final da assembleia {} selado: {} votos, hash {}", assembleiaId, selado.getTotalVotos(), selado.getHash());
+
+        return selado;
+    }
+
+    /**
+     * Remove o resultado final de uma assembleia excluída.
+     *
+     * @param assembleiaId identificador da assembleia
+     */
+    public void descartar(UUID assembleiaId) {
+        resultadoFinalRepository.deleteById(assembleiaId);
+        resultadoEncerradoCache.invalidar(assembleiaId);
+    }
+
+    private Map<Decisao, Long> totaisPorDecisao(List<Object[]> totais) {
+        Map<Decisao, Long> porDecisao = new EnumMap<>(Decisao.class);
+        for (Decisao decisao : Decisao.values()) {
+            porDecisao.put(decisao, 0L);
+        }
+        for (Object[] total : totais) {
+            porDecisao.put((Decisao) total[0], ((Number) total[1]).longValue());
+        }
+        return porDecisao;
+    }
+}
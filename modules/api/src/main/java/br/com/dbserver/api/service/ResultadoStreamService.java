@@ -0,0 +1,346 @@
+package br.com.dbserver.api.service;
+
+import br.com.dbserver.api.config.ResultadoStreamConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.events.AssembleiaExcluidaEvent;
+import br.com.dbserver.api.domain.events.ResultadoSeladoEvent;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.ResultadoParcialDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serviço responsável pelo stream de resultados parciais das assembleias (Server-Sent Events).
+ *
+ * Cada assembleia com clientes conectados possui um canal com contadores em memória, carregados
+ * da tabela {@code votos_totais} na primeira assinatura e incrementados após o commit de cada voto.
+ * Uma thread dedicada verifica os canais a cada {@code intervalo} e, se algum voto foi confirmado
+ * desde o último envio, serializa os totais uma única vez e os envia a todos os clientes do canal.
+ * Assim, o banco é consultado uma vez por assembleia, independentemente da quantidade de clientes.
+ *
+ * Se um voto for confirmado enquanto a contagem inicial é consultada, a consulta é repetida,
+ * pois não é possível saber se ela incluiu o voto; persistindo a concorrência, a última contagem
+ * é aceita. Votos gravados por outras instâncias não são refletidos no stream.
+ *
+ * Quando o resultado final da assembleia é selado, os clientes recebem um evento
+ * {@code encerramento} com os totais selados e a conexão é concluída; o canal é descartado. Um
+ * cliente que se conecta a uma assembleia já encerrada recebe apenas esse evento. O canal também
+ * é descartado quando o último cliente se desconecta ou quando a assembleia é excluída.
+ */
+@Service
+public class ResultadoStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultadoStreamService.class);
+    private static final String EVENTO = "resultado";
+    private static final String EVENTO_ENCERRAMENTO = "encerramento";
+    private static final int TENTATIVAS_CARGA = 3;
+
+    private final AssembleiaRepository assembleiaRepository;
+    private final VotoRepository votoRepository;
+    private final ResultadoStreamConfig config;
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, Canal> canais = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService agendador;
+
+    /**
+     * Construtor que injeta as dependências necessárias para o serviço.
+     *
+     * @param assembleiaRepository repositório para validação das assembleias
+     * @param votoRepository repositório para a contagem inicial dos votos de cada assembleia
+     * @param config configuração do stream de resultados
+     * @param objectMapper serializador dos resultados enviados
+     */
+    public ResultadoStreamService(AssembleiaRepository assembleiaRepository,
+                                  VotoRepository votoRepository,
+                                  ResultadoStreamConfig config,
+                                  ObjectMapper objectMapper) {
+        this.assembleiaRepository = assembleiaRepository;
+        this.votoRepository = votoRepository;
+        this.config = config;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void start() {
+        agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "resultado-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = config.getIntervalo().toMillis();
+        agendador.scheduleWithFixedDelay(this::publicar, intervalo, intervalo, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        agendador.shutdownNow();
+        canais.values().forEach(canal -> canal.clientes.forEach(SseEmitter::complete));
+        canais.clear();
+    }
+
+    /**
+     * Conecta um cliente ao stream de resultados de uma assembleia. O cliente recebe os totais
+     * atuais imediatamente e, em seguida, a cada alteração, até o encerramento da assembleia.
+     *
+     * O cliente é incluído no canal antes da consulta da assembleia: se ela ainda estiver aberta,
+     * o selamento do resultado, posterior ao encerramento, encontra o cliente no canal.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return conexão do cliente, ou vazio se a assembleia não existir
+     */
+    public Optional<SseEmitter> assinar(UUID assembleiaId) {
+        SseEmitter cliente = criarCliente();
+        Canal canal = canais.compute(assembleiaId, (id, existente) -> {
+            Canal atual = existente != null ? existente : new Canal(id);
+            atual.clientes.add(cliente);
+            return atual;
+        });
+
+        Optional<Assembleia> assembleia = assembleiaRepository.findById(assembleiaId);
+        if (assembleia.isEmpty() || assembleia.get().isEncerrada()) {
+            desconectar(canal, cliente);
+            return assembleia.map(encerrada -> encerrar(cliente, assembleiaId));
+        }
+        cliente.onCompletion(() -> desconectar(canal, cliente));
+        cliente.onTimeout(() -> desconectar(canal, cliente));
+        cliente.onError(erro -> desconectar(canal, cliente));
+
+        carregar(canal, assembleia.get());
+        try {
+            enviar(cliente, serializar(canal.resultado()));
+        } catch (IOException e) {
+            desconectar(canal, cliente);
+            cliente.completeWithError(e);
+        }
+        log.debug("Cliente conectado ao stream de resultados da assembleia {}: {} clientes", assembleiaId, canal.clientes.size());
+        return Optional.of(cliente);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onVotoRegistrado(VotoRegistradoEvent event) {
+        Canal canal = canais.get(event.assembleiaId());
+        if (canal != null) {
+            canal.registrar(event.decisao());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onResultadoSelado(ResultadoSeladoEvent event) {
+        Canal canal = canais.remove(event.assembleiaId());
+        if (canal == null) {
+            return;
+        }
+        try {
+            String json = serializar(new ResultadoParcialDTO(event.assembleiaId(), event.concordo(), event.discordo()));
+            canal.clientes.forEach(cliente -> concluir(cliente, json));
+            log.debug("Stream de resultados da assembleia {} encerrado: {} clientes", event.assembleiaId(), canal.clientes.size());
+        } catch (JsonProcessingException e) {
+            log.error("Falha ao enviar o resultado final da assembleia {}", event.assembleiaId(), e);
+            canal.clientes.forEach(SseEmitter::complete);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onAssembleiaExcluida(AssembleiaExcluidaEvent event) {
+        Canal canal = canais.remove(event.assembleiaId());
+        if (canal != null) {
+            canal.clientes.forEach(SseEmitter::complete);
+        }
+    }
+
+    /**
+     * Cria a conexão de um cliente, limitada a {@code urna.resultados.stream.timeout}.
+     */
+    SseEmitter criarCliente() {
+        return new SseEmitter(config.getTimeout().toMillis());
+    }
+
+    /**
+     * Envia os totais dos canais alterados desde o último envio.
+     */
+    void publicar() {
+        for (Canal canal : canais.values()) {
+            if (!canal.alterado.getAndSet(false)) {
+                continue;
+            }
+            ResultadoParcialDTO resultado = canal.resultado();
+            if (resultado.equals(canal.ultimoEnviado)) {
+                continue;
+            }
+            try {
+                String json = serializar(resultado);
+                for (SseEmitter cliente : canal.clientes) {
+                    try {
+                        enviar(cliente, json);
+                    } catch (IOException | IllegalStateException e) {
+                        desconectar(canal, cliente);
+                    }
+                }
+                canal.ultimoEnviado = resultado;
+            } catch (RuntimeException | JsonProcessingException e) {
+                log.error("Falha ao enviar resultados da assembleia {}", canal.assembleiaId, e);
+            }
+        }
+    }
+
+    private void enviar(SseEmitter cliente, String json) throws IOException {
+        cliente.send(SseEmitter.event().name(EVENTO).data(json, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Envia ao cliente de uma assembleia já encerrada o seu resultado e conclui a conexão.
+     */
+    private SseEmitter encerrar(SseEmitter cliente, UUID assembleiaId) {
+        try {
+            ResultadoParcialDTO resultado = votoRepository.findResultadoByAssembleia(assembleiaId)
+                .map(encerrado -> new ResultadoParcialDTO(assembleiaId, encerrado.getConcordo(), encerrado.getDiscordo()))
+                .orElseGet(() -> new ResultadoParcialDTO(assembleiaId, 0, 0));
+            concluir(cliente, serializar(resultado));
+        } catch (JsonProcessingException e) {
+            cliente.completeWithError(e);
+        }
+        return cliente;
+    }
+
+    private void concluir(SseEmitter cliente, String json) {
+        try {
+            cliente.send(SseEmitter.event().name(EVENTO_ENCERRAMENTO).data(json, MediaType.APPLICATION_JSON));
+            cliente.complete();
+        } catch (IOException | IllegalStateException e) {
+            cliente.completeWithError(e);
+        }
+    }
+
+    private String serializar(ResultadoParcialDTO resultado) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(resultado);
+    }
+
+    private void desconectar(Canal canal, SseEmitter cliente) {
+        canal.clientes.remove(cliente);
+        canais.computeIfPresent(canal.assembleiaId, (id, atual) -> atual == canal && atual.clientes.isEmpty() ? null : atual);
+    }
+
+    /**
+     * Executa a contagem inicial do canal, publicando-a somente se nenhum voto da assembleia
+     * tiver sido confirmado durante a consulta.
+     */
+    private void carregar(Canal canal, Assembleia assembleia) {
+        if (canal.carregado) {
+            return;
+        }
+        canal.carga.lock();
+        try {
+            for (int tentativa = 1; tentativa <= TENTATIVAS_CARGA && !canal.carregado; tentativa++) {
+                long eventos = canal.eventos();
+                List<Object[]> totais = votoRepository.countVotosByDecisaoForAssembleia(assembleia);
+                canal.inicializar(totais, tentativa < TENTATIVAS_CARGA ? eventos : -1);
+            }
+        } finally {
+            canal.carga.unlock();
+        }
+    }
+
+    /**
+     * Canal de uma assembleia: clientes conectados e contadores de votos por decisão. Até a
+     * contagem inicial, os votos confirmados são apenas contabilizados em {@code eventos}, sob o
+     * lock {@code estado}, para que a carga detecte votos concorrentes à sua consulta.
+     */
+    private static final class Canal {
+        private final UUID assembleiaId;
+        private final List<SseEmitter> clientes = new CopyOnWriteArrayList<>();
+        private final LongAdder[] contadores = new LongAdder[Decisao.values().length];
+        private final AtomicBoolean alterado = new AtomicBoolean();
+        private final ReentrantLock carga = new ReentrantLock();
+        private final ReentrantLock estado = new ReentrantLock();
+        private long eventos;
+        private volatile boolean carregado;
+        private volatile ResultadoParcialDTO ultimoEnviado;
+
+        Canal(UUID assembleiaId) {
+            this.assembleiaId = assembleiaId;
+            for (Decisao decisao : Decisao.values()) {
+                contadores[decisao.ordinal()] = new LongAdder();
+            }
+        }
+
+        void registrar(Decisao decisao) {
+            if (!carregado) {
+                estado.lock();
+                try {
+                    if (!carregado) {
+                        eventos++;
+                        return;
+                    }
+                } finally {
+                    estado.unlock();
+                }
+            }
+            contadores[decisao.ordinal()].increment();
+            alterado.set(true);
+        }
+
+        long eventos() {
+            estado.lock();
+            try {
+                return eventos;
+            } finally {
+                estado.unlock();
+            }
+        }
+
+        /**
+         * Inicializa os contadores com a contagem consultada, se nenhum voto tiver sido
+         * confirmado desde a leitura de {@code esperados}. Na última tentativa ({@code esperados}
+         * negativo), a contagem é aceita mesmo com votos concorrentes.
+         */
+        void inicializar(List<Object[]> totais, long esperados) {
+            estado.lock();
+            try {
+                if (carregado || (esperados >= 0 && eventos != esperados)) {
+                    return;
+                }
+                for (Object[] total : totais) {
+                    contadores[((Decisao) total[0]).ordinal()].add((Long) total[1]);
+                }
+                carregado = true;
+            } finally {
+                estado.unlock();
+            }
+        }
+
+        ResultadoParcialDTO resultado() {
+            return new ResultadoParcialDTO(
+                assembleiaId,
+                contadores[Decisao.Concordo.ordinal()].sum(),
+                contadores[Decisao.Discordo.ordinal()].sum()
+            );
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.dbserver.api.service;
+
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.VotoDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Serviço responsável pela exportação dos votos de uma assembleia em JSON delimitado por
+ * linhas (NDJSON): um voto por linha, na ordem de registro.
+ *
+ * Os votos são lidos do banco por um cursor, em blocos, e escritos na saída à medida que são
+ * lidos; a memória utilizada não depende da quantidade de votos da assembleia. A saída é
+ * descarregada apenas quando o buffer do serializador enche, e não a cada voto.
+ */
+@Service
+public class VotoExportacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(VotoExportacaoService.class);
+    private static final char SEPARADOR = '\n';
+
+    private final AssembleiaRepository assembleiaRepository;
+    private final VotoRepository votoRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    /**
+     * Construtor que injeta as dependências necessárias para o serviço.
+     *
+     * @param assembleiaRepository repositório para validação das assembleias
+     * @param votoRepository repositório para a leitura dos votos exportados
+     * @param objectMapper serializador dos votos exportados
+     */
+    public VotoExportacaoService(AssembleiaRepository assembleiaRepository,
+                                 VotoRepository votoRepository,
+                                 ObjectMapper objectMapper) {
+        this.assembleiaRepository = assembleiaRepository;
+        this.votoRepository = votoRepository;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(VotoDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Verifica se a assembleia existe, antes do início da exportação.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return {@code true} se a assembleia existir
+     */
+    @Transactional(readOnly = true)
+    public boolean existeAssembleia(UUID assembleiaId) {
+        return assembleiaRepository.existsById(assembleiaId);
+    }
+
+    /**
+     * Escreve os votos da assembleia na saída, um por linha, na ordem de registro.
+     *
+     * A transação de leitura permanece aberta durante toda a escrita. Se a escrita falhar
+     * (por exemplo, quando o cliente encerra a conexão), o cursor é fechado e a falha é propagada.
+     * A saída não é fechada.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param saida saída que recebe os votos
+     * @return quantidade de votos exportados
+     * @throws IOException se a escrita na saída falhar
+     */
+    @Transactional(readOnly = true)
+    public long exportar(UUID assembleiaId, OutputStream saida) throws IOException {
+        log.debug("Exportando votos da assembleia: {}", assembleiaId);
+
+        long exportados = 0;
+        try (Stream<VotoDTO> votos = votoRepository.streamByAssembleiaId(assembleiaId);
+             JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gerador.setRootValueSeparator(null);
+            Iterator<VotoDTO> iterator = votos.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(gerador, iterator.next());
+                gerador.writeRaw(SEPARADOR);
+                exportados++;
+            }
+        }
+
+        log.info("Votos da assembleia {} exportados: {}", assembleiaId, exportados);
+        return exportados;
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.dbserver.api.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Gravações de votos em andamento nesta instância, por assembleia.
+ *
+ * Os caminhos de gravação conferem se a assembleia continua aberta dentro da própria transação,
+ * no comando de inserção ou com uma única consulta por grupo, sem bloquear a linha da
+ * assembleia. Como essa conferência não impede que um encerramento seja confirmado antes do
+ * commit da gravação, cada gravação é registrada aqui antes de iniciar a transação, e o
+ * encerramento, após confirmar o novo status, aguarda o término das gravações registradas antes
+ * de apurar o resultado. Uma gravação registrada depois da confirmação encontra a assembleia
+ * encerrada e é recusada.
+ *
+ * O registro é local: gravações em andamento em outras instâncias não são aguardadas. Com várias
+ * instâncias, um voto cuja inserção tenha começado antes da confirmação do encerramento em outra
+ * instância pode ser confirmado após a apuração; a janela se limita à duração da transação de
+ * gravação, iniciada com a assembleia ainda aberta.
+ */
+@Component
+public class VotoGravacoesEmAndamento {
+
+    private static final long INTERVALO_ESPERA = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Map<UUID, AtomicInteger> emAndamento = new ConcurrentHashMap<>();
+
+    /**
+     * Executa uma gravação de votos, registrada como em andamento para as assembleias informadas
+     * até o seu término, inclusive com falha.
+     *
+     * @param assembleiaIds assembleias dos votos gravados
+     * @param gravacao gravação, que deve conferir o status das assembleias na sua transação
+     * @param <T> tipo do resultado da gravação
+     * @return resultado da gravação
+     */
+    public <T> T executar(Collection<UUID> assembleiaIds, Supplier<T> gravacao) {
+        List<UUID> ids = List.copyOf(Set.copyOf(assembleiaIds));
+        ids.forEach(id -> emAndamento.compute(id, (chave, total) -> {
+            AtomicInteger contador = total != null ? total : new AtomicInteger();
+            contador.incrementAndGet();
+            return contador;
+        }));
+        try {
+            return gravacao.get();
+        } finally {
+            ids.forEach(id -> emAndamento.computeIfPresent(id, (chave, total) -> total.decrementAndGet() == 0 ? null : total));
+        }
+    }
+
+    /**
+     * Aguarda o término das gravações em andamento de uma assembleia. Deve ser chamado após o
+     * commit do encerramento, de modo que nenhuma gravação registrada depois grave votos.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param limite tempo máximo de espera
+     * @return {@code true} se não houver gravações em andamento; {@code false} se o limite se
+     *         esgotar ou a thread for interrompida antes disso
+     */
+    public boolean aguardar(UUID assembleiaId, Duration limite) {
+        long prazo = System.nanoTime() + limite.toNanos();
+        while (emAndamento.containsKey(assembleiaId)) {
+            if (System.nanoTime() - prazo >= 0 || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(INTERVALO_ESPERA);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,349 @@
+package br.com.dbserver.api.service;
+
+import br.com.dbserver.api.config.VotoGroupCommitConfig;
+import br.com.dbserver.api.domain.entities.Voto;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.exceptions.AssembleiaClosedException;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.domain.repositories.MembroRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.service.cache.VotoDuplicidadeIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupa as gravações de votos de requisições concorrentes em transações compartilhadas (group commit).
+ *
+ * Os votos são distribuídos entre {@code lanes} filas pelo hash do identificador da assembleia,
+ * e cada fila é gravada por uma thread exclusiva. Assim, todos os votos de uma assembleia são
+ * gravados em ordem por um único escritor, que confere a duplicidade no
+ * {@link VotoDuplicidadeIndex} imediatamente antes da gravação, sem disputar a restrição única
+ * com outras threads; assembleias diferentes são gravadas em paralelo.
+ *
+ * Cada thread fecha um grupo ao atingir {@code max-batch-size} votos ou quando o primeiro voto
+ * do grupo completa {@code max-wait} de espera. Cada chamador só é liberado após o commit do
+ * grupo que contém o seu voto. Se o commit do grupo falhar, os votos do grupo são regravados
+ * individualmente, de modo que apenas o voto problemático receba o erro.
+ *
+ * A transação de cada grupo confere, com uma única consulta e sem bloqueá-las, quais
+ * assembleias dos seus votos continuam abertas, e grava apenas os votos dessas; os demais são
+ * recusados com {@link AssembleiaClosedException}, pois a validação ocorreu antes, fora desta
+ * transação. Cada grupo é registrado em {@link VotoGravacoesEmAndamento} até o seu término, para
+ * que o encerramento de uma assembleia aguarde os grupos em andamento antes da apuração.
+ * Os votos ainda não gravados quando a thread da fila termina, inclusive por falha inesperada,
+ * ou quando o encerramento da aplicação não aguarda a fila esvaziar, são recusados com erro.
+ */
+@Component
+public class VotoGroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(VotoGroupCommitter.class);
+
+    private final VotoRepository votoRepository;
+    private final AssembleiaRepository assembleiaRepository;
+    private final MembroRepository membroRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final VotoGroupCommitConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VotoDuplicidadeIndex duplicidadeIndex;
+    private final VotoGravacoesEmAndamento gravacoes;
+
+    private volatile boolean ativo;
+    private List<Faixa> faixas = List.of();
+
+    /**
+     * Construtor que injeta as dependências necessárias para o group commit.
+     *
+     * @param votoRepository repositório para gravação dos votos
+     * @param assembleiaRepository repositório para obtenção de referências às assembleias
+     * @param membroRepository repositório para obtenção de referências aos membros
+     * @param transactionManager gerenciador das transações compartilhadas
+     * @param config configuração do group commit
+     * @param eventPublisher publicador dos eventos de voto registrado
+     * @param duplicidadeIndex índice consultado pelo escritor de cada fila antes da gravação
+     * @param gravacoes registro das gravações em andamento, aguardadas pelo encerramento das assembleias
+     */
+    public VotoGroupCommitter(VotoRepository votoRepository,
+                              AssembleiaRepository assembleiaRepository,
+                              MembroRepository membroRepository,
+                              PlatformTransactionManager transactionManager,
+                              VotoGroupCommitConfig config,
+                              ApplicationEventPublisher eventPublisher,
+                              VotoDuplicidadeIndex duplicidadeIndex,
+                              VotoGravacoesEmAndamento gravacoes) {
+        this.votoRepository = votoRepository;
+        this.assembleiaRepository = assembleiaRepository;
+        this.membroRepository = membroRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = config;
+        this.eventPublisher = eventPublisher;
+        this.duplicidadeIndex = duplicidadeIndex;
+        this.gravacoes = gravacoes;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        ativo = true;
+        List<Faixa> criadas = new ArrayList<>(config.getLanes());
+        for (int indice = 0; indice < config.getLanes(); indice++) {
+            Faixa faixa = new Faixa();
+            faixa.worker = new Thread(() -> processar(faixa), "voto-group-commit-" + indice);
+            faixa.worker.setDaemon(true);
+            criadas.add(faixa);
+        }
+        faixas = List.copyOf(criadas);
+        faixas.forEach(faixa -> faixa.worker.start());
+        log.info("Group commit de votos habilitado: lanes={}, maxBatchSize={}, maxWait={}",
+                config.getLanes(), config.getMaxBatchSize(), config.getMaxWait());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        ativo = false;
+        for (Faixa faixa : faixas) {
+            faixa.worker.join(TimeUnit.SECONDS.toMillis(10));
+            if (!faixa.emEspera.isEmpty()) {
+                log.warn("Group commit encerrado com {} votos não gravados", faixa.emEspera.size());
+                recusarEmEspera(faixa, new IllegalStateException("Group commit de votos encerrado antes da gravação do voto"));
+            }
+        }
+    }
+
+    /**
+     * Indica se os votos devem ser gravados por meio do group commit.
+     *
+     * @return {@code true} se o group commit estiver habilitado
+     */
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * Tempo máximo que o chamador deve aguardar o future retornado por {@link #submit(Voto)}.
+     *
+     * @return tempo máximo de espera pela gravação
+     */
+    public Duration getTimeout() {
+        return config.getTimeout();
+    }
+
+    /**
+     * Enfileira um voto já validado para gravação no próximo grupo da fila de sua assembleia.
+     *
+     * Um future cancelado pelo chamador (por exemplo, ao esgotar o tempo de espera) antes da
+     * formação do grupo não é gravado.
+     *
+     * @param voto voto validado e ainda não persistido
+     * @return future concluído após o commit do grupo, ou com a exceção que impediu a gravação
+     * @throws IllegalStateException se o group commit não estiver ativo
+     */
+    public CompletableFuture<Voto> submit(Voto voto) {
+        if (!ativo) {
+            throw new IllegalStateException("Group commit de votos não está ativo");
+        }
+        UUID assembleiaId = voto.getAssembleia().getIdAssembleia();
+        Faixa faixa = faixas.get(Math.floorMod(assembleiaId.hashCode(), faixas.size()));
+        Pendente pendente = new Pendente(voto, new CompletableFuture<>());
+
+        faixa.emEspera.add(pendente);
+        pendente.future().whenComplete((gravado, erro) -> faixa.emEspera.remove(pendente));
+        faixa.fila.add(pendente);
+        if (faixa.encerrada) {
+            pendente.future().completeExceptionally(new IllegalStateException("Group commit de votos não está ativo"));
+        }
+        return pendente.future();
+    }
+
+    /**
+     * Grava os grupos da fila até o encerramento. Ao terminar, inclusive por um {@link Error},
+     * a fila é marcada como encerrada e os votos ainda em espera são recusados; como
+     * {@link #submit(Voto)} registra o voto em espera antes de conferir essa marcação, nenhum
+     * voto enfileirado depois do término fica sem resposta.
+     */
+    private void processar(Faixa faixa) {
+        BlockingQueue<Pendente> fila = faixa.fila;
+        List<Pendente> grupo = new ArrayList<>(config.getMaxBatchSize());
+        Throwable causa = null;
+        try {
+            while (ativo || !fila.isEmpty()) {
+                try {
+                    Pendente primeiro = fila.poll(100, TimeUnit.MILLISECONDS);
+                    if (primeiro == null) {
+                        continue;
+                    }
+                    grupo.add(primeiro);
+
+                    long limite = System.nanoTime() + config.getMaxWait().toNanos();
+                    while (grupo.size() < config.getMaxBatchSize()) {
+                        long restante = limite - System.nanoTime();
+                        Pendente proximo = restante > 0 ? fila.poll(restante, TimeUnit.NANOSECONDS) : fila.poll();
+                        if (proximo == null) {
+                            break;
+                        }
+                        grupo.add(proximo);
+                    }
+
+                    gravacoes.executar(assembleias(grupo), () -> {
+                        gravar(grupo);
+                        return null;
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (RuntimeException e) {
+                    log.error("Falha inesperada no group commit de votos", e);
+                    grupo.forEach(pendente -> pendente.future().completeExceptionally(e));
+                } finally {
+                    grupo.clear();
+                }
+            }
+        } catch (Error e) {
+            causa = e;
+            log.error("Thread do group commit de votos interrompida por falha inesperada", e);
+            throw e;
+        } finally {
+            faixa.encerrada = true;
+            IllegalStateException erro = new IllegalStateException("Group commit de votos encerrado antes da gravação do voto", causa);
+            recusarEmEspera(faixa, erro);
+        }
+    }
+
+    private void recusarEmEspera(Faixa faixa, RuntimeException erro) {
+        for (Pendente pendente : List.copyOf(faixa.emEspera)) {
+            pendente.future().completeExceptionally(erro);
+        }
+    }
+
+    private Set<UUID> assembleias(List<Pendente> grupo) {
+        return grupo.stream()
+            .map(pendente -> pendente.voto().getAssembleia().getIdAssembleia())
+            .collect(Collectors.toSet());
+    }
+
+    private void gravar(List<Pendente> recebidos) {
+        List<Pendente> grupo = descartarDuplicados(recebidos);
+        if (grupo.isEmpty()) {
+            return;
+        }
+        try {
+            List<Pendente> gravados = transactionTemplate.execute(status -> persistir(grupo));
+            gravados.forEach(pendente -> pendente.future().complete(pendente.voto()));
+            log.debug("Group commit gravou {} votos", gravados.size());
+        } catch (RuntimeException e) {
+            if (grupo.size() == 1) {
+                grupo.get(0).future().completeExceptionally(e);
+                return;
+            }
+            log.warn("Group commit de {} votos falhou ({}); gravando individualmente", grupo.size(), e.getMessage());
+            for (Pendente pendente : grupo) {
+                try {
+                    transactionTemplate.execute(status -> persistir(List.of(pendente)))
+                        .forEach(gravado -> gravado.future().complete(gravado.voto()));
+                } catch (RuntimeException individual) {
+                    pendente.future().completeExceptionally(individual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recusa os votos de membros que já votaram, inclusive os repetidos dentro do próprio grupo.
+     * Como a fila é a única escritora das suas assembleias e o índice é atualizado após cada
+     * commit, a conferência reflete todos os votos gravados anteriormente por esta instância.
+     */
+    private List<Pendente> descartarDuplicados(List<Pendente> recebidos) {
+        Set<ChaveVoto> chaves = new HashSet<>();
+        List<Pendente> grupo = new ArrayList<>(recebidos.size());
+        for (Pendente pendente : recebidos) {
+            if (pendente.future().isDone()) {
+                continue;
+            }
+            UUID assembleiaId = pendente.voto().getAssembleia().getIdAssembleia();
+            UUID membroId = pendente.voto().getMembro().getIdMembro();
+            if (duplicidadeIndex.jaVotou(assembleiaId, membroId) || !chaves.add(new ChaveVoto(assembleiaId, membroId))) {
+                pendente.future().completeExceptionally(new IllegalArgumentException("Membro já votou nesta assembleia"));
+            } else {
+                grupo.add(pendente);
+            }
+        }
+        return grupo;
+    }
+
+    /**
+     * Grava os votos cujas assembleias continuam abertas, recusando os demais. O status é
+     * conferido nesta transação, já que as entidades carregadas na validação pertencem a outra
+     * sessão (já encerrada) e podem estar desatualizadas; assembleias e membros são
+     * referenciados por proxies. A gravação conjunta atualiza os totais com um comando por
+     * assembleia e decisão do grupo.
+     *
+     * @return votos gravados
+     */
+    private List<Pendente> persistir(List<Pendente> grupo) {
+        Set<UUID> abertas = Set.copyOf(assembleiaRepository.findIdsAbertas(assembleias(grupo)));
+
+        List<Pendente> gravaveis = new ArrayList<>(grupo.size());
+        for (Pendente pendente : grupo) {
+            if (pendente.future().isDone()) {
+                continue;
+            }
+            UUID assembleiaId = pendente.voto().getAssembleia().getIdAssembleia();
+            if (abertas.contains(assembleiaId)) {
+                gravaveis.add(pendente);
+            } else {
+                pendente.future().completeExceptionally(new AssembleiaClosedException(String.format(
+                    "Assembleia %s está encerrada. Não é possível registrar ou alterar votos.", assembleiaId)));
+            }
+        }
+
+        votoRepository.saveAll(gravaveis.stream()
+            .map(Pendente::voto)
+            .map(voto -> new Voto(
+                voto.getIdVoto(),
+                assembleiaRepository.getReferenceById(voto.getAssembleia().getIdAssembleia()),
+                membroRepository.getReferenceById(voto.getMembro().getIdMembro()),
+                voto.getDecisao(),
+                voto.getRegistradoEm()
+            ))
+            .toList());
+        gravaveis.forEach(pendente -> eventPublisher.publishEvent(VotoRegistradoEvent.of(pendente.voto())));
+        return gravaveis;
+    }
+
+    private record Pendente(Voto voto, CompletableFuture<Voto> future) {
+    }
+
+    private record ChaveVoto(UUID assembleiaId, UUID membroId) {
+    }
+
+    /**
+     * Fila de gravação e sua thread. {@code emEspera} contém os votos enfileirados cujo future
+     * ainda não foi concluído; {@code encerrada} é marcada quando a thread termina.
+     */
+    private static final class Faixa {
+        private final BlockingQueue<Pendente> fila = new LinkedBlockingQueue<>();
+        private final Set<Pendente> emEspera = ConcurrentHashMap.newKeySet();
+        private volatile boolean encerrada;
+        private Thread worker;
+    }
+}
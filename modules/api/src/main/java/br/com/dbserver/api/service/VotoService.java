@@ -1,27 +1,62 @@
 package br.com.dbserver.api.service;
 
+import br.com.dbserver.api.config.VotoRegistroConfig;
 import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
 import br.com.dbserver.api.domain.entities.Membro;
 import br.com.dbserver.api.domain.entities.Pauta;
 import br.com.dbserver.api.domain.entities.Voto;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.exceptions.AssembleiaClosedException;
+import br.com.dbserver.api.domain.exceptions.UrnaException;
 import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
 import br.com.dbserver.api.domain.repositories.MembroRepository;
 import br.com.dbserver.api.domain.repositories.PautaRepository;
 import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import br.com.dbserver.api.dto.ResultadoPautaDTO;
 import br.com.dbserver.api.dto.VotoCreateDTO;
 import br.com.dbserver.api.dto.VotoCreateV2DTO;
 import br.com.dbserver.api.dto.VotoDTO;
+import br.com.dbserver.api.dto.VotoLoteItemDTO;
+import br.com.dbserver.api.dto.VotoLoteResultadoDTO;
+import br.com.dbserver.api.mapper.PautaMapper;
 import br.com.dbserver.api.mapper.VotoMapper;
+import br.com.dbserver.api.service.cache.AssembleiaAbertaCache;
+import br.com.dbserver.api.service.cache.MembroIdentidadeCache;
+import br.com.dbserver.api.service.cache.ResultadoEncerradoCache;
+import br.com.dbserver.api.service.cache.VotoDuplicidadeIndex;
+import br.com.dbserver.api.service.cache.VotoIdempotenciaStore;
+import br.com.dbserver.api.service.cache.VotoTotaisCache;
+import br.com.dbserver.api.service.journal.VotoJournal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.HashMap;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Serviço responsável pela lógica de negócio relacionada aos votos.
@@ -41,6 +76,20 @@ public class VotoService {
     private final MembroRepository membroRepository;
     private final PautaRepository pautaRepository;
     private final VotoMapper votoMapper;
+    private final PautaMapper pautaMapper;
+    private final VotoGroupCommitter groupCommitter;
+    private final VotoGravacoesEmAndamento gravacoes;
+    private final VotoDuplicidadeIndex duplicidadeIndex;
+    private final AssembleiaAbertaCache assembleiaAbertaCache;
+    private final MembroIdentidadeCache membroIdentidadeCache;
+    private final VotoRegistroConfig registroConfig;
+    private final VotoIdempotenciaStore idempotenciaStore;
+    private final VotoJournal journal;
+    private final VotoTotaisCache totaisCache;
+    private final ResultadoEncerradoCache resultadoEncerradoCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
     
     /**
      * Construtor que injeta as dependências necessárias para o serviço.
@@ -50,17 +99,77 @@ public class VotoService {
      * @param membroRepository repositório para validação de membros
      * @param pautaRepository repositório para validação de pautas
      * @param votoMapper mapper para conversão entre entidades e DTOs
+     * @param pautaMapper mapper para conversão da pauta nos resultados de votação
+     * @param groupCommitter agrupador de gravações de votos em transações compartilhadas
+     * @param gravacoes registro das gravações em andamento, aguardadas pelo encerramento das assembleias
+     * @param transactionManager gerenciador de transações usado no registro de votos individuais
+     * @param duplicidadeIndex índice em memória dos membros que já votaram em cada assembleia
+     * @param eventPublisher publicador dos eventos de voto registrado
+     * @param assembleiaAbertaCache cache do estado das assembleias abertas
+     * @param membroIdentidadeCache cache da identidade (CPF, identificador e nome) dos membros
+     * @param registroConfig configuração do modo de registro de votos individuais
+     * @param idempotenciaStore armazenamento dos resultados de votos registrados com chave de idempotência
+     * @param journal journal local de votos, utilizado no modo de registro {@code JOURNAL}
+     * @param totaisCache contadores em memória dos votos das assembleias abertas
+     * @param resultadoEncerradoCache cache dos resultados serializados das assembleias encerradas
      */
     public VotoService(VotoRepository votoRepository,
                       AssembleiaRepository assembleiaRepository,
                       MembroRepository membroRepository,
                       PautaRepository pautaRepository,
-                      VotoMapper votoMapper) {
+                      VotoMapper votoMapper,
+                      PautaMapper pautaMapper,
+                      VotoGroupCommitter groupCommitter,
+                      VotoGravacoesEmAndamento gravacoes,
+                      PlatformTransactionManager transactionManager,
+                      VotoDuplicidadeIndex duplicidadeIndex,
+                      ApplicationEventPublisher eventPublisher,
+                      AssembleiaAbertaCache assembleiaAbertaCache,
+                      MembroIdentidadeCache membroIdentidadeCache,
+                      VotoRegistroConfig registroConfig,
+                      VotoIdempotenciaStore idempotenciaStore,
+                      VotoJournal journal,
+                      VotoTotaisCache totaisCache,
+                      ResultadoEncerradoCache resultadoEncerradoCache) {
         this.votoRepository = votoRepository;
         this.assembleiaRepository = assembleiaRepository;
         this.membroRepository = membroRepository;
         this.pautaRepository = pautaRepository;
         this.votoMapper = votoMapper;
+        this.pautaMapper = pautaMapper;
+        this.groupCommitter = groupCommitter;
+        this.gravacoes = gravacoes;
+        this.duplicidadeIndex = duplicidadeIndex;
+        this.eventPublisher = eventPublisher;
+        this.assembleiaAbertaCache = assembleiaAbertaCache;
+        this.membroIdentidadeCache = membroIdentidadeCache;
+        this.registroConfig = registroConfig;
+        this.idempotenciaStore = idempotenciaStore;
+        this.journal = journal;
+        this.totaisCache = totaisCache;
+        this.resultadoEncerradoCache = resultadoEncerradoCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+    
+    /**
+     * Registra um novo voto em uma assembleia, uma única vez por chave de idempotência.
+     * 
+     * Uma repetição com a mesma chave neste endpoint devolve o voto registrado originalmente, sem
+     * acessar o banco, se atendida pela mesma instância.
+     *
+     * @param dto dados do voto a ser registrado
+     * @param idempotencyKey valor do cabeçalho {@code Idempotency-Key} (opcional)
+     * @return DTO do voto registrado
+     * @throws IllegalArgumentException se assembleia/membro não existir, membro já votou ou a chave foi usada com outros dados
+     * @see VotoIdempotenciaStore
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VotoDTO register(VotoCreateDTO dto, String idempotencyKey) {
+        String impressao = String.join("|", String.valueOf(dto.getAssembleiaId()),
+                String.valueOf(dto.getMembroId()), String.valueOf(dto.getDecisao()));
+        return idempotenciaStore.executar("v1", idempotencyKey, impressao, () -> register(dto));
     }
     
     /**
@@ -72,66 +181,426 @@ public class VotoService {
      * @param dto dados do voto a ser registrado
      * @return DTO do voto registrado
      * @throws IllegalArgumentException se assembleia/membro não existir ou membro já votou
+     * @see VotoRegistroConfig.Modo
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public VotoDTO register(VotoCreateDTO dto) {
         log.info("Registrando voto para assembleia: {}, membro: {}", dto.getAssembleiaId(), dto.getMembroId());
         
-        Assembleia assembleia = assembleiaRepository.findById(dto.getAssembleiaId())
-            .orElseThrow(() -> new IllegalArgumentException("Assembleia não encontrada: " + dto.getAssembleiaId()));
-            
-        Membro membro = membroRepository.findById(dto.getMembroId())
-            .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado: " + dto.getMembroId()));
-        
-        if (votoRepository.existsByAssembleiaAndMembro(assembleia, membro)) {
-            throw new IllegalArgumentException("Membro já votou nesta assembleia");
+        if (registroConfig.getModo() == VotoRegistroConfig.Modo.OTIMISTA) {
+            return registrarOtimista(dto.getAssembleiaId(), dto.getMembroId(), dto.getDecisao());
         }
         
-        Voto voto = new Voto(assembleia, membro, dto.getDecisao());
-        Voto savedVoto = votoRepository.save(voto);
+        Voto savedVoto = gravar(dto.getAssembleiaId(), () -> {
+            Assembleia assembleia = assembleiaAbertaCache.buscar(dto.getAssembleiaId())
+                .orElseThrow(() -> new IllegalArgumentException("Assembleia não encontrada: " + dto.getAssembleiaId()));
+                
+            Membro membro = membroRepository.findById(dto.getMembroId())
+                .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado: " + dto.getMembroId()));
+            
+            if (duplicidadeIndex.jaVotou(assembleia.getIdAssembleia(), membro.getIdMembro())) {
+                throw new IllegalArgumentException("Membro já votou nesta assembleia");
+            }
+            
+            return new Voto(assembleia, membro, dto.getDecisao());
+        });
         
         log.info("Voto registrado com id: {}", savedVoto.getIdVoto());
         
         return votoMapper.toDTO(savedVoto);
     }
     
+    /**
+     * Registra um novo voto usando nome e CPF do membro (V2), uma única vez por chave de idempotência.
+     * 
+     * Uma repetição com a mesma chave neste endpoint devolve o voto registrado originalmente, sem
+     * acessar o banco, se atendida pela mesma instância.
+     *
+     * @param dto dados do voto a ser registrado (V2)
+     * @param idempotencyKey valor do cabeçalho {@code Idempotency-Key} (opcional)
+     * @return DTO do voto registrado
+     * @throws IllegalArgumentException se assembleia/membro não existir, membro já votou ou a chave foi usada com outros dados
+     * @see VotoIdempotenciaStore
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VotoDTO registerV2(VotoCreateV2DTO dto, String idempotencyKey) {
+        String impressao = String.join("|", String.valueOf(dto.getAssembleiaId()),
+                dto.getCpf(), dto.getNome(), String.valueOf(dto.getDecisao()));
+        return idempotenciaStore.executar("v2", idempotencyKey, impressao, () -> registerV2(dto));
+    }
+    
     /**
      * Registra um novo voto em uma assembleia usando nome e CPF do membro (V2).
      * 
      * Valida a existência da assembleia, busca o membro por nome e CPF,
      * verifica se a assembleia está aberta e se o membro ainda não votou nesta assembleia.
+     * O membro é identificado pelo {@link MembroIdentidadeCache} e referenciado por proxy,
+     * sem carregar a entidade.
      *
      * @param dto dados do voto a ser registrado (V2)
      * @return DTO do voto registrado
      * @throws IllegalArgumentException se assembleia/membro não existir ou membro já votou
+     * @see VotoRegistroConfig.Modo
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public VotoDTO registerV2(VotoCreateV2DTO dto) {
         log.info("Registrando voto V2 para assembleia: {}, membro: {} - {}", 
                 dto.getAssembleiaId(), dto.getNome(), dto.getCpf());
         
-        Assembleia assembleia = assembleiaRepository.findById(dto.getAssembleiaId())
-            .orElseThrow(() -> new IllegalArgumentException("Assembleia não encontrada: " + dto.getAssembleiaId()));
-        
-        Optional<Membro> membroOpt = membroRepository.findByCpf(dto.getCpf());
-        if (membroOpt.isEmpty()) {
-            throw new IllegalArgumentException("Membro não encontrado com CPF: " + dto.getCpf());
+        if (registroConfig.getModo() == VotoRegistroConfig.Modo.OTIMISTA) {
+            MembroIdentidadeCache.Identificacao identificacao = identificar(dto);
+            return registrarOtimista(dto.getAssembleiaId(), identificacao.idMembro(), dto.getDecisao());
         }
         
-        Membro membro = membroOpt.get();
+        Voto savedVoto = gravar(dto.getAssembleiaId(), () -> {
+            Assembleia assembleia = assembleiaAbertaCache.buscar(dto.getAssembleiaId())
+                .orElseThrow(() -> new IllegalArgumentException("Assembleia não encontrada: " + dto.getAssembleiaId()));
+            
+            MembroIdentidadeCache.Identificacao identificacao = identificar(dto);
+            Membro membro = membroRepository.getReferenceById(identificacao.idMembro());
+            
+            if (duplicidadeIndex.jaVotou(assembleia.getIdAssembleia(), membro.getIdMembro())) {
+                throw new IllegalArgumentException("Membro já votou nesta assembleia");
+            }
+            
+            return new Voto(assembleia, membro, dto.getDecisao());
+        });
+        
+        log.info("Voto V2 registrado com id: {}", savedVoto.getIdVoto());
         
-        if (!membro.getNome().equalsIgnoreCase(dto.getNome().trim())) {
+        return votoMapper.toDTO(savedVoto);
+    }
+    
+    private MembroIdentidadeCache.Identificacao identificar(VotoCreateV2DTO dto) {
+        MembroIdentidadeCache.Identificacao identificacao = membroIdentidadeCache.identificar(dto.getCpf(), dto.getNome())
+            .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado com CPF: " + dto.getCpf()));
+        
+        if (!identificacao.nomeConfere()) {
             throw new IllegalArgumentException("Nome informado não confere com o nome do membro cadastrado");
         }
+        return identificacao;
+    }
+    
+    /**
+     * Registra um voto no modo {@link VotoRegistroConfig.Modo#OTIMISTA}.
+     * 
+     * O voto é gravado com um único comando ({@code INSERT ... SELECT}) condicionado à assembleia
+     * aberta e ao membro existente, sem consultas de validação nem bloqueios; a decisão depende
+     * apenas da quantidade de linhas inseridas. Se o voto for inserido, o total da decisão é
+     * incrementado em {@code votos_totais} por um segundo comando, na mesma transação; não há
+     * outros comandos no caminho de sucesso. A gravação é registrada em
+     * {@link VotoGravacoesEmAndamento}, para que um encerramento concorrente a aguarde antes da
+     * apuração. Um voto duplicado é rejeitado pela restrição única da tabela. Somente quando
+     * nenhuma linha é inserida a assembleia e o membro são consultados, em outra transação, para
+     * reportar o mesmo erro do modo validado.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param membroId identificador do membro
+     * @param decisao decisão do voto
+     * @return DTO do voto registrado
+     */
+    private VotoDTO registrarOtimista(UUID assembleiaId, UUID membroId, Decisao decisao) {
+        UUID idVoto = UUID.randomUUID();
+        OffsetDateTime registradoEm = OffsetDateTime.now();
         
-        if (votoRepository.existsByAssembleiaAndMembro(assembleia, membro)) {
+        Boolean inserido;
+        try {
+            inserido = gravacoes.executar(List.of(assembleiaId), () -> transactionTemplate.execute(status -> {
+                if (!inserir(idVoto, assembleiaId, membroId, decisao, registradoEm)) {
+                    return false;
+                }
+                eventPublisher.publishEvent(new VotoRegistradoEvent(idVoto, assembleiaId, membroId, decisao));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            duplicidadeIndex.marcar(assembleiaId, membroId);
             throw new IllegalArgumentException("Membro já votou nesta assembleia");
         }
         
-        Voto voto = new Voto(assembleia, membro, dto.getDecisao());
-        Voto savedVoto = votoRepository.save(voto);
+        if (!Boolean.TRUE.equals(inserido)) {
+            throw motivoRecusa(assembleiaId, membroId);
+        }
         
-        log.info("Voto V2 registrado com id: {}", savedVoto.getIdVoto());
+        log.info("Voto registrado com id: {}", idVoto);
         
-        return votoMapper.toDTO(savedVoto);
+        return new VotoDTO(idVoto, assembleiaId, membroId, decisao, registradoEm);
+    }
+    
+    /**
+     * Insere um voto com um comando condicionado à assembleia aberta, sem carregá-la nem
+     * bloqueá-la, e incrementa o total da sua decisão em {@code votos_totais}, com um segundo
+     * comando na mesma transação.
+     *
+     * @return {@code true} se o voto foi inserido; {@code false} se a assembleia não existir ou
+     *         não estiver aberta, ou se o membro não existir
+     */
+    private boolean inserir(UUID idVoto, UUID assembleiaId, UUID membroId, Decisao decisao, OffsetDateTime registradoEm) {
+        if (votoRepository.insertIfAssembleiaAberta(idVoto, assembleiaId, membroId, decisao, registradoEm) == 0) {
+            return false;
+        }
+        votoRepository.incrementarTotal(assembleiaId, decisao, 1);
+        return true;
+    }
+    
+    private RuntimeException motivoRecusa(UUID assembleiaId, UUID membroId) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            Optional<Assembleia> assembleia = assembleiaRepository.findById(assembleiaId);
+            if (assembleia.isEmpty()) {
+                return new IllegalArgumentException("Assembleia não encontrada: " + assembleiaId);
+            }
+            if (!membroRepository.existsById(membroId)) {
+                return new IllegalArgumentException("Membro não encontrado: " + membroId);
+            }
+            return new AssembleiaClosedException(String.format(
+                "Assembleia %s está encerrada. Não é possível registrar ou alterar votos.", assembleiaId));
+        });
+    }
+    
+    /**
+     * Valida e grava um voto individual.
+     * 
+     * Sem group commit, validação e gravação ocorrem na mesma transação. Com group commit,
+     * a validação ocorre em uma transação somente leitura, encerrada antes da espera, e a
+     * gravação é delegada ao {@link VotoGroupCommitter}; o chamador só retorna após o commit
+     * do grupo que contém o seu voto, sem manter uma conexão do pool ocupada enquanto aguarda.
+     * 
+     * A duplicidade é verificada pelo {@link VotoDuplicidadeIndex}; um voto concorrente que
+     * escape ao índice é barrado pela restrição única da tabela e reportado da mesma forma.
+     * A assembleia usada na validação pode ser a cópia desanexada do {@link AssembleiaAbertaCache}
+     * e, com group commit, a validação ocorre fora da transação de gravação; por isso, a gravação
+     * sempre confere novamente se a assembleia continua aberta, sem bloqueá-la: sem group commit,
+     * no próprio comando de inserção; com group commit, uma vez por grupo. A gravação é registrada
+     * em {@link VotoGravacoesEmAndamento}, para que o encerramento a aguarde antes da apuração. Com
+     * group commit, a espera pela gravação é limitada a {@code urna.votos.group-commit.timeout};
+     * ao esgotá-la, o voto ainda não agrupado é descartado e a requisição falha.
+     * 
+     * No modo {@code JOURNAL}, a validação também ocorre em uma transação somente leitura e o voto
+     * é confirmado após a gravação no {@link VotoJournal}, que o projeta na tabela posteriormente.
+     *
+     * @param assembleiaId identificador da assembleia do voto
+     * @param validacao validações de negócio que produzem o voto a ser gravado
+     * @return voto gravado
+     */
+    private Voto gravar(UUID assembleiaId, Supplier<Voto> validacao) {
+        if (journal.isAtivo()) {
+            Voto voto = readOnlyTransactionTemplate.execute(status -> validacao.get());
+            journal.registrar(voto);
+            return voto;
+        }
+        
+        if (!groupCommitter.isEnabled()) {
+            return gravacoes.executar(List.of(assembleiaId), () -> transactionTemplate.execute(status -> {
+                Voto voto = validacao.get();
+                inserirValidado(voto);
+                eventPublisher.publishEvent(VotoRegistradoEvent.of(voto));
+                return voto;
+            }));
+        }
+        
+        Voto voto = readOnlyTransactionTemplate.execute(status -> validacao.get());
+        CompletableFuture<Voto> gravacao = groupCommitter.submit(voto);
+        try {
+            return gravacao.get(groupCommitter.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataIntegrityViolationException) {
+                throw votoDuplicado(voto);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Falha na gravação do voto", e.getCause());
+        } catch (TimeoutException e) {
+            gravacao.cancel(false);
+            throw new IllegalStateException("Tempo esgotado aguardando a gravação do voto: " + voto.getIdVoto());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            gravacao.cancel(false);
+            throw new IllegalStateException("Gravação do voto interrompida: " + voto.getIdVoto());
+        }
+    }
+    
+    /**
+     * Insere um voto já validado, conferindo no próprio comando se a assembleia continua aberta,
+     * pois a validação pode ter utilizado a cópia do {@link AssembleiaAbertaCache}, e o
+     * encerramento pode ter ocorrido depois dela.
+     */
+    private void inserirValidado(Voto voto) {
+        UUID assembleiaId = voto.getAssembleia().getIdAssembleia();
+        boolean inserido;
+        try {
+            inserido = inserir(voto.getIdVoto(), assembleiaId, voto.getMembro().getIdMembro(), voto.getDecisao(), voto.getRegistradoEm());
+        } catch (DataIntegrityViolationException e) {
+            throw votoDuplicado(voto);
+        }
+        if (!inserido) {
+            throw new AssembleiaClosedException(String.format(
+                "Assembleia %s está encerrada. Não é possível registrar ou alterar votos.", assembleiaId));
+        }
+    }
+    
+    private IllegalArgumentException votoDuplicado(Voto voto) {
+        duplicidadeIndex.marcar(voto.getAssembleia().getIdAssembleia(), voto.getMembro().getIdMembro());
+        return new IllegalArgumentException("Membro já votou nesta assembleia");
+    }
+    
+    /**
+     * Registra um lote de votos V2 em uma única transação.
+     * 
+     * Assembleias, membros e votos já existentes são carregados com uma consulta cada,
+     * independentemente do tamanho do lote, e os novos votos são gravados com inserções
+     * em lote do JDBC ({@code hibernate.jdbc.batch_size}). Itens inválidos ou duplicados
+     * (inclusive repetidos dentro do próprio lote) são recusados individualmente, sem
+     * impedir o registro dos demais.
+     * 
+     * Se a gravação do lote for recusada pelo banco, por exemplo por um voto individual
+     * concorrente registrado após a consulta dos votos existentes, os novos votos são regravados
+     * um a um, cada um em sua própria transação; os recusados pela restrição única são
+     * reportados como duplicados.
+     * 
+     * A validação e a gravação ocorrem na mesma transação, registrada em
+     * {@link VotoGravacoesEmAndamento}, para que o encerramento de uma assembleia do lote aguarde
+     * o seu commit antes da apuração.
+     * 
+     * No modo {@code JOURNAL}, os novos votos são gravados no {@link VotoJournal} com uma única
+     * gravação em disco, e não na tabela; o journal confere novamente a duplicidade contra os
+     * votos ainda não projetados e recusa os duplicados, reportados como tal, e os votos de
+     * assembleias em encerramento, reportados com erro.
+     *
+     * @param dtos votos a serem registrados
+     * @return resultado consolidado com a situação de cada item, na ordem recebida
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VotoLoteResultadoDTO registerBatchV2(List<VotoCreateV2DTO> dtos) {
+        log.info("Registrando lote de {} votos V2", dtos.size());
+        
+        List<VotoLoteItemDTO> itens = new ArrayList<>(dtos.size());
+        Map<Integer, Voto> novosVotos = new LinkedHashMap<>();
+        
+        if (journal.isAtivo()) {
+            transactionTemplate.executeWithoutResult(status -> validarLote(dtos, itens, novosVotos));
+            Set<Voto> recusados = Collections.newSetFromMap(new IdentityHashMap<>());
+            recusados.addAll(journal.registrarLote(List.copyOf(novosVotos.values())));
+            novosVotos.forEach((indice, voto) -> {
+                UUID assembleiaId = voto.getAssembleia().getIdAssembleia();
+                if (recusados.contains(voto) && journal.isEncerrada(assembleiaId)) {
+                    itens.set(indice, VotoLoteItemDTO.erro(indice, String.format(
+                        "Assembleia %s está encerrada. Não é possível registrar ou alterar votos.", assembleiaId)));
+                } else if (recusados.contains(voto)) {
+                    itens.set(indice, VotoLoteItemDTO.duplicado(indice, "Membro já votou nesta assembleia"));
+                }
+            });
+        } else {
+            Set<UUID> assembleiaIds = dtos.stream()
+                .map(VotoCreateV2DTO::getAssembleiaId)
+                .collect(Collectors.toSet());
+            gravacoes.executar(assembleiaIds, () -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        validarLote(dtos, itens, novosVotos);
+                        votoRepository.saveAllAndFlush(novosVotos.values());
+                        novosVotos.values().forEach(voto -> eventPublisher.publishEvent(VotoRegistradoEvent.of(voto)));
+                    });
+                } catch (DataIntegrityViolationException e) {
+                    log.warn("Gravação do lote de {} votos falhou ({}); gravando individualmente", novosVotos.size(), e.getMessage());
+                    novosVotos.forEach((indice, voto) -> itens.set(indice, gravarItemLote(indice, voto)));
+                }
+                return null;
+            });
+        }
+        
+        VotoLoteResultadoDTO resultado = new VotoLoteResultadoDTO(itens);
+        log.info("Lote V2 processado: {} registrados, {} duplicados, {} com erro",
+                resultado.getTotalRegistrados(), resultado.getTotalDuplicados(), resultado.getTotalErros());
+        
+        return resultado;
+    }
+    
+    /**
+     * Valida os itens do lote, preenchendo a situação de cada item, na ordem recebida, e os
+     * novos votos a gravar, indexados pela posição do item.
+     */
+    private void validarLote(List<VotoCreateV2DTO> dtos, List<VotoLoteItemDTO> itens, Map<Integer, Voto> novosVotos) {
+        Set<UUID> assembleiaIds = dtos.stream()
+            .map(VotoCreateV2DTO::getAssembleiaId)
+            .collect(Collectors.toSet());
+        Set<String> cpfs = dtos.stream()
+            .map(VotoCreateV2DTO::getCpf)
+            .collect(Collectors.toSet());
+        
+        Map<UUID, Assembleia> assembleias = assembleiaRepository.findAllById(assembleiaIds).stream()
+            .collect(Collectors.toMap(Assembleia::getIdAssembleia, Function.identity()));
+        Map<String, Membro> membros = membroRepository.findByCpfIn(cpfs).stream()
+            .collect(Collectors.toMap(membro -> membro.getCpf().getValue(), Function.identity()));
+        
+        Set<ChaveVoto> votosRegistrados = new HashSet<>();
+        if (!assembleias.isEmpty() && !membros.isEmpty()) {
+            List<UUID> membroIds = membros.values().stream().map(Membro::getIdMembro).toList();
+            for (Object[] par : votoRepository.findVotosExistentes(assembleias.keySet(), membroIds)) {
+                votosRegistrados.add(new ChaveVoto((UUID) par[0], (UUID) par[1]));
+            }
+        }
+        
+        for (int indice = 0; indice < dtos.size(); indice++) {
+            VotoCreateV2DTO dto = dtos.get(indice);
+            
+            Assembleia assembleia = assembleias.get(dto.getAssembleiaId());
+            if (assembleia == null) {
+                itens.add(VotoLoteItemDTO.erro(indice, "Assembleia não encontrada: " + dto.getAssembleiaId()));
+                continue;
+            }
+            
+            Membro membro = membros.get(dto.getCpf());
+            if (membro == null) {
+                itens.add(VotoLoteItemDTO.erro(indice, "Membro não encontrado com CPF: " + dto.getCpf()));
+                continue;
+            }
+            
+            if (!nomeConfere(membro, dto.getNome())) {
+                itens.add(VotoLoteItemDTO.erro(indice, "Nome informado não confere com o nome do membro cadastrado"));
+                continue;
+            }
+            
+            ChaveVoto chave = new ChaveVoto(assembleia.getIdAssembleia(), membro.getIdMembro());
+            if (votosRegistrados.contains(chave)) {
+                itens.add(VotoLoteItemDTO.duplicado(indice, "Membro já votou nesta assembleia"));
+                continue;
+            }
+            
+            try {
+                Voto voto = new Voto(assembleia, membro, dto.getDecisao());
+                novosVotos.put(indice, voto);
+                votosRegistrados.add(chave);
+                itens.add(VotoLoteItemDTO.registrado(indice, votoMapper.toDTO(voto)));
+            } catch (UrnaException | IllegalArgumentException e) {
+                itens.add(VotoLoteItemDTO.erro(indice, e.getMessage()));
+            }
+        }
+    }
+    
+    /**
+     * Grava um voto do lote em sua própria transação, após a recusa da gravação conjunta. As
+     * entidades da transação desfeita não são reaproveitadas: o voto é inserido pelos
+     * identificadores, com o status da assembleia conferido no próprio comando.
+     */
+    private VotoLoteItemDTO gravarItemLote(int indice, Voto voto) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                inserirValidado(voto);
+                eventPublisher.publishEvent(VotoRegistradoEvent.of(voto));
+            });
+            return VotoLoteItemDTO.registrado(indice, votoMapper.toDTO(voto));
+        } catch (IllegalArgumentException e) {
+            return VotoLoteItemDTO.duplicado(indice, e.getMessage());
+        } catch (AssembleiaClosedException e) {
+            return VotoLoteItemDTO.erro(indice, e.getMessage());
+        }
+    }
+    
+    private boolean nomeConfere(Membro membro, String nome) {
+        return membro.getNome().equalsIgnoreCase(nome.trim());
+    }
+    
+    private record ChaveVoto(UUID assembleiaId, UUID membroId) {
     }
     
     /**
@@ -139,66 +608,102 @@ public class VotoService {
      * 
      * Pode retornar resultados consolidados de todas as assembleias de uma pauta
      * ou filtrar por assembleia específica e/ou voto de membro específico.
+     * Sem filtros, as assembleias da pauta e os seus resultados selados são obtidos em uma única
+     * consulta, sem agregar votos; os totais das assembleias ainda sem resultado selado são
+     * obtidos do {@link VotoTotaisCache}. Os totais de uma assembleia aberta filtrada também são
+     * obtidos do {@link VotoTotaisCache}.
      *
      * @param pautaId identificador da pauta
      * @param assembleiaId filtro opcional por assembleia específica
      * @param membroId filtro opcional para verificar voto de membro específico
-     * @return mapa com os dados da pauta e resultados das assembleias
+     * @return dados da pauta e resultados das assembleias
      * @throws IllegalArgumentException se a pauta não for encontrada
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getResultsByPautaId(UUID pautaId, UUID assembleiaId, UUID membroId) {
+    public ResultadoPautaDTO getResultsByPautaId(UUID pautaId, UUID assembleiaId, UUID membroId) {
         log.debug("Obtendo resultados de votação para pauta: {}, assembleia: {}, membro: {}", pautaId, assembleiaId, membroId);
         
         Pauta pauta = pautaRepository.findById(pautaId)
             .orElseThrow(() -> new IllegalArgumentException("Pauta não encontrada: " + pautaId));
         
-        List<Assembleia> assembleias;
+        Assembleia specificAssembly = null;
         
         if (assembleiaId != null) {
-            Assembleia specificAssembly = assembleiaRepository.findById(assembleiaId)
+            specificAssembly = assembleiaRepository.findById(assembleiaId)
                 .orElseThrow(() -> new IllegalArgumentException("Assembleia não encontrada: " + assembleiaId));
                 
             if (!specificAssembly.getPauta().getIdPauta().equals(pautaId)) {
                 throw new IllegalArgumentException("Assembleia não está associada à pauta informada");
             }
-            
-            assembleias = List.of(specificAssembly);
+        }
+        
+        List<ResultadoAssembleiaDTO> assemblyResults;
+        
+        if (membroId != null) {
+            List<Assembleia> assembleias = specificAssembly != null
+                ? List.of(specificAssembly)
+                : assembleiaRepository.findByPautaIdPauta(pautaId);
+            assemblyResults = getMemberResults(assembleias, membroId);
+        } else if (specificAssembly != null && specificAssembly.isOpen()) {
+            assemblyResults = List.of(totaisCache.resultado(specificAssembly));
+        } else if (specificAssembly != null) {
+            assemblyResults = votoRepository.findResultadoByAssembleia(assembleiaId).stream().toList();
         } else {
-            assembleias = assembleiaRepository.findByPautaIdPauta(pautaId);
+            assemblyResults = votoRepository.findResultadosSeladosByPauta(pautaId).stream()
+                .map(resultado -> resultado.getHashResultado() != null ? resultado : resultadoPelosContadores(resultado))
+                .toList();
         }
         
-        List<Map<String, Object>> assemblyResults = assembleias.stream().map(assembly -> {
-            Map<String, Object> result = new HashMap<>();
-            result.put("assembleiaId", assembly.getIdAssembleia());
-            result.put("status", assembly.getStatus());
-            result.put("iniciadaEm", assembly.getIniciadaEm());
-            result.put("finalizadaEm", assembly.getFinalizadaEm());
+        return new ResultadoPautaDTO(pautaMapper.toDTO(pauta), assemblyResults);
+    }
+    
+    /**
+     * Completa o resultado de uma assembleia sem resultado selado com os totais do
+     * {@link VotoTotaisCache}, referenciando a assembleia sem carregá-la.
+     */
+    private ResultadoAssembleiaDTO resultadoPelosContadores(ResultadoAssembleiaDTO resultado) {
+        Map<Decisao, Long> totais = totaisCache.totais(assembleiaRepository.getReferenceById(resultado.getAssembleiaId()));
+        return new ResultadoAssembleiaDTO(resultado.getAssembleiaId(), resultado.getStatus(),
+            resultado.getIniciadaEm(), resultado.getFinalizadaEm(),
+            totais.get(Decisao.Concordo), totais.get(Decisao.Discordo), null);
+    }
+    
+    /**
+     * Obtém o resultado de votação de uma assembleia serializado em JSON, com sua ETag.
+     * 
+     * O resultado de uma assembleia encerrada é calculado uma única vez e servido a partir do
+     * {@link ResultadoEncerradoCache}, sem transação nem acesso ao banco.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return Optional contendo o resultado serializado, ou vazio se a assembleia não existir
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ResultadoEncerradoCache.Resultado> getSerializedResultsByAssembleiaId(UUID assembleiaId) {
+        log.debug("Obtendo resultado de votação da assembleia: {}", assembleiaId);
+        
+        return resultadoEncerradoCache.buscar(assembleiaId);
+    }
+    
+    private List<ResultadoAssembleiaDTO> getMemberResults(List<Assembleia> assembleias, UUID membroId) {
+        Optional<Membro> member = membroRepository.findById(membroId);
+        
+        return assembleias.stream().map(assembly -> {
+            ResultadoAssembleiaDTO result = new ResultadoAssembleiaDTO(
+                assembly.getIdAssembleia(),
+                assembly.getStatus(),
+                assembly.getIniciadaEm(),
+                assembly.getFinalizadaEm()
+            );
             
-            if (membroId != null) {
-                Optional<Membro> member = membroRepository.findById(membroId);
-                if (member.isPresent()) {
-                    Optional<Voto> memberVote = votoRepository.findByAssembleiaAndMembro(assembly, member.get());
-                    result.put("votoMembro", memberVote.map(votoMapper::toDTO).orElse(null));
-                    result.put("membroVotou", memberVote.isPresent());
-                } else {
-                    result.put("error", "Membro não encontrado");
-                }
+            if (member.isPresent()) {
+                Optional<Voto> memberVote = votoRepository.findByAssembleiaAndMembro(assembly, member.get());
+                result.setVotoMembro(memberVote.map(votoMapper::toDTO).orElse(null));
+                result.setMembroVotou(memberVote.isPresent());
             } else {
-                List<Object[]> votingResults = votoRepository.countVotosByDecisaoForAssembleia(assembly);
-                Long totalVotes = votoRepository.countByAssembleia(assembly);
-                
-                result.put("totalVotos", totalVotes);
-                result.put("resultadosPorDecisao", votingResults);
+                result.setMensagem("Membro não encontrado");
             }
             
             return result;
         }).toList();
-        
-        Map<String, Object> response = new HashMap<>();
-        response.put("pauta", pauta);
-        response.put("assembleias", assemblyResults);
-        
-        return response;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+package br.com.dbserver.api.service.agenda;
+
+import br.com.dbserver.api.config.AgendaAssembleiasConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.events.AssembleiaAgendadaEvent;
+import br.com.dbserver.api.domain.exceptions.InvalidStatusTransitionException;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.service.AssembleiaService;
+import br.com.dbserver.api.service.cache.AssembleiaAbertaCache;
+import br.com.dbserver.api.service.cache.VotoDuplicidadeIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agenda da abertura e do encerramento automáticos das assembleias ({@code abreEm} e
+ * {@code encerraEm}).
+ *
+ * Os prazos são mantidos em memória em uma {@link RodaTemporizadores}, avançada por uma única
+ * thread a cada {@code urna.assembleias.agenda.tick}. Pouco antes da abertura de uma assembleia
+ * agendada, o índice de duplicidade de votos é preparado; após a abertura, o estado da
+ * assembleia é carregado no cache, para que a primeira onda de votos não consulte o banco.
+ *
+ * Na inicialização, os prazos vencidos enquanto a aplicação estava parada são executados em
+ * lote pelo {@link AssembleiaService}, e os prazos futuros são carregados na roda.
+ * Com várias instâncias, cada uma agenda os prazos que conhece; a execução repetida de um
+ * prazo já executado por outra instância é ignorada.
+ *
+ * Um reagendamento apenas adiciona os novos prazos à roda. Ao vencer, cada prazo é comparado
+ * com os horários atuais da assembleia e ignorado se estes tiverem sido alterados, o que
+ * descarta os prazos anteriores ao reagendamento, inclusive os agendados por outras instâncias.
+ */
+@Component
+public class AgendaAssembleias {
+
+    private static final Logger log = LoggerFactory.getLogger(AgendaAssembleias.class);
+
+    private final AssembleiaService assembleiaService;
+    private final AssembleiaRepository assembleiaRepository;
+    private final AssembleiaAbertaCache assembleiaAbertaCache;
+    private final VotoDuplicidadeIndex duplicidadeIndex;
+    private final AgendaAssembleiasConfig config;
+
+    private RodaTemporizadores<Prazo> roda;
+    private ScheduledExecutorService agendador;
+
+    /**
+     * Construtor que injeta as dependências necessárias para a agenda.
+     *
+     * @param assembleiaService serviço que executa a abertura e o encerramento das assembleias
+     * @param assembleiaRepository repositório para carga dos prazos pendentes na inicialização
+     * @param assembleiaAbertaCache cache do estado das assembleias abertas, carregado após a abertura
+     * @param duplicidadeIndex índice de duplicidade de votos, preparado antes da abertura
+     * @param config configuração da agenda
+     */
+    public AgendaAssembleias(AssembleiaService assembleiaService,
+                             AssembleiaRepository assembleiaRepository,
+                             AssembleiaAbertaCache assembleiaAbertaCache,
+                             VotoDuplicidadeIndex duplicidadeIndex,
+                             AgendaAssembleiasConfig config) {
+        this.assembleiaService = assembleiaService;
+        this.assembleiaRepository = assembleiaRepository;
+        this.assembleiaAbertaCache = assembleiaAbertaCache;
+        this.duplicidadeIndex = duplicidadeIndex;
+        this.config = config;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!config.isHabilitada()) {
+            log.info("Abertura e encerramento automáticos de assembleias desabilitados");
+            return;
+        }
+
+        long tick = config.getTick().toMillis();
+        synchronized (this) {
+            roda = new RodaTemporizadores<>(tick, System.currentTimeMillis());
+        }
+
+        assembleiaService.processPrazosVencidos(OffsetDateTime.now());
+        List<Assembleia> pendentes = assembleiaRepository.findComPrazoPendente();
+        pendentes.forEach(assembleia -> agendar(AssembleiaAgendadaEvent.of(assembleia)));
+        log.info("Agenda de assembleias iniciada: {} assembleias com prazo pendente", pendentes.size());
+
+        agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "assembleia-agenda");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleAtFixedRate(this::avancar, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onAssembleiaAgendada(AssembleiaAgendadaEvent event) {
+        agendar(event);
+    }
+
+    private synchronized void agendar(AssembleiaAgendadaEvent event) {
+        if (roda == null) {
+            // Antes da inicialização, o prazo é carregado do banco junto com os demais
+            return;
+        }
+        if (event.abreEm() != null) {
+            long abertura = event.abreEm().toInstant().toEpochMilli();
+            roda.agendar(abertura - config.getAquecimento().toMillis(), new Prazo(event.assembleiaId(), Tipo.AQUECIMENTO, abertura));
+            roda.agendar(abertura, new Prazo(event.assembleiaId(), Tipo.ABERTURA, abertura));
+        }
+        if (event.encerraEm() != null) {
+            long encerramento = event.encerraEm().toInstant().toEpochMilli();
+            roda.agendar(encerramento, new Prazo(event.assembleiaId(), Tipo.ENCERRAMENTO, encerramento));
+        }
+    }
+
+    private void avancar() {
+        List<Prazo> vencidos = new ArrayList<>();
+        synchronized (this) {
+            roda.avancar(System.currentTimeMillis(), vencidos);
+        }
+        vencidos.forEach(this::executar);
+    }
+
+    private void executar(Prazo prazo) {
+        try {
+            if (!vigente(prazo)) {
+                log.debug("Prazo de {} da assembleia {} descartado: assembleia reagendada, encerrada ou excluída", prazo.tipo(), prazo.assembleiaId());
+                return;
+            }
+            switch (prazo.tipo()) {
+                case AQUECIMENTO -> duplicidadeIndex.preparar(prazo.assembleiaId());
+                case ABERTURA -> assembleiaService.openById(prazo.assembleiaId())
+                    .ifPresent(aberta -> assembleiaAbertaCache.buscar(prazo.assembleiaId()));
+                case ENCERRAMENTO -> assembleiaService.closeById(prazo.assembleiaId());
+            }
+        } catch (InvalidStatusTransitionException e) {
+            log.debug("Prazo de {} da assembleia {} já executado: {}", prazo.tipo(), prazo.assembleiaId(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Falha ao executar o prazo de {} da assembleia {}", prazo.tipo(), prazo.assembleiaId(), e);
+        }
+    }
+
+    /**
+     * Verifica se o prazo ainda corresponde aos horários e ao status atuais da assembleia.
+     */
+    private boolean vigente(Prazo prazo) {
+        return assembleiaRepository.findById(prazo.assembleiaId())
+            .map(assembleia -> switch (prazo.tipo()) {
+                case AQUECIMENTO, ABERTURA -> assembleia.isAgendada() && mesmoHorario(assembleia.getAbreEm(), prazo.horario());
+                case ENCERRAMENTO -> !assembleia.isEncerrada() && mesmoHorario(assembleia.getEncerraEm(), prazo.horario());
+            })
+            .orElse(false);
+    }
+
+    private static boolean mesmoHorario(OffsetDateTime horario, long horarioMillis) {
+        return horario != null && horario.toInstant().toEpochMilli() == horarioMillis;
+    }
+
+    private enum Tipo {
+        AQUECIMENTO,
+        ABERTURA,
+        ENCERRAMENTO
+    }
+
+    /**
+     * Prazo agendado na roda.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param tipo ação executada no vencimento
+     * @param horario horário de abertura ou de encerramento que originou o prazo, em milissegundos desde a época
+     */
+    private record Prazo(UUID assembleiaId, Tipo tipo, long horario) {
+    }
+}
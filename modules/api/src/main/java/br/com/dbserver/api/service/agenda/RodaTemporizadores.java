@@ -0,0 +1,138 @@
+package br.com.dbserver.api.service.agenda;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roda de temporizadores hierárquica (hierarchical timing wheel).
+ *
+ * O tempo é dividido em ticks de duração fixa. Cada nível possui 64 posições; uma posição do
+ * nível 0 corresponde a um tick e uma posição de cada nível seguinte corresponde a uma volta
+ * completa do nível anterior. Um temporizador é colocado no nível cujo alcance comporta o seu
+ * prazo e, à medida que o tempo avança, desce para os níveis inferiores até expirar no nível 0.
+ * Agendar custa O(1), e cada tick processa apenas as posições que vencem nele,
+ * independentemente da quantidade de temporizadores agendados.
+ *
+ * Com 4 níveis, o alcance é de 64^4 ticks (cerca de 19 dias com ticks de 100 ms); prazos mais
+ * distantes aguardam em uma lista de espera, reavaliada a cada posição do último nível.
+ *
+ * A classe não é thread-safe: o acesso deve ser sincronizado externamente.
+ *
+ * @param <T> tipo da tarefa associada a cada temporizador
+ */
+final class RodaTemporizadores<T> {
+
+    private static final int BITS = 6;
+    private static final int POSICOES = 1 << BITS;
+    private static final int MASCARA = POSICOES - 1;
+    private static final int NIVEIS = 4;
+
+    private final long tickMillis;
+    private final long origemMillis;
+    private final List<List<Temporizador<T>>> posicoes = new ArrayList<>(NIVEIS * POSICOES);
+    private List<Temporizador<T>> espera = new ArrayList<>();
+    private long tickAtual;
+    private int pendentes;
+
+    /**
+     * Cria uma roda vazia.
+     *
+     * @param tickMillis duração de um tick, em milissegundos
+     * @param agoraMillis instante inicial da roda, em milissegundos desde a época
+     */
+    RodaTemporizadores(long tickMillis, long agoraMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Duração do tick deve ser positiva");
+        }
+        this.tickMillis = tickMillis;
+        this.origemMillis = agoraMillis;
+        for (int i = 0; i < NIVEIS * POSICOES; i++) {
+            posicoes.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Agenda uma tarefa. Prazos já vencidos expiram no próximo tick.
+     *
+     * @param prazoMillis instante de expiração, em milissegundos desde a época
+     * @param tarefa tarefa devolvida na expiração
+     */
+    void agendar(long prazoMillis, T tarefa) {
+        long tick = Math.max(-Math.floorDiv(origemMillis - prazoMillis, tickMillis), tickAtual + 1);
+        posicionar(new Temporizador<>(tick, tarefa));
+        pendentes++;
+    }
+
+    /**
+     * Avança a roda até o instante informado, coletando as tarefas dos temporizadores expirados
+     * em ordem de prazo.
+     *
+     * @param agoraMillis instante atual, em milissegundos desde a época
+     * @param expiradas lista que recebe as tarefas expiradas
+     */
+    void avancar(long agoraMillis, List<T> expiradas) {
+        long alvo = Math.floorDiv(agoraMillis - origemMillis, tickMillis);
+        while (tickAtual < alvo) {
+            tickAtual++;
+            cascatear();
+            List<Temporizador<T>> vencidos = posicao(0, tickAtual);
+            for (Temporizador<T> temporizador : vencidos) {
+                expiradas.add(temporizador.tarefa());
+            }
+            pendentes -= vencidos.size();
+            vencidos.clear();
+        }
+    }
+
+    /**
+     * Quantidade de temporizadores ainda não expirados.
+     *
+     * @return quantidade de temporizadores na roda
+     */
+    int pendentes() {
+        return pendentes;
+    }
+
+    /**
+     * Redistribui os temporizadores das posições dos níveis superiores que vencem no tick atual.
+     */
+    private void cascatear() {
+        for (int nivel = 1; nivel < NIVEIS; nivel++) {
+            if ((tickAtual & ((1L << (nivel * BITS)) - 1)) != 0) {
+                return;
+            }
+            redistribuir(posicao(nivel, tickAtual >>> (nivel * BITS)));
+        }
+        if ((tickAtual & ((1L << ((NIVEIS - 1) * BITS)) - 1)) == 0 && !espera.isEmpty()) {
+            List<Temporizador<T>> aguardando = espera;
+            espera = new ArrayList<>();
+            aguardando.forEach(this::posicionar);
+        }
+    }
+
+    private void redistribuir(List<Temporizador<T>> temporizadores) {
+        if (temporizadores.isEmpty()) {
+            return;
+        }
+        List<Temporizador<T>> copia = new ArrayList<>(temporizadores);
+        temporizadores.clear();
+        copia.forEach(this::posicionar);
+    }
+
+    private void posicionar(Temporizador<T> temporizador) {
+        long distancia = temporizador.tick() - tickAtual;
+        int nivel = distancia < POSICOES ? 0 : (63 - Long.numberOfLeadingZeros(distancia)) / BITS;
+        if (nivel >= NIVEIS) {
+            espera.add(temporizador);
+            return;
+        }
+        posicao(nivel, temporizador.tick() >>> (nivel * BITS)).add(temporizador);
+    }
+
+    private List<Temporizador<T>> posicao(int nivel, long indice) {
+        return posicoes.get(nivel * POSICOES + (int) (indice & MASCARA));
+    }
+
+    private record Temporizador<T>(long tick, T tarefa) {
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.dbserver.api.service.busca;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Estruturas de busca textual de pautas específicas do PostgreSQL.
+ *
+ * Quando o dialeto PostgreSQL está ativo, cria (se ainda não existirem):
+ * - a coluna gerada {@code pautas.busca} ({@code tsvector} do título, com peso A, e da
+ *   descrição, com peso B, na configuração {@code portuguese}) e o seu índice GIN, utilizados
+ *   pela busca textual ordenada por relevância ({@code PautaRepository.searchTextoCompleto});
+ * - índices de trigramas ({@code pg_trgm}) sobre {@code lower(titulo)} e {@code lower(descricao)},
+ *   que permitem ao banco atender por índice a busca por trecho com {@code LIKE '%texto%'}
+ *   ({@code PautaRepository.searchByTituloOrDescricao}).
+ *
+ * Em outros bancos (como o H2 dos testes), nada é criado, {@link #isTextoCompleto()} retorna
+ * {@code false} e a busca utiliza apenas as consultas JPQL.
+ */
+@Component
+public class PautaBuscaPostgres {
+
+    private static final Logger log = LoggerFactory.getLogger(PautaBuscaPostgres.class);
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final List<String> TEXTO_COMPLETO = List.of(
+        "ALTER TABLE pautas ADD COLUMN IF NOT EXISTS busca tsvector GENERATED ALWAYS AS (" +
+            "setweight(to_tsvector('portuguese'::regconfig, titulo), 'A') || " +
+            "setweight(to_tsvector('portuguese'::regconfig, descricao), 'B')) STORED",
+        "CREATE INDEX IF NOT EXISTS pautas_busca_idx ON pautas USING gin (busca)"
+    );
+
+    private static final List<String> TRIGRAMAS = List.of(
+        "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+        "CREATE INDEX IF NOT EXISTS pautas_titulo_trgm_idx ON pautas USING gin (lower(titulo) gin_trgm_ops)",
+        "CREATE INDEX IF NOT EXISTS pautas_descricao_trgm_idx ON pautas USING gin (lower(descricao) gin_trgm_ops)"
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    private volatile boolean textoCompleto;
+
+    /**
+     * Construtor que injeta as dependências necessárias.
+     *
+     * @param entityManagerFactory fábrica de EntityManagers, utilizada para identificar o dialeto
+     * @param dataSource conexões para a criação das estruturas
+     */
+    public PautaBuscaPostgres(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    void preparar() {
+        if (!(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof PostgreSQLDialect)) {
+            log.debug("Dialeto diferente do PostgreSQL; busca textual de pautas via JPQL");
+            return;
+        }
+
+        textoCompleto = executar(TEXTO_COMPLETO, "busca textual completa (tsvector)");
+        executar(TRIGRAMAS, "índices de trigramas (pg_trgm)");
+    }
+
+    /**
+     * Indica se a busca textual completa do PostgreSQL está disponível.
+     *
+     * @return {@code true} se o dialeto for PostgreSQL e a coluna {@code busca} estiver criada
+     */
+    public boolean isTextoCompleto() {
+        return textoCompleto;
+    }
+
+    /**
+     * Converte o texto buscado em uma expressão {@code tsquery}: todos os termos devem estar
+     * presentes, e o último é tratado como prefixo. Os termos contêm apenas letras e dígitos,
+     * sem operadores da sintaxe de {@code to_tsquery}.
+     *
+     * @param texto texto buscado
+     * @return expressão para {@code to_tsquery}, ou vazia se o texto não tiver termos
+     */
+    public static String consulta(String texto) {
+        List<String> termos = new ArrayList<>();
+        for (String termo : SEPARADORES.split(texto.toLowerCase(Locale.ROOT))) {
+            if (!termo.isEmpty()) {
+                termos.add(termo);
+            }
+        }
+        if (termos.isEmpty()) {
+            return "";
+        }
+        return String.join(" & ", termos) + ":*";
+    }
+
+    private boolean executar(List<String> comandos, String descricao) {
+        try (Connection conexao = dataSource.getConnection(); Statement statement = conexao.createStatement()) {
+            for (String comando : comandos) {
+                statement.execute(comando);
+            }
+            log.info("Estruturas de busca de pautas no PostgreSQL preparadas: {}", descricao);
+            return true;
+        } catch (SQLException e) {
+            log.warn("Não foi possível preparar {} para a busca de pautas: {}", descricao, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package br.com.dbserver.api.service.busca;
+
+import br.com.dbserver.api.config.BuscaPautasConfig;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.events.PautaAlteradaEvent;
+import br.com.dbserver.api.domain.events.PautaExcluidaEvent;
+import br.com.dbserver.api.domain.repositories.PautaRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória sobre o título e a descrição das pautas.
+ *
+ * Os textos são normalizados (sem acentos, em minúsculas) e divididos em termos; cada termo
+ * aponta para as pautas em que aparece, com um peso que favorece ocorrências no título.
+ * Os termos são mantidos ordenados, de modo que o último termo da busca é tratado como prefixo
+ * (autocompletar). A relevância de cada pauta é a soma, para os termos buscados, do peso do
+ * termo na pauta multiplicado pela sua raridade no índice (IDF); apenas pautas que contêm
+ * todos os termos são retornadas.
+ *
+ * O índice é construído na inicialização, em segundo plano, lendo as pautas em lotes e
+ * processando os textos de cada lote em paralelo. Até a conclusão, {@link #isPronto()}
+ * retorna {@code false} e a busca deve recorrer ao banco. Depois disso, o índice é mantido
+ * pelos eventos {@link PautaAlteradaEvent} e {@link PautaExcluidaEvent}, publicados pelo
+ * {@code PautaService} e aplicados somente após o commit, fora da transação de gravação.
+ *
+ * O índice só é utilizado quando o banco não oferece busca textual completa: no PostgreSQL
+ * ({@link PautaBuscaPostgres#isTextoCompleto()}), ele não é construído e os eventos são
+ * ignorados, sem processar os textos das pautas.
+ *
+ * O índice é local a cada instância: com várias instâncias, as pautas alteradas através das
+ * demais só aparecem nas buscas após a próxima reconstrução completa, executada a cada
+ * {@code urna.pautas.busca.reconstrucao}. A reconstrução monta um novo índice sem bloquear as
+ * buscas, que continuam servidas pelo índice atual até a troca; até lá, os dois ocupam memória.
+ */
+@Component
+public class PautaTextoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PautaTextoIndex.class);
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float PESO_TITULO = 3f;
+    private static final float PESO_DESCRICAO = 1f;
+    private static final double FATOR_PREFIXO = 0.8;
+    private static final UUID INICIO = new UUID(0L, 0L);
+
+    private final PautaRepository pautaRepository;
+    private final PautaBuscaPostgres pautaBuscaPostgres;
+    private final BuscaPautasConfig config;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<UUID> alteradasNaConstrucao = new HashSet<>();
+
+    private Indice indice = new Indice();
+    private volatile boolean pronto;
+    private boolean construindo;
+    private ScheduledExecutorService construcao;
+
+    /**
+     * Construtor que injeta as dependências necessárias para o índice.
+     *
+     * @param pautaRepository repositório utilizado na construção do índice
+     * @param pautaBuscaPostgres busca textual do PostgreSQL, que dispensa o índice quando disponível
+     * @param config configuração do índice
+     */
+    public PautaTextoIndex(PautaRepository pautaRepository, PautaBuscaPostgres pautaBuscaPostgres, BuscaPautasConfig config) {
+        this.pautaRepository = pautaRepository;
+        this.pautaBuscaPostgres = pautaBuscaPostgres;
+        this.config = config;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!config.isHabilitada()) {
+            log.info("Índice de busca de pautas desabilitado");
+            return;
+        }
+        if (pautaBuscaPostgres.isTextoCompleto()) {
+            log.info("Busca textual completa do PostgreSQL disponível; índice de busca de pautas em memória não utilizado");
+            return;
+        }
+        construcao = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "pauta-indice");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalo = config.getReconstrucao().toMillis();
+        if (intervalo > 0) {
+            construcao.scheduleWithFixedDelay(this::construir, 0, intervalo, TimeUnit.MILLISECONDS);
+        } else {
+            construcao.execute(this::construir);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (construcao != null) {
+            construcao.shutdownNow();
+        }
+    }
+
+    /**
+     * Indica se o índice foi construído e pode ser utilizado nas buscas.
+     *
+     * @return {@code true} se o índice estiver pronto
+     */
+    public boolean isPronto() {
+        return pronto;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onPautaAlterada(PautaAlteradaEvent event) {
+        if (!isMantido()) {
+            return;
+        }
+        Documento documento = Documento.de(event.idPauta(), event.titulo(), event.descricao());
+        lock.writeLock().lock();
+        try {
+            registrarAlteracao(documento.id());
+            indice.retirar(documento.id());
+            indice.incluir(documento);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onPautaExcluida(PautaExcluidaEvent event) {
+        if (!isMantido()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            registrarAlteracao(event.idPauta());
+            indice.retirar(event.idPauta());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isMantido() {
+        return config.isHabilitada() && !pautaBuscaPostgres.isTextoCompleto();
+    }
+
+    /**
+     * Busca as pautas que contêm todos os termos do texto informado, sendo o último termo
+     * tratado como prefixo, em ordem decrescente de relevância.
+     *
+     * @param texto texto buscado
+     * @param limite quantidade máxima de resultados
+     * @return pautas encontradas, da mais para a menos relevante
+     */
+    public List<Resultado> buscar(String texto, int limite) {
+        List<String> busca = termosDe(texto);
+        if (busca.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<UUID, Double>> pontuacoes = new ArrayList<>(busca.size());
+            for (int i = 0; i < busca.size(); i++) {
+                Map<UUID, Double> pontuacao = pontuar(busca.get(i), i == busca.size() - 1);
+                if (pontuacao.isEmpty()) {
+                    return List.of();
+                }
+                pontuacoes.add(pontuacao);
+            }
+            pontuacoes.sort(Comparator.comparingInt(Map::size));
+
+            PriorityQueue<Resultado> melhores = new PriorityQueue<>(Comparator.comparingDouble(Resultado::relevancia));
+            candidatas:
+            for (Map.Entry<UUID, Double> candidata : pontuacoes.get(0).entrySet()) {
+                double relevancia = candidata.getValue();
+                for (int i = 1; i < pontuacoes.size(); i++) {
+                    Double pontuacao = pontuacoes.get(i).get(candidata.getKey());
+                    if (pontuacao == null) {
+                        continue candidatas;
+                    }
+                    relevancia += pontuacao;
+                }
+                melhores.add(new Resultado(candidata.getKey(), indice.documentos.get(candidata.getKey()).titulo(), relevancia));
+                if (melhores.size() > limite) {
+                    melhores.poll();
+                }
+            }
+
+            List<Resultado> resultados = new ArrayList<>(melhores);
+            resultados.sort(Comparator.comparingDouble(Resultado::relevancia).reversed()
+                .thenComparing(Resultado::titulo));
+            return resultados;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Pontua as pautas que contêm o termo. Como prefixo, considera os primeiros termos do índice
+     * que começam com ele, e ocorrências que não correspondem ao termo exato valem menos.
+     */
+    private Map<UUID, Double> pontuar(String termo, boolean prefixo) {
+        Map<UUID, Double> pontuacao = new HashMap<>();
+        Map<String, Map<UUID, Float>> correspondentes = prefixo
+            ? indice.termos.subMap(termo, true, termo + Character.MAX_VALUE, false)
+            : indice.termos.subMap(termo, true, termo, true);
+
+        int expansoes = 0;
+        for (Map.Entry<String, Map<UUID, Float>> correspondente : correspondentes.entrySet()) {
+            if (expansoes++ >= config.getMaxExpansoesPrefixo()) {
+                break;
+            }
+            double idf = idf(correspondente.getValue().size());
+            double fator = correspondente.getKey().equals(termo) ? 1 : FATOR_PREFIXO;
+            correspondente.getValue().forEach((id, peso) ->
+                pontuacao.merge(id, peso * idf * fator, Math::max));
+        }
+        return pontuacao;
+    }
+
+    private double idf(int pautasComTermo) {
+        return Math.log(1 + (indice.documentos.size() - pautasComTermo + 0.5) / (pautasComTermo + 0.5));
+    }
+
+    /**
+     * Constrói um novo índice a partir do banco e o coloca no lugar do atual. As pautas alteradas
+     * nesta instância durante a construção são copiadas do índice atual, que já as contém com os
+     * dados mais recentes.
+     */
+    void construir() {
+        long inicio = System.nanoTime();
+        boolean reconstrucao = pronto;
+        lock.writeLock().lock();
+        try {
+            construindo = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Indice novo = new Indice();
+            UUID ultimo = INICIO;
+            List<Pauta> lote;
+            do {
+                lote = pautaRepository.findLoteAposId(ultimo, PageRequest.of(0, config.getTamanhoLote()));
+                if (lote.isEmpty()) {
+                    break;
+                }
+                ultimo = lote.get(lote.size() - 1).getIdPauta();
+                lote.parallelStream().map(Documento::de).toList().forEach(novo::incluir);
+            } while (lote.size() == config.getTamanhoLote());
+
+            lock.writeLock().lock();
+            try {
+                for (UUID idPauta : alteradasNaConstrucao) {
+                    novo.retirar(idPauta);
+                    Documento atual = indice.documentos.get(idPauta);
+                    if (atual != null) {
+                        novo.incluir(atual);
+                    }
+                }
+                indice = novo;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            pronto = true;
+            if (reconstrucao) {
+                log.debug("Índice de busca de pautas reconstruído: {} pautas, {} termos em {} ms",
+                    novo.documentos.size(), novo.termos.size(), (System.nanoTime() - inicio) / 1_000_000);
+            } else {
+                log.info("Índice de busca de pautas construído: {} pautas, {} termos em {} ms",
+                    novo.documentos.size(), novo.termos.size(), (System.nanoTime() - inicio) / 1_000_000);
+            }
+        } catch (RuntimeException e) {
+            if (reconstrucao) {
+                log.error("Falha ao reconstruir o índice de busca de pautas; o índice atual continuará em uso", e);
+            } else {
+                log.error("Falha ao construir o índice de busca de pautas; a busca continuará consultando o banco", e);
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                construindo = false;
+                alteradasNaConstrucao.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void registrarAlteracao(UUID idPauta) {
+        if (construindo) {
+            alteradasNaConstrucao.add(idPauta);
+        }
+    }
+
+    /**
+     * Normaliza o texto, removendo acentos e convertendo para minúsculas, e o divide em termos.
+     */
+    static List<String> termosDe(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        String normalizado = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+        List<String> resultado = new ArrayList<>();
+        for (String termo : SEPARADORES.split(normalizado)) {
+            if (!termo.isEmpty()) {
+                resultado.add(termo);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Pauta encontrada na busca.
+     *
+     * @param idPauta identificador da pauta
+     * @param titulo título da pauta
+     * @param relevancia relevância da pauta para o texto buscado
+     */
+    public record Resultado(UUID idPauta, String titulo, double relevancia) {
+    }
+
+    /**
+     * Termos e pautas de um índice. Cada termo aponta para as pautas em que aparece, com o seu
+     * peso em cada uma.
+     */
+    private static final class Indice {
+        private final NavigableMap<String, Map<UUID, Float>> termos = new TreeMap<>();
+        private final Map<UUID, Documento> documentos = new HashMap<>();
+
+        void incluir(Documento documento) {
+            documentos.put(documento.id(), documento);
+            documento.pesos().forEach((termo, peso) ->
+                termos.computeIfAbsent(termo, t -> new HashMap<>()).put(documento.id(), peso));
+        }
+
+        void retirar(UUID idPauta) {
+            Documento documento = documentos.remove(idPauta);
+            if (documento == null) {
+                return;
+            }
+            for (String termo : documento.pesos().keySet()) {
+                Map<UUID, Float> pautas = termos.get(termo);
+                pautas.remove(idPauta);
+                if (pautas.isEmpty()) {
+                    termos.remove(termo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pauta processada para o índice: o peso de cada termo é a soma das ocorrências no título
+     * e na descrição, ponderadas por campo e saturadas para que textos longos e repetitivos
+     * não dominem a relevância.
+     */
+    private record Documento(UUID id, String titulo, Map<String, Float> pesos) {
+
+        static Documento de(Pauta pauta) {
+            return de(pauta.getIdPauta(), pauta.getTitulo(), pauta.getDescricao());
+        }
+
+        static Documento de(UUID id, String titulo, String descricao) {
+            Map<String, Float> ocorrencias = new HashMap<>();
+            termosDe(titulo).forEach(termo -> ocorrencias.merge(termo, PESO_TITULO, Float::sum));
+            termosDe(descricao).forEach(termo -> ocorrencias.merge(termo, PESO_DESCRICAO, Float::sum));
+            ocorrencias.replaceAll((termo, frequencia) -> frequencia * 2.2f / (frequencia + 1.2f));
+            return new Documento(id, titulo, ocorrencias);
+        }
+    }
+}
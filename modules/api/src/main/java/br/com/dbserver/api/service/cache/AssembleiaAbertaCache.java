@@ -0,0 +1,121 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.entities.StatusAssembleia;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache em memória do estado das assembleias abertas.
+ *
+ * Durante uma votação, cada voto precisa confirmar que a assembleia existe e está aberta.
+ * Como poucas assembleias recebem a maior parte dos votos, o estado delas é mantido em memória
+ * e a consulta ao banco ocorre apenas na primeira vez em que cada assembleia é acessada.
+ * Assembleias encerradas não são armazenadas, pois não recebem votos.
+ *
+ * As alterações de assembleias realizadas pelo {@code AssembleiaService} devem chamar
+ * {@link #invalidar(UUID)}, que remove a entrada imediatamente e novamente após o término
+ * da transação corrente, impedindo que uma leitura concorrente anterior ao commit
+ * recoloque o estado antigo no cache.
+ */
+@Component
+public class AssembleiaAbertaCache {
+
+    private final AssembleiaRepository assembleiaRepository;
+    private final UrnaCacheConfig config;
+    private final Map<UUID, AssembleiaAberta> abertas = new ConcurrentHashMap<>();
+    private final AtomicLong invalidacoes = new AtomicLong();
+
+    /**
+     * Construtor que injeta as dependências necessárias para o cache.
+     *
+     * @param assembleiaRepository repositório utilizado quando a assembleia não está no cache
+     * @param config configuração dos limites das estruturas em memória
+     */
+    public AssembleiaAbertaCache(AssembleiaRepository assembleiaRepository, UrnaCacheConfig config) {
+        this.assembleiaRepository = assembleiaRepository;
+        this.config = config;
+    }
+
+    /**
+     * Busca uma assembleia para validação de votos.
+     *
+     * Assembleias abertas são devolvidas como uma cópia desanexada, construída a partir do cache,
+     * contendo apenas identificador, pauta (somente o identificador), status e data de início.
+     * A cópia não deve ser gravada nem associada diretamente a entidades persistidas; para isso,
+     * utilize {@code AssembleiaRepository.getReferenceById}. Assembleias encerradas são devolvidas
+     * como carregadas do banco.
+     *
+     * @param id identificador da assembleia
+     * @return Optional contendo a assembleia, ou vazio se não existir
+     */
+    public Optional<Assembleia> buscar(UUID id) {
+        AssembleiaAberta aberta = abertas.get(id);
+        if (aberta != null) {
+            return Optional.of(aberta.toAssembleia());
+        }
+
+        long versao = invalidacoes.get();
+        Optional<Assembleia> assembleia = assembleiaRepository.findById(id);
+        assembleia.filter(Assembleia::isOpen).ifPresent(encontrada -> armazenar(encontrada, versao));
+        return assembleia;
+    }
+
+    /**
+     * Remove a assembleia do cache. Deve ser chamado sempre que a assembleia for encerrada,
+     * alterada ou excluída.
+     *
+     * @param id identificador da assembleia
+     */
+    public void invalidar(UUID id) {
+        remover(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remover(id);
+                }
+            });
+        }
+    }
+
+    private void remover(UUID id) {
+        invalidacoes.incrementAndGet();
+        abertas.remove(id);
+    }
+
+    private void armazenar(Assembleia assembleia, long versao) {
+        Iterator<UUID> excedentes = abertas.keySet().iterator();
+        while (abertas.size() >= config.getAssembleiasAbertas().getMaxEntradas() && excedentes.hasNext()) {
+            abertas.remove(excedentes.next());
+        }
+
+        UUID id = assembleia.getIdAssembleia();
+        abertas.put(id, new AssembleiaAberta(id, assembleia.getPauta().getIdPauta(), assembleia.getIniciadaEm()));
+
+        // Uma invalidação durante a consulta pode tornar o estado lido obsoleto
+        if (invalidacoes.get() != versao) {
+            abertas.remove(id);
+        }
+    }
+
+    private record AssembleiaAberta(UUID idAssembleia, UUID pautaId, OffsetDateTime iniciadaEm) {
+
+        Assembleia toAssembleia() {
+            Pauta pauta = new Pauta(pautaId, null, null, null);
+            return new Assembleia(idAssembleia, pauta, StatusAssembleia.Aberta, iniciadaEm, null);
+        }
+    }
+}
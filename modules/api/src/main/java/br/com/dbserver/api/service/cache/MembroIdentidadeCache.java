@@ -0,0 +1,247 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.entities.Membro;
+import br.com.dbserver.api.domain.repositories.MembroRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Cache em memória da identidade dos membros, consultado no registro de votos V2.
+ *
+ * Associa o CPF ao identificador do membro e a um hash do nome normalizado, permitindo
+ * conferir nome e CPF informados no voto sem consultar o banco nem carregar a entidade
+ * {@link Membro}. O CPF é compactado em um {@code long} e os dados ficam em vetores
+ * primitivos de uma tabela de endereçamento aberto (sondagem linear), sem objetos por
+ * membro, de modo que o consumo de memória depende apenas da capacidade configurada.
+ *
+ * Membros ausentes do cache, e nomes que não conferem com o hash armazenado, são confirmados
+ * no banco; assim, uma alteração de nome é refletida na primeira divergência. As leituras
+ * são otimistas ({@link StampedLock}) e só aguardam quando coincidem com uma escrita.
+ */
+@Component
+public class MembroIdentidadeCache {
+
+    private static final int CAPACIDADE_INICIAL = 1024;
+    private static final int CAPACIDADE_LIMITE = 1 << 30;
+    private static final long LIVRE = 0L;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final MembroRepository membroRepository;
+    private final int capacidadeMaxima;
+    private final StampedLock lock = new StampedLock();
+    private Tabela tabela = new Tabela(CAPACIDADE_INICIAL);
+
+    /**
+     * Construtor que injeta as dependências necessárias para o cache.
+     *
+     * @param membroRepository repositório utilizado quando o membro não está no cache
+     * @param config configuração dos limites das estruturas em memória
+     */
+    public MembroIdentidadeCache(MembroRepository membroRepository, UrnaCacheConfig config) {
+        this.membroRepository = membroRepository;
+        this.capacidadeMaxima = capacidadePara(config.getMembros().getMaxMembros());
+    }
+
+    /**
+     * Identifica o membro pelo CPF e confere o nome informado.
+     *
+     * @param cpf CPF do membro, sem formatação
+     * @param nome nome informado, comparado sem diferenciar maiúsculas/minúsculas e espaços nas extremidades
+     * @return Optional contendo a identificação, ou vazio se não houver membro com o CPF
+     */
+    public Optional<Identificacao> identificar(String cpf, String nome) {
+        long chave = compactar(cpf);
+        if (chave != LIVRE) {
+            Identificacao identificacao = consultar(chave, hashNome(nome));
+            if (identificacao != null && identificacao.nomeConfere()) {
+                return Optional.of(identificacao);
+            }
+        }
+
+        Optional<Membro> membro = membroRepository.findByCpf(cpf);
+        if (chave != LIVRE) {
+            membro.ifPresent(encontrado -> armazenar(chave, encontrado));
+        }
+        return membro.map(encontrado -> new Identificacao(
+            encontrado.getIdMembro(),
+            encontrado.getNome().equalsIgnoreCase(nome.trim())
+        ));
+    }
+
+    private Identificacao consultar(long chave, long nome) {
+        long stamp = lock.tryOptimisticRead();
+        Identificacao identificacao = tabela.procurar(chave, nome);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                identificacao = tabela.procurar(chave, nome);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return identificacao;
+    }
+
+    private void armazenar(long chave, Membro membro) {
+        long stamp = lock.writeLock();
+        try {
+            if (!tabela.contem(chave) && tabela.cheia()) {
+                if (tabela.capacidade() >= capacidadeMaxima) {
+                    return;
+                }
+                tabela = tabela.expandir();
+            }
+            UUID id = membro.getIdMembro();
+            tabela.gravar(chave, id.getMostSignificantBits(), id.getLeastSignificantBits(), hashNome(membro.getNome()));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Compacta os 11 dígitos do CPF em um {@code long}, somando 1 para reservar o zero às
+     * posições livres da tabela.
+     *
+     * @return CPF compactado, ou {@link #LIVRE} se o valor não tiver exatamente 11 dígitos
+     */
+    private static long compactar(String cpf) {
+        if (cpf == null || cpf.length() != 11) {
+            return LIVRE;
+        }
+        long valor = 0;
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c < '0' || c > '9') {
+                return LIVRE;
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return valor + 1;
+    }
+
+    /**
+     * Hash FNV-1a de 64 bits do nome sem os espaços das extremidades, normalizando cada caractere
+     * da mesma forma que {@link String#equalsIgnoreCase(String)}.
+     */
+    private static long hashNome(String nome) {
+        int inicio = 0;
+        int fim = nome.length();
+        while (inicio < fim && nome.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        while (fim > inicio && nome.charAt(fim - 1) <= ' ') {
+            fim--;
+        }
+        long hash = FNV_OFFSET;
+        for (int i = inicio; i < fim; i++) {
+            hash ^= Character.toLowerCase(Character.toUpperCase(nome.charAt(i)));
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static int capacidadePara(int maxMembros) {
+        long minima = ((long) maxMembros * 4 + 2) / 3;
+        int capacidade = CAPACIDADE_INICIAL;
+        while (capacidade < minima && capacidade < CAPACIDADE_LIMITE) {
+            capacidade <<= 1;
+        }
+        return capacidade;
+    }
+
+    /**
+     * Resultado da identificação de um membro.
+     *
+     * @param idMembro identificador do membro com o CPF informado
+     * @param nomeConfere indica se o nome informado corresponde ao nome cadastrado
+     */
+    public record Identificacao(UUID idMembro, boolean nomeConfere) {
+    }
+
+    /**
+     * Vetores paralelos da tabela de endereçamento aberto. Uma posição com chave {@link #LIVRE}
+     * está vazia; a ocupação é limitada a 75% para que toda sondagem encontre uma posição vazia.
+     */
+    private static final class Tabela {
+        private final long[] chaves;
+        private final long[] idsAltos;
+        private final long[] idsBaixos;
+        private final long[] nomes;
+        private final int mascara;
+        private int tamanho;
+
+        Tabela(int capacidade) {
+            this.chaves = new long[capacidade];
+            this.idsAltos = new long[capacidade];
+            this.idsBaixos = new long[capacidade];
+            this.nomes = new long[capacidade];
+            this.mascara = capacidade - 1;
+        }
+
+        int capacidade() {
+            return chaves.length;
+        }
+
+        boolean cheia() {
+            return tamanho + 1 > capacidade() / 4 * 3;
+        }
+
+        Identificacao procurar(long chave, long nome) {
+            int posicao = posicao(chave);
+            for (int tentativas = 0; tentativas < chaves.length; tentativas++) {
+                long atual = chaves[posicao];
+                if (atual == LIVRE) {
+                    return null;
+                }
+                if (atual == chave) {
+                    return new Identificacao(new UUID(idsAltos[posicao], idsBaixos[posicao]), nomes[posicao] == nome);
+                }
+                posicao = (posicao + 1) & mascara;
+            }
+            return null;
+        }
+
+        boolean contem(long chave) {
+            return chaves[localizar(chave)] == chave;
+        }
+
+        void gravar(long chave, long idAlto, long idBaixo, long nome) {
+            int posicao = localizar(chave);
+            if (chaves[posicao] == LIVRE) {
+                tamanho++;
+            }
+            idsAltos[posicao] = idAlto;
+            idsBaixos[posicao] = idBaixo;
+            nomes[posicao] = nome;
+            chaves[posicao] = chave;
+        }
+
+        Tabela expandir() {
+            Tabela maior = new Tabela(capacidade() << 1);
+            for (int i = 0; i < chaves.length; i++) {
+                if (chaves[i] != LIVRE) {
+                    maior.gravar(chaves[i], idsAltos[i], idsBaixos[i], nomes[i]);
+                }
+            }
+            return maior;
+        }
+
+        private int localizar(long chave) {
+            int posicao = posicao(chave);
+            while (chaves[posicao] != LIVRE && chaves[posicao] != chave) {
+                posicao = (posicao + 1) & mascara;
+            }
+            return posicao;
+        }
+
+        private int posicao(long chave) {
+            long h = chave * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mascara;
+        }
+    }
+}
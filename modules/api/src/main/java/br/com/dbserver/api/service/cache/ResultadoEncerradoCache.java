@@ -0,0 +1,164 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.StatusAssembleia;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache em memória dos resultados serializados das assembleias encerradas.
+ *
+ * Após o encerramento, o resultado de uma assembleia não muda e todos os participantes consultam
+ * o desfecho ao mesmo tempo. O resultado selado ({@code ResultadoFinal}) é então serializado em
+ * JSON uma única vez, junto com uma ETag forte derivada do conteúdo, e servido a partir do cache
+ * até ser descartado pelo limite {@code urna.cache.resultados-encerrados.max-entradas}. Os totais
+ * selados não mudam, e o resultado é marcado como definitivo; uma assembleia encerrada ainda não
+ * selada tem o resultado calculado a cada consulta.
+ *
+ * Resultados de assembleias abertas são serializados a cada consulta, sem armazenamento, a
+ * partir do {@link AssembleiaAbertaCache} e dos contadores do {@link VotoTotaisCache}, sem
+ * consultas ao banco após a carga dos contadores. Um voto confirmado e as alterações realizadas
+ * pelo {@code AssembleiaService}, inclusive o encerramento, removem a entrada da assembleia, e o
+ * resultado é recalculado na consulta seguinte.
+ */
+@Component
+public class ResultadoEncerradoCache {
+
+    private final VotoRepository votoRepository;
+    private final AssembleiaAbertaCache assembleiaAbertaCache;
+    private final VotoTotaisCache totaisCache;
+    private final ObjectMapper objectMapper;
+    private final UrnaCacheConfig config;
+    private final Map<UUID, Resultado> resultados = new ConcurrentHashMap<>();
+    private final AtomicLong invalidacoes = new AtomicLong();
+
+    /**
+     * Construtor que injeta as dependências necessárias para o cache.
+     *
+     * @param votoRepository repositório utilizado no cálculo dos resultados
+     * @param assembleiaAbertaCache cache do estado das assembleias abertas
+     * @param totaisCache contadores dos votos das assembleias abertas
+     * @param objectMapper serializador dos resultados
+     * @param config configuração dos limites das estruturas em memória
+     */
+    public ResultadoEncerradoCache(VotoRepository votoRepository,
+                                   AssembleiaAbertaCache assembleiaAbertaCache,
+                                   VotoTotaisCache totaisCache,
+                                   ObjectMapper objectMapper,
+                                   UrnaCacheConfig config) {
+        this.votoRepository = votoRepository;
+        this.assembleiaAbertaCache = assembleiaAbertaCache;
+        this.totaisCache = totaisCache;
+        this.objectMapper = objectMapper;
+        this.config = config;
+    }
+
+    /**
+     * Busca o resultado serializado de uma assembleia, calculando-o se não estiver no cache.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return Optional contendo o resultado serializado, ou vazio se a assembleia não existir
+     */
+    public Optional<Resultado> buscar(UUID assembleiaId) {
+        Resultado armazenado = resultados.get(assembleiaId);
+        if (armazenado != null) {
+            return Optional.of(armazenado);
+        }
+
+        long versao = invalidacoes.get();
+        Optional<Assembleia> assembleia = assembleiaAbertaCache.buscar(assembleiaId);
+        if (assembleia.isEmpty()) {
+            return Optional.empty();
+        }
+        if (assembleia.get().isOpen()) {
+            return Optional.of(serializar(totaisCache.resultado(assembleia.get())));
+        }
+        return votoRepository.findResultadoByAssembleia(assembleiaId).map(resultado -> {
+            Resultado serializado = serializar(resultado);
+            if (serializado.definitivo()) {
+                armazenar(assembleiaId, serializado, versao);
+            }
+            return serializado;
+        });
+    }
+
+    /**
+     * Remove o resultado da assembleia do cache, imediatamente e novamente após o término da
+     * transação corrente. Deve ser chamado sempre que a assembleia for alterada ou excluída.
+     *
+     * @param assembleiaId identificador da assembleia
+     */
+    public void invalidar(UUID assembleiaId) {
+        remover(assembleiaId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remover(assembleiaId);
+                }
+            });
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onVotoRegistrado(VotoRegistradoEvent event) {
+        remover(event.assembleiaId());
+    }
+
+    private void remover(UUID assembleiaId) {
+        invalidacoes.incrementAndGet();
+        resultados.remove(assembleiaId);
+    }
+
+    private void armazenar(UUID assembleiaId, Resultado resultado, long versao) {
+        Iterator<UUID> excedentes = resultados.keySet().iterator();
+        while (resultados.size() >= config.getResultadosEncerrados().getMaxEntradas() && excedentes.hasNext()) {
+            resultados.remove(excedentes.next());
+        }
+
+        resultados.put(assembleiaId, resultado);
+
+        // Um voto ou alteração confirmados durante a consulta podem tornar o resultado lido obsoleto
+        if (invalidacoes.get() != versao) {
+            resultados.remove(assembleiaId, resultado);
+        }
+    }
+
+    private Resultado serializar(ResultadoAssembleiaDTO resultado) {
+        try {
+            byte[] conteudo = objectMapper.writeValueAsBytes(resultado);
+            return new Resultado(conteudo, '"' + DigestUtils.md5DigestAsHex(conteudo) + '"',
+                resultado.getStatus() == StatusAssembleia.Encerrada && resultado.getHashResultado() != null);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Resultado de uma assembleia serializado em JSON.
+     *
+     * @param conteudo corpo da resposta
+     * @param etag ETag forte do conteúdo, já delimitada por aspas
+     * @param definitivo indica se o resultado da assembleia encerrada já foi selado e não será mais alterado
+     */
+    public record Resultado(byte[] conteudo, String etag, boolean definitivo) {
+    }
+}
@@ -0,0 +1,231 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.events.AssembleiaExcluidaEvent;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice em memória dos membros que já votaram em cada assembleia.
+ *
+ * Substitui a consulta de existência de voto no caminho de registro. Cada membro recebe
+ * um índice denso (sequencial) na primeira vez em que aparece, e cada assembleia mantém
+ * um bitmap indexado por esse número, ocupando um bit por membro.
+ *
+ * O bitmap de uma assembleia é construído a partir da tabela {@code votos} no primeiro acesso
+ * e atualizado após o commit de cada voto. Como o índice é local ao processo, votos gravados
+ * por outras instâncias não são vistos imediatamente; a restrição única
+ * {@code votos(assembleia_id, membro_id)} permanece como garantia final contra duplicidade.
+ *
+ * As duas estruturas são limitadas. Ao exceder {@code max-assembleias}, uma assembleia é removida
+ * pelo algoritmo do relógio (segunda chance): as assembleias são percorridas em ordem de entrada
+ * e as acessadas novamente desde a última passagem são poupadas uma vez, com custo amortizado
+ * constante.
+ * A numeração dos membros não pode ser reaproveitada enquanto houver bitmaps que a utilizem; por
+ * isso, ao exceder {@code max-membros}, o índice inteiro é reiniciado e os bitmaps são
+ * recarregados do banco sob demanda.
+ */
+@Component
+public class VotoDuplicidadeIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(VotoDuplicidadeIndex.class);
+
+    private final VotoRepository votoRepository;
+    private final UrnaCacheConfig config;
+    private volatile Estado estado = new Estado();
+
+    /**
+     * Construtor que injeta as dependências necessárias para o índice.
+     *
+     * @param votoRepository repositório utilizado para construir o bitmap de cada assembleia
+     * @param config configuração dos limites das estruturas em memória
+     */
+    public VotoDuplicidadeIndex(VotoRepository votoRepository, UrnaCacheConfig config) {
+        this.votoRepository = votoRepository;
+        this.config = config;
+    }
+
+    /**
+     * Verifica se o membro já possui voto registrado na assembleia.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param membroId identificador do membro
+     * @return {@code true} se o voto do membro já é conhecido pelo índice
+     */
+    public boolean jaVotou(UUID assembleiaId, UUID membroId) {
+        Estado atual = estado;
+        Entrada entrada = carregar(atual, assembleiaId);
+        Integer indice = atual.indicesMembros.get(membroId);
+        return indice != null && entrada.contem(indice);
+    }
+
+    /**
+     * Registra no índice um voto sabidamente gravado no banco.
+     *
+     * Assembleias ainda não carregadas são ignoradas, pois o voto será lido da tabela
+     * quando a assembleia for acessada pela primeira vez.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @param membroId identificador do membro
+     */
+    public void marcar(UUID assembleiaId, UUID membroId) {
+        Estado atual = estado;
+        Entrada entrada = atual.assembleias.get(assembleiaId);
+        if (entrada != null) {
+            entrada.marcar(indice(atual, membroId));
+        }
+    }
+
+    /**
+     * Carrega antecipadamente o bitmap de uma assembleia, para que o primeiro voto não precise
+     * consultar o banco. Utilizado antes da abertura das assembleias agendadas.
+     *
+     * @param assembleiaId identificador da assembleia
+     */
+    public void preparar(UUID assembleiaId) {
+        carregar(estado, assembleiaId);
+    }
+
+    /**
+     * Remove uma assembleia do índice, liberando o seu bitmap.
+     *
+     * @param assembleiaId identificador da assembleia
+     */
+    public void remover(UUID assembleiaId) {
+        Estado atual = estado;
+        atual.assembleias.remove(assembleiaId);
+        atual.ordem.remove(assembleiaId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onVotoRegistrado(VotoRegistradoEvent event) {
+        marcar(event.assembleiaId(), event.membroId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onAssembleiaExcluida(AssembleiaExcluidaEvent event) {
+        remover(event.assembleiaId());
+    }
+
+    private Entrada carregar(Estado atual, UUID assembleiaId) {
+        Entrada entrada = atual.assembleias.get(assembleiaId);
+        if (entrada == null) {
+            Entrada nova = new Entrada();
+            entrada = atual.assembleias.putIfAbsent(assembleiaId, nova);
+            if (entrada == null) {
+                entrada = nova;
+                atual.ordem.add(assembleiaId);
+                limitarTamanho(atual, assembleiaId);
+            }
+        } else {
+            entrada.referenciada = true;
+        }
+
+        if (!entrada.carregada) {
+            entrada.carga.lock();
+            try {
+                if (!entrada.carregada) {
+                    List<UUID> membroIds = votoRepository.findMembroIdsByAssembleiaId(assembleiaId);
+                    for (UUID membroId : membroIds) {
+                        entrada.marcar(indice(atual, membroId));
+                    }
+                    entrada.carregada = true;
+                    log.debug("Índice de votos carregado para assembleia {}: {} votos", assembleiaId, membroIds.size());
+                }
+            } finally {
+                entrada.carga.unlock();
+            }
+        }
+        return entrada;
+    }
+
+    /**
+     * Numera o membro no estado informado. Se a numeração exceder o limite, um novo estado vazio
+     * passa a ser utilizado pelas próximas chamadas; o estado informado permanece consistente
+     * para as chamadas em andamento.
+     */
+    private int indice(Estado atual, UUID membroId) {
+        int indice = atual.indicesMembros.computeIfAbsent(membroId, id -> atual.proximoIndice.getAndIncrement());
+        if (indice >= config.getDuplicidade().getMaxMembros()) {
+            reiniciar(atual);
+        }
+        return indice;
+    }
+
+    private synchronized void reiniciar(Estado esgotado) {
+        if (estado == esgotado) {
+            estado = new Estado();
+            log.info("Índice de votos reiniciado após numerar {} membros", esgotado.indicesMembros.size());
+        }
+    }
+
+    private void limitarTamanho(Estado atual, UUID preservada) {
+        int maximo = config.getDuplicidade().getMaxAssembleias();
+        if (maximo <= 0) {
+            throw new IllegalStateException("Limite do índice de votos deve ser positivo");
+        }
+        while (atual.assembleias.size() > maximo) {
+            UUID candidata = atual.ordem.poll();
+            if (candidata == null) {
+                return;
+            }
+            Entrada entrada = atual.assembleias.get(candidata);
+            if (entrada == null) {
+                continue;
+            }
+            if (entrada.referenciada || candidata.equals(preservada)) {
+                entrada.referenciada = false;
+                atual.ordem.add(candidata);
+            } else {
+                atual.assembleias.remove(candidata, entrada);
+            }
+        }
+    }
+
+    /**
+     * Numeração dos membros e bitmaps das assembleias que a utilizam. {@code ordem} contém as
+     * assembleias do índice na ordem percorrida pelo relógio.
+     */
+    private static final class Estado {
+        private final Map<UUID, Integer> indicesMembros = new ConcurrentHashMap<>();
+        private final AtomicInteger proximoIndice = new AtomicInteger();
+        private final Map<UUID, Entrada> assembleias = new ConcurrentHashMap<>();
+        private final Queue<UUID> ordem = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Bitmap dos membros que votaram em uma assembleia. Marcações feitas durante a carga
+     * inicial são preservadas, pois a carga apenas adiciona bits ao conjunto. A carga, que
+     * consulta o banco, é protegida por um {@link ReentrantLock} em vez de {@code synchronized}
+     * para não prender a thread portadora quando executada em uma virtual thread.
+     */
+    private static final class Entrada {
+        private final BitSet membros = new BitSet();
+        private final ReentrantLock carga = new ReentrantLock();
+        private volatile boolean carregada;
+        private volatile boolean referenciada;
+
+        synchronized boolean contem(int indice) {
+            return membros.get(indice);
+        }
+
+        synchronized void marcar(int indice) {
+            membros.set(indice);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.dto.VotoDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Armazenamento em memória dos votos registrados com o cabeçalho {@code Idempotency-Key}.
+ *
+ * Uma requisição repetida com a mesma chave recebe o resultado do registro original, sem
+ * acessar o banco; se o registro original ainda estiver em andamento, a repetição aguarda
+ * o seu término. Registros que falham não são armazenados, permitindo nova tentativa.
+ *
+ * As chaves são isoladas por escopo (o endpoint que as recebeu): a mesma chave enviada à V1 e à
+ * V2 identifica registros distintos. Elas expiram após {@code urna.cache.idempotencia.ttl} e o
+ * total de chaves é limitado por {@code urna.cache.idempotencia.max-chaves}; ao atingir o limite,
+ * as chaves mais antigas são descartadas.
+ *
+ * O armazenamento é local a cada instância e não sobrevive a reinícios. Uma repetição atendida
+ * por outra instância, ou recebida após um reinício, executa o registro novamente e, se o voto
+ * original foi gravado, é recusada como voto duplicado (409) em vez de devolver o voto original.
+ */
+@Component
+public class VotoIdempotenciaStore {
+
+    private static final Logger log = LoggerFactory.getLogger(VotoIdempotenciaStore.class);
+
+    private final UrnaCacheConfig config;
+    private final Map<Chave, Entrada> entradas = new ConcurrentHashMap<>();
+    private final Queue<Registro> ordem = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Construtor que injeta as dependências necessárias para o armazenamento.
+     *
+     * @param config configuração dos limites das estruturas em memória
+     */
+    public VotoIdempotenciaStore(UrnaCacheConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Executa o registro de um voto uma única vez por chave de idempotência.
+     *
+     * @param escopo endpoint que recebeu a chave, isolando as chaves de endpoints diferentes
+     * @param valor valor do cabeçalho {@code Idempotency-Key}; se ausente, o registro é sempre executado
+     * @param impressao identificação dos dados do voto, usada para recusar a reutilização da chave com outros dados
+     * @param registro registro do voto
+     * @return voto registrado, ou o resultado do registro original da chave
+     * @throws IllegalArgumentException se a chave já tiver sido utilizada com outros dados
+     */
+    public VotoDTO executar(String escopo, String valor, String impressao, Supplier<VotoDTO> registro) {
+        if (valor == null || valor.isBlank()) {
+            return registro.get();
+        }
+
+        Chave chave = new Chave(escopo, valor);
+        long agora = System.nanoTime();
+        descartarExcedentes(agora);
+
+        Entrada nova = new Entrada(impressao, new CompletableFuture<>(), agora + config.getIdempotencia().getTtl().toNanos());
+        Entrada existente = entradas.putIfAbsent(chave, nova);
+        while (existente != null && existente.expiraEm() - agora <= 0) {
+            existente = entradas.replace(chave, existente, nova) ? null : entradas.putIfAbsent(chave, nova);
+        }
+
+        if (existente != null) {
+            if (!existente.impressao().equals(impressao)) {
+                throw new IllegalArgumentException("Idempotency-Key já utilizada em um voto com outros dados");
+            }
+            log.info("Voto repetido com Idempotency-Key {} ({}); devolvendo o resultado original", valor, escopo);
+            return aguardar(existente.resultado());
+        }
+
+        ordem.add(new Registro(chave, nova));
+        try {
+            VotoDTO voto = registro.get();
+            nova.resultado().complete(voto);
+            return voto;
+        } catch (RuntimeException e) {
+            entradas.remove(chave, nova);
+            nova.resultado().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private VotoDTO aguardar(CompletableFuture<VotoDTO> resultado) {
+        try {
+            return resultado.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void descartarExcedentes(long agora) {
+        int maxChaves = config.getIdempotencia().getMaxChaves();
+        Registro registro;
+        while ((registro = ordem.peek()) != null
+                && (registro.entrada().expiraEm() - agora <= 0 || entradas.size() >= maxChaves)) {
+            Registro descartado = ordem.poll();
+            if (descartado != null) {
+                entradas.remove(descartado.chave(), descartado.entrada());
+            }
+        }
+    }
+
+    private record Entrada(String impressao, CompletableFuture<VotoDTO> resultado, long expiraEm) {
+    }
+
+    private record Chave(String escopo, String valor) {
+    }
+
+    private record Registro(Chave chave, Entrada entrada) {
+    }
+}
@@ -0,0 +1,215 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.events.AssembleiaExcluidaEvent;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contadores em memória dos votos de cada assembleia, por decisão, lidos através da tabela
+ * {@code votos_totais}.
+ *
+ * Os contadores de uma assembleia são carregados de {@code votos_totais} no primeiro acesso e,
+ * a partir daí, atualizados somente pelos eventos de commit dos votos registrados nesta
+ * instância, sem novas leituras da tabela; cada contador é um {@link LongAdder}, para que votos
+ * concorrentes na mesma assembleia não disputem a mesma variável. Votos gravados por outras
+ * instâncias não geram eventos locais e só são refletidos quando os contadores da assembleia são
+ * carregados novamente, após o seu descarte pelo limite de assembleias; com várias instâncias,
+ * os resultados parciais de cada uma refletem os votos que ela registrou. O resultado final é
+ * sempre apurado e selado a partir da tabela.
+ *
+ * Se algum voto da assembleia for confirmado enquanto a tabela é lida, não é possível saber se
+ * a leitura o incluiu; a leitura é então repetida e, persistindo a concorrência, o resultado
+ * lido é devolvido sem substituir os contadores. A quantidade de assembleias mantidas é limitada
+ * por {@code urna.cache.totais.max-assembleias}, descartando as carregadas há mais tempo.
+ */
+@Component
+public class VotoTotaisCache {
+
+    private static final Logger log = LoggerFactory.getLogger(VotoTotaisCache.class);
+    private static final int TENTATIVAS_CARGA = 3;
+
+    private final VotoRepository votoRepository;
+    private final UrnaCacheConfig config;
+    private final Map<UUID, Entrada> assembleias = new ConcurrentHashMap<>();
+    private final Queue<UUID> ordem = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Construtor que injeta as dependências necessárias para os contadores.
+     *
+     * @param votoRepository repositório utilizado na leitura dos totais de cada assembleia
+     * @param config configuração dos limites das estruturas em memória
+     */
+    public VotoTotaisCache(VotoRepository votoRepository, UrnaCacheConfig config) {
+        this.votoRepository = votoRepository;
+        this.config = config;
+    }
+
+    /**
+     * Monta o resultado parcial de uma assembleia aberta a partir dos contadores, sem consultas
+     * de agregação.
+     *
+     * @param assembleia assembleia aberta
+     * @return resultado da assembleia com os totais atuais
+     */
+    public ResultadoAssembleiaDTO resultado(Assembleia assembleia) {
+        Map<Decisao, Long> totais = totais(assembleia);
+        return new ResultadoAssembleiaDTO(assembleia.getIdAssembleia(), assembleia.getStatus(),
+            assembleia.getIniciadaEm(), assembleia.getFinalizadaEm(),
+            totais.get(Decisao.Concordo), totais.get(Decisao.Discordo), null);
+    }
+
+    /**
+     * Retorna o total de votos da assembleia por decisão.
+     *
+     * @param assembleia assembleia consultada
+     * @return total de votos de cada decisão, incluindo decisões sem votos
+     */
+    public Map<Decisao, Long> totais(Assembleia assembleia) {
+        Entrada entrada = entrada(assembleia.getIdAssembleia());
+        Contagem contagem = entrada.contagem;
+        if (contagem != null) {
+            return contagem.totais();
+        }
+        entrada.carga.lock();
+        try {
+            contagem = entrada.contagem;
+            if (contagem != null) {
+                return contagem.totais();
+            }
+            return carregar(assembleia, entrada);
+        } finally {
+            entrada.carga.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onVotoRegistrado(VotoRegistradoEvent event) {
+        Entrada entrada = assembleias.get(event.assembleiaId());
+        if (entrada == null) {
+            return;
+        }
+        entrada.eventos.incrementAndGet();
+        Contagem contagem = entrada.contagem;
+        if (contagem != null) {
+            contagem.incrementar(event.decisao());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void onAssembleiaExcluida(AssembleiaExcluidaEvent event) {
+        assembleias.remove(event.assembleiaId());
+        ordem.remove(event.assembleiaId());
+    }
+
+    /**
+     * Lê os totais da tabela, substituindo os contadores somente se nenhum voto da assembleia
+     * tiver sido confirmado nesta instância durante a leitura.
+     */
+    private Map<Decisao, Long> carregar(Assembleia assembleia, Entrada entrada) {
+        Map<Decisao, Long> totais = Map.of();
+        for (int tentativa = 1; tentativa <= TENTATIVAS_CARGA; tentativa++) {
+            long eventos = entrada.eventos.get();
+            totais = consultar(assembleia);
+            if (entrada.eventos.get() == eventos) {
+                entrada.contagem = new Contagem(totais);
+                log.debug("Contadores de votos carregados para assembleia {}: {}", assembleia.getIdAssembleia(), totais);
+                return totais;
+            }
+        }
+        log.debug("Contadores da assembleia {} não atualizados: votos concorrentes durante a leitura", assembleia.getIdAssembleia());
+        return totais;
+    }
+
+    private Map<Decisao, Long> consultar(Assembleia assembleia) {
+        Map<Decisao, Long> totais = new EnumMap<>(Decisao.class);
+        for (Decisao decisao : Decisao.values()) {
+            totais.put(decisao, 0L);
+        }
+        for (Object[] linha : votoRepository.countVotosByDecisaoForAssembleia(assembleia)) {
+            totais.put((Decisao) linha[0], ((Number) linha[1]).longValue());
+        }
+        return totais;
+    }
+
+    private Entrada entrada(UUID assembleiaId) {
+        Entrada entrada = assembleias.get(assembleiaId);
+        if (entrada != null) {
+            return entrada;
+        }
+        Entrada nova = new Entrada();
+        entrada = assembleias.putIfAbsent(assembleiaId, nova);
+        if (entrada != null) {
+            return entrada;
+        }
+        ordem.add(assembleiaId);
+        limitarTamanho(assembleiaId);
+        return nova;
+    }
+
+    private void limitarTamanho(UUID preservada) {
+        int limite = Math.max(1, config.getTotais().getMaxAssembleias());
+        while (assembleias.size() > limite) {
+            UUID excedente = ordem.poll();
+            if (excedente == null) {
+                return;
+            }
+            if (excedente.equals(preservada)) {
+                ordem.add(excedente);
+                continue;
+            }
+            assembleias.remove(excedente);
+        }
+    }
+
+    /**
+     * Estado dos contadores de uma assembleia. Os votos confirmados são contabilizados em
+     * {@code eventos}, para que a carga detecte votos concorrentes à sua leitura.
+     */
+    private static final class Entrada {
+        private final ReentrantLock carga = new ReentrantLock();
+        private final AtomicLong eventos = new AtomicLong();
+        private volatile Contagem contagem;
+    }
+
+    private static final class Contagem {
+        private final LongAdder[] contadores = new LongAdder[Decisao.values().length];
+
+        Contagem(Map<Decisao, Long> iniciais) {
+            for (Decisao decisao : Decisao.values()) {
+                contadores[decisao.ordinal()] = new LongAdder();
+                contadores[decisao.ordinal()].add(iniciais.getOrDefault(decisao, 0L));
+            }
+        }
+
+        void incrementar(Decisao decisao) {
+            contadores[decisao.ordinal()].increment();
+        }
+
+        Map<Decisao, Long> totais() {
+            Map<Decisao, Long> totais = new EnumMap<>(Decisao.class);
+            for (Decisao decisao : Decisao.values()) {
+                totais.put(decisao, contadores[decisao.ordinal()].sum());
+            }
+            return totais;
+        }
+    }
+}
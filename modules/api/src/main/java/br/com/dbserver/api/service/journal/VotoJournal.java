@@ -0,0 +1,503 @@
+package br.com.dbserver.api.service.journal;
+
+import br.com.dbserver.api.config.VotoJournalConfig;
+import br.com.dbserver.api.config.VotoRegistroConfig;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Voto;
+import br.com.dbserver.api.domain.exceptions.AssembleiaClosedException;
+import br.com.dbserver.api.service.cache.VotoDuplicidadeIndex;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Journal local de votos, gravado em segmentos de tamanho fixo mapeados em memória.
+ *
+ * Cada voto ocupa um registro de {@value #TAMANHO_REGISTRO} bytes, identificado por um número
+ * de sequência e protegido por CRC32. Um voto é considerado registrado assim que o seu registro
+ * é gravado e forçado para o disco; a {@link VotoJournalProjector} grava os registros na tabela
+ * {@code votos} e avança o checkpoint, e os segmentos já projetados são removidos. Um voto
+ * gravado no journal já foi confirmado ao cliente e nunca é descartado pela projeção.
+ *
+ * Os registros são gravados sob um lock exclusivo, mas forçados para o disco fora dele, em grupo:
+ * enquanto uma thread força os registros gravados até então, as demais gravam os seus e aguardam;
+ * a próxima a forçar cobre todos os registros acumulados com uma única chamada por segmento.
+ * Somente registros já forçados são entregues à projeção. Se a gravação no disco falhar, o
+ * chamador recebe o erro, mas o registro permanece no segmento e pode ser forçado e projetado
+ * junto com os registros seguintes.
+ *
+ * No encerramento de uma assembleia, {@link #encerrar(Collection)} passa a recusar os seus votos
+ * e aguarda a projeção dos já gravados, antes da transação de encerramento, para que todo voto
+ * confirmado ao cliente chegue à tabela antes do encerramento e seja incluído no resultado
+ * selado. O journal é local a cada instância: votos gravados no journal de outra instância
+ * durante o encerramento ainda são projetados, mas ficam fora do resultado já selado.
+ *
+ * Na inicialização, os registros válidos posteriores ao checkpoint são reconhecidos como pendentes
+ * de projeção; o primeiro registro ausente ou com CRC inválido marca o fim do journal. Os pares
+ * assembleia/membro dos registros pendentes são mantidos em memória até a projeção, pois ainda
+ * não estão na tabela da qual o {@link VotoDuplicidadeIndex} é carregado.
+ *
+ * Layout do registro: marcador (4), id do voto (16), id da assembleia (16), id do membro (16),
+ * código da {@link Decisao} (1: {@code 'C'} para {@code Concordo}, {@code 'D'} para
+ * {@code Discordo}), preenchimento (3), segundos, nanossegundos e deslocamento de
+ * {@code registradoEm} (8 + 4 + 4), CRC32 dos 72 bytes anteriores (4) e preenchimento (4). O
+ * código da decisão é fixo e independe da ordem das constantes do enum.
+ */
+@Component
+public class VotoJournal {
+
+    static final int TAMANHO_REGISTRO = 80;
+
+    private static final Logger log = LoggerFactory.getLogger(VotoJournal.class);
+    private static final int MARCADOR = 0x564F544F;
+    private static final int TAMANHO_CONTEUDO = 72;
+    private static final String CHECKPOINT = "checkpoint";
+    private static final byte CONCORDO = 'C';
+    private static final byte DISCORDO = 'D';
+    private static final Duration RETENCAO_ENCERRADAS = Duration.ofMinutes(1);
+
+    private final VotoJournalConfig config;
+    private final VotoRegistroConfig registroConfig;
+    private final VotoDuplicidadeIndex duplicidadeIndex;
+    private final ReentrantLock escrita = new ReentrantLock();
+    private final ReentrantLock durabilidade = new ReentrantLock();
+    private final Condition forcado = durabilidade.newCondition();
+    private final Map<Long, MappedByteBuffer> segmentos = new ConcurrentHashMap<>();
+    private final Set<ChaveVoto> naoProjetados = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> encerradas = new ConcurrentHashMap<>();
+
+    private Path diretorio;
+    private long registrosPorSegmento;
+    private volatile long escritos;
+    private volatile long duraveis;
+    private volatile long projetados;
+    private boolean forcando;
+
+    /**
+     * Construtor que injeta as dependências necessárias para o journal.
+     *
+     * @param config configuração do journal
+     * @param registroConfig configuração do modo de registro; o journal só é aberto no modo {@code JOURNAL}
+     * @param duplicidadeIndex índice atualizado a cada voto gravado no journal
+     */
+    public VotoJournal(VotoJournalConfig config, VotoRegistroConfig registroConfig, VotoDuplicidadeIndex duplicidadeIndex) {
+        this.config = config;
+        this.registroConfig = registroConfig;
+        this.duplicidadeIndex = duplicidadeIndex;
+    }
+
+    @PostConstruct
+    void abrir() throws IOException {
+        if (!isAtivo()) {
+            return;
+        }
+        diretorio = Path.of(config.getDiretorio());
+        Files.createDirectories(diretorio);
+        registrosPorSegmento = config.getTamanhoSegmento().toBytes() / TAMANHO_REGISTRO;
+
+        projetados = lerCheckpoint();
+        removerSegmentosAnteriores(projetados / registrosPorSegmento);
+
+        long sequencia = projetados;
+        Registro registro;
+        while ((registro = ler(sequencia)) != null) {
+            naoProjetados.add(new ChaveVoto(registro.assembleiaId(), registro.membroId()));
+            sequencia++;
+        }
+        escritos = sequencia;
+        duraveis = sequencia;
+        log.info("Journal de votos aberto em {}: {} votos pendentes de projeção", diretorio.toAbsolutePath(), escritos - projetados);
+    }
+
+    /**
+     * Indica se os votos devem ser registrados no journal.
+     *
+     * @return {@code true} se o modo de registro for {@code JOURNAL}
+     */
+    public boolean isAtivo() {
+        return registroConfig.getModo() == VotoRegistroConfig.Modo.JOURNAL;
+    }
+
+    /**
+     * Grava um voto validado no journal e força a gravação para o disco.
+     *
+     * A duplicidade é conferida novamente sob o lock de escrita, pois o voto só chegará à
+     * tabela (e à sua restrição única) após a projeção.
+     *
+     * @param voto voto validado e ainda não persistido
+     * @throws IllegalArgumentException se o membro já votou na assembleia
+     * @throws AssembleiaClosedException se a assembleia estiver sendo encerrada
+     */
+    public void registrar(Voto voto) {
+        if (registrarLote(List.of(voto)).isEmpty()) {
+            return;
+        }
+        UUID assembleiaId = voto.getAssembleia().getIdAssembleia();
+        if (isEncerrada(assembleiaId)) {
+            throw new AssembleiaClosedException(String.format(
+                "Assembleia %s está encerrada. Não é possível registrar ou alterar votos.", assembleiaId));
+        }
+        throw new IllegalArgumentException("Membro já votou nesta assembleia");
+    }
+
+    /**
+     * Grava um lote de votos validados no journal e força a gravação para o disco uma única vez.
+     *
+     * Cada voto é conferido sob o lock de escrita contra os votos já gravados e ainda não
+     * projetados, os votos conhecidos pelo {@link VotoDuplicidadeIndex} e os votos anteriores
+     * do próprio lote; os duplicados e os votos de assembleias em encerramento
+     * ({@link #isEncerrada(UUID)}) não são gravados.
+     *
+     * @param votos votos validados e ainda não persistidos
+     * @return votos recusados, na ordem recebida
+     */
+    public List<Voto> registrarLote(List<Voto> votos) {
+        List<Voto> recusados = new ArrayList<>();
+        long ate;
+
+        escrita.lock();
+        try {
+            for (Voto voto : votos) {
+                UUID assembleiaId = voto.getAssembleia().getIdAssembleia();
+                UUID membroId = voto.getMembro().getIdMembro();
+                ChaveVoto chave = new ChaveVoto(assembleiaId, membroId);
+                if (encerradas.containsKey(assembleiaId) || naoProjetados.contains(chave) || duplicidadeIndex.jaVotou(assembleiaId, membroId)) {
+                    recusados.add(voto);
+                    continue;
+                }
+                long sequencia = escritos;
+                segmento(sequencia / registrosPorSegmento, true).put(posicao(sequencia), codificar(voto));
+                escritos = sequencia + 1;
+                naoProjetados.add(chave);
+                duplicidadeIndex.marcar(assembleiaId, membroId);
+            }
+            ate = escritos;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar voto no journal", e);
+        } finally {
+            escrita.unlock();
+        }
+
+        forcar(ate);
+        return recusados;
+    }
+
+    /**
+     * Prepara o encerramento de uma assembleia.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @throws IllegalStateException se os votos gravados não forem projetados em {@code urna.votos.journal.espera-projecao}
+     * @see #encerrar(Collection)
+     */
+    public void encerrar(UUID assembleiaId) {
+        encerrar(List.of(assembleiaId));
+    }
+
+    /**
+     * Prepara o encerramento de assembleias: a partir deste ponto, os seus votos são recusados
+     * pelo journal, e o método aguarda a projeção de todos os votos já gravados. Deve ser chamado
+     * antes da transação de encerramento, para que a espera não a mantenha aberta; se o
+     * encerramento não for confirmado, {@link #cancelarEncerramento(UUID)} volta a aceitar votos.
+     * Se a projeção não terminar a tempo, as assembleias voltam a aceitar votos imediatamente.
+     *
+     * @param assembleiaIds identificadores das assembleias
+     * @throws IllegalStateException se os votos gravados não forem projetados em {@code urna.votos.journal.espera-projecao}
+     */
+    public void encerrar(Collection<UUID> assembleiaIds) {
+        if (assembleiaIds.isEmpty()) {
+            return;
+        }
+        long ate;
+        escrita.lock();
+        try {
+            long agora = System.nanoTime();
+            encerradas.values().removeIf(encerradaEm -> agora - encerradaEm > RETENCAO_ENCERRADAS.toNanos());
+            assembleiaIds.forEach(assembleiaId -> encerradas.put(assembleiaId, agora));
+            ate = escritos;
+        } finally {
+            escrita.unlock();
+        }
+
+        if (!aguardarProjecao(ate)) {
+            assembleiaIds.forEach(encerradas::remove);
+            throw new IllegalStateException(String.format(
+                "Votos das assembleias %s ainda não projetados pelo journal após %s", assembleiaIds, config.getEsperaProjecao()));
+        }
+    }
+
+    /**
+     * Volta a aceitar os votos de uma assembleia cujo encerramento, preparado por
+     * {@link #encerrar(UUID)}, não foi confirmado.
+     *
+     * @param assembleiaId identificador da assembleia
+     */
+    public void cancelarEncerramento(UUID assembleiaId) {
+        encerradas.remove(assembleiaId);
+    }
+
+    /**
+     * Indica se a assembleia foi encerrada recentemente por esta instância, tendo os seus votos
+     * recusados pelo journal.
+     *
+     * @param assembleiaId identificador da assembleia
+     * @return {@code true} se a assembleia estiver em encerramento ou tiver sido encerrada recentemente
+     */
+    public boolean isEncerrada(UUID assembleiaId) {
+        return encerradas.containsKey(assembleiaId);
+    }
+
+    private boolean aguardarProjecao(long ate) {
+        long limite = System.nanoTime() + config.getEsperaProjecao().toNanos();
+        while (projetados < ate) {
+            if (System.nanoTime() - limite > 0) {
+                return false;
+            }
+            LockSupport.parkNanos(config.getIntervaloProjecao().toNanos());
+        }
+        return true;
+    }
+
+    /**
+     * Aguarda até que os registros anteriores a {@code ate} estejam no disco. Apenas uma thread
+     * força por vez; as que chegam durante a gravação aguardam e são cobertas pela próxima, que
+     * força de uma só vez todos os registros gravados até então.
+     */
+    private void forcar(long ate) {
+        durabilidade.lock();
+        try {
+            while (duraveis < ate) {
+                if (forcando) {
+                    forcado.awaitUninterruptibly();
+                    continue;
+                }
+                forcando = true;
+                long de = duraveis;
+                long alvo = escritos;
+                durabilidade.unlock();
+                try {
+                    forcarIntervalo(de, alvo);
+                } finally {
+                    durabilidade.lock();
+                    forcando = false;
+                    forcado.signalAll();
+                }
+                duraveis = alvo;
+            }
+        } finally {
+            durabilidade.unlock();
+        }
+    }
+
+    private void forcarIntervalo(long de, long ate) {
+        try {
+            long sequencia = de;
+            while (sequencia < ate) {
+                long numero = sequencia / registrosPorSegmento;
+                long fimSegmento = Math.min(ate, (numero + 1) * registrosPorSegmento);
+                int inicio = posicao(sequencia);
+                segmento(numero, true).force(inicio, (int) (fimSegmento - sequencia) * TAMANHO_REGISTRO);
+                sequencia = fimSegmento;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao forçar o journal de votos para o disco", e);
+        }
+    }
+
+    /**
+     * Retorna os próximos registros ainda não projetados na tabela {@code votos}.
+     *
+     * @param maximo quantidade máxima de registros
+     * @return registros pendentes, em ordem de sequência
+     */
+    public List<Registro> pendentes(int maximo) {
+        long ate = Math.min(duraveis, projetados + maximo);
+        List<Registro> registros = new ArrayList<>((int) (ate - projetados));
+        for (long sequencia = projetados; sequencia < ate; sequencia++) {
+            registros.add(ler(sequencia));
+        }
+        return registros;
+    }
+
+    /**
+     * Registra que os registros informados já estão na tabela {@code votos}, gravando o
+     * checkpoint e removendo os segmentos totalmente projetados.
+     *
+     * @param registros registros projetados, obtidos de {@link #pendentes(int)}
+     */
+    public void confirmarProjecao(List<Registro> registros) {
+        if (registros.isEmpty()) {
+            return;
+        }
+        long ate = registros.get(registros.size() - 1).sequencia() + 1;
+        try {
+            Path temporario = diretorio.resolve(CHECKPOINT + ".tmp");
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                canal.write(ByteBuffer.allocate(Long.BYTES).putLong(0, ate));
+                canal.force(true);
+            }
+            Files.move(temporario, diretorio.resolve(CHECKPOINT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            projetados = ate;
+            registros.forEach(registro -> naoProjetados.remove(new ChaveVoto(registro.assembleiaId(), registro.membroId())));
+            removerSegmentosAnteriores(ate / registrosPorSegmento);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar checkpoint do journal de votos", e);
+        }
+    }
+
+    private Registro ler(long sequencia) {
+        try {
+            MappedByteBuffer segmento = segmento(sequencia / registrosPorSegmento, false);
+            if (segmento == null) {
+                return null;
+            }
+            int posicao = posicao(sequencia);
+            if (segmento.getInt(posicao) != MARCADOR) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(segmento.slice(posicao, TAMANHO_CONTEUDO));
+            if ((int) crc.getValue() != segmento.getInt(posicao + TAMANHO_CONTEUDO)) {
+                return null;
+            }
+            ByteBuffer registro = segmento.slice(posicao, TAMANHO_REGISTRO);
+            UUID idVoto = new UUID(registro.getLong(4), registro.getLong(12));
+            UUID assembleiaId = new UUID(registro.getLong(20), registro.getLong(28));
+            UUID membroId = new UUID(registro.getLong(36), registro.getLong(44));
+            Decisao decisao = decisao(sequencia, registro.get(52));
+            OffsetDateTime registradoEm = OffsetDateTime.ofInstant(
+                Instant.ofEpochSecond(registro.getLong(56), registro.getInt(64)),
+                ZoneOffset.ofTotalSeconds(registro.getInt(68)));
+            return new Registro(sequencia, idVoto, assembleiaId, membroId, decisao, registradoEm);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler journal de votos", e);
+        }
+    }
+
+    private static byte[] codificar(Voto voto) {
+        ByteBuffer registro = ByteBuffer.allocate(TAMANHO_REGISTRO);
+        registro.putInt(MARCADOR);
+        putUuid(registro, voto.getIdVoto());
+        putUuid(registro, voto.getAssembleia().getIdAssembleia());
+        putUuid(registro, voto.getMembro().getIdMembro());
+        registro.put(codigo(voto.getDecisao()));
+        registro.position(56);
+        registro.putLong(voto.getRegistradoEm().toEpochSecond());
+        registro.putInt(voto.getRegistradoEm().getNano());
+        registro.putInt(voto.getRegistradoEm().getOffset().getTotalSeconds());
+
+        CRC32 crc = new CRC32();
+        crc.update(registro.array(), 0, TAMANHO_CONTEUDO);
+        registro.putInt(TAMANHO_CONTEUDO, (int) crc.getValue());
+        return registro.array();
+    }
+
+    private static byte codigo(Decisao decisao) {
+        return switch (decisao) {
+            case Concordo -> CONCORDO;
+            case Discordo -> DISCORDO;
+        };
+    }
+
+    private static Decisao decisao(long sequencia, byte codigo) {
+        return switch (codigo) {
+            case CONCORDO -> Decisao.Concordo;
+            case DISCORDO -> Decisao.Discordo;
+            default -> throw new IllegalStateException(
+                "Código de decisão desconhecido no registro " + sequencia + " do journal de votos: " + codigo);
+        };
+    }
+
+    private static void putUuid(ByteBuffer registro, UUID uuid) {
+        registro.putLong(uuid.getMostSignificantBits());
+        registro.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private int posicao(long sequencia) {
+        return (int) (sequencia % registrosPorSegmento) * TAMANHO_REGISTRO;
+    }
+
+    private MappedByteBuffer segmento(long numero, boolean criar) throws IOException {
+        MappedByteBuffer segmento = segmentos.get(numero);
+        if (segmento != null) {
+            return segmento;
+        }
+        Path arquivo = arquivoSegmento(numero);
+        if (!criar && !Files.exists(arquivo)) {
+            return null;
+        }
+        long tamanho = registrosPorSegmento * TAMANHO_REGISTRO;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segmento = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+        }
+        MappedByteBuffer existente = segmentos.putIfAbsent(numero, segmento);
+        return existente != null ? existente : segmento;
+    }
+
+    private Path arquivoSegmento(long numero) {
+        return diretorio.resolve(String.format("votos-%012d.journal", numero));
+    }
+
+    private long lerCheckpoint() throws IOException {
+        Path checkpoint = diretorio.resolve(CHECKPOINT);
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(checkpoint)).getLong();
+    }
+
+    private void removerSegmentosAnteriores(long primeiroSegmento) throws IOException {
+        segmentos.keySet().removeIf(numero -> numero < primeiroSegmento);
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : arquivos.toList()) {
+                String nome = arquivo.getFileName().toString();
+                if (nome.startsWith("votos-") && nome.endsWith(".journal")
+                        && Long.parseLong(nome.substring(6, nome.length() - 8)) < primeiroSegmento) {
+                    Files.deleteIfExists(arquivo);
+                }
+            }
+        }
+    }
+
+    private record ChaveVoto(UUID assembleiaId, UUID membroId) {
+    }
+
+    /**
+     * Voto lido do journal.
+     *
+     * @param sequencia número de sequência do registro no journal
+     * @param idVoto identificador do voto
+     * @param assembleiaId identificador da assembleia
+     * @param membroId identificador do membro
+     * @param decisao decisão registrada
+     * @param registradoEm data e hora do registro
+     */
+    public record Registro(long sequencia, UUID idVoto, UUID assembleiaId, UUID membroId, Decisao decisao, OffsetDateTime registradoEm) {
+    }
+}
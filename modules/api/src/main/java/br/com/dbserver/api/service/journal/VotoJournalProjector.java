@@ -0,0 +1,187 @@
+package br.com.dbserver.api.service.journal;
+
+import br.com.dbserver.api.config.VotoJournalConfig;
+import br.com.dbserver.api.domain.entities.Voto;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.domain.repositories.MembroRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Projeta os votos do {@link VotoJournal} na tabela {@code votos}.
+ *
+ * Uma thread dedicada lê os registros pendentes em lotes de até {@code tamanho-lote} votos e
+ * os grava em uma única transação, avançando o checkpoint do journal após o commit. Se o lote
+ * falhar, os votos são regravados individualmente. Um voto já presente na tabela (projetado
+ * antes de uma queda, sem que o checkpoint tenha avançado) é ignorado, assim como o voto de uma
+ * assembleia excluída, cujos votos foram excluídos com ela.
+ *
+ * Os votos do journal já foram confirmados ao cliente e nunca são descartados: um voto recusado
+ * pelo banco por outra violação de integridade interrompe a projeção, com erro no log, e é
+ * regravado na próxima tentativa, sem avançar o checkpoint, assim como em qualquer outra falha.
+ * O status das assembleias não é conferido na projeção; o encerramento aguarda a projeção dos
+ * votos do journal antes de atualizar a assembleia ({@link VotoJournal#encerrar(java.util.Collection)}).
+ * Um voto de assembleia já encerrada só é projetado se tiver sido gravado no journal de outra
+ * instância, e é registrado em log por ficar fora do resultado selado.
+ */
+@Component
+public class VotoJournalProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(VotoJournalProjector.class);
+
+    private final VotoJournal journal;
+    private final VotoRepository votoRepository;
+    private final AssembleiaRepository assembleiaRepository;
+    private final MembroRepository membroRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final VotoJournalConfig config;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean ativo;
+    private Thread worker;
+
+    /**
+     * Construtor que injeta as dependências necessárias para a projeção.
+     *
+     * @param journal journal de onde os votos são lidos
+     * @param votoRepository repositório para gravação dos votos
+     * @param assembleiaRepository repositório para obtenção de referências às assembleias
+     * @param membroRepository repositório para obtenção de referências aos membros
+     * @param transactionManager gerenciador das transações de projeção
+     * @param config configuração do journal
+     * @param eventPublisher publicador dos eventos de voto registrado
+     */
+    public VotoJournalProjector(VotoJournal journal,
+                                VotoRepository votoRepository,
+                                AssembleiaRepository assembleiaRepository,
+                                MembroRepository membroRepository,
+                                PlatformTransactionManager transactionManager,
+                                VotoJournalConfig config,
+                                ApplicationEventPublisher eventPublisher) {
+        this.journal = journal;
+        this.votoRepository = votoRepository;
+        this.assembleiaRepository = assembleiaRepository;
+        this.membroRepository = membroRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = config;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!journal.isAtivo()) {
+            return;
+        }
+        ativo = true;
+        worker = new Thread(this::processar, "voto-journal-projector");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Projeção do journal de votos habilitada: tamanhoLote={}, intervaloProjecao={}",
+                config.getTamanhoLote(), config.getIntervaloProjecao());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        ativo = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    private void processar() {
+        while (true) {
+            List<VotoJournal.Registro> lote = journal.pendentes(config.getTamanhoLote());
+            if (lote.isEmpty()) {
+                if (!ativo) {
+                    return;
+                }
+                LockSupport.parkNanos(config.getIntervaloProjecao().toNanos());
+                continue;
+            }
+            try {
+                projetar(lote);
+                journal.confirmarProjecao(lote);
+                log.debug("Journal projetou {} votos", lote.size());
+            } catch (RuntimeException e) {
+                log.error("Falha na projeção do journal de votos; nova tentativa em {}", config.getIntervaloProjecao(), e);
+                if (!ativo) {
+                    return;
+                }
+                LockSupport.parkNanos(config.getIntervaloProjecao().toNanos());
+            }
+        }
+    }
+
+    private void projetar(List<VotoJournal.Registro> lote) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistir(lote));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Projeção de {} votos falhou ({}); gravando individualmente", lote.size(), e.getMessage());
+            for (VotoJournal.Registro registro : lote) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persistir(List.of(registro)));
+                } catch (DataIntegrityViolationException individual) {
+                    ignorarOuInterromper(registro, individual);
+                }
+            }
+        }
+    }
+
+    private void ignorarOuInterromper(VotoJournal.Registro registro, DataIntegrityViolationException e) {
+        if (votoRepository.existsById(registro.idVoto())) {
+            log.debug("Voto {} do journal já projetado", registro.idVoto());
+            return;
+        }
+        if (!assembleiaRepository.existsById(registro.assembleiaId())) {
+            log.info("Voto {} do journal ignorado: assembleia {} excluída", registro.idVoto(), registro.assembleiaId());
+            return;
+        }
+        throw new IllegalStateException(String.format(
+            "Voto %s do journal (assembleia %s, membro %s) recusado pelo banco; projeção interrompida",
+            registro.idVoto(), registro.assembleiaId(), registro.membroId()), e);
+    }
+
+    /**
+     * Grava os votos referenciando as assembleias e os membros por proxies, sem carregá-los, pois
+     * já foram validados antes da gravação no journal. As assembleias são conferidas com uma única
+     * consulta apenas para registrar em log os votos projetados após o encerramento.
+     */
+    private void persistir(List<VotoJournal.Registro> registros) {
+        Set<UUID> abertas = Set.copyOf(assembleiaRepository.findIdsAbertas(registros.stream()
+            .map(VotoJournal.Registro::assembleiaId)
+            .collect(Collectors.toSet())));
+        registros.stream()
+            .filter(registro -> !abertas.contains(registro.assembleiaId()))
+            .forEach(registro -> log.warn("Voto {} do journal projetado após o encerramento da assembleia {}; fora do resultado selado",
+                registro.idVoto(), registro.assembleiaId()));
+
+        votoRepository.saveAll(registros.stream()
+            .map(registro -> new Voto(
+                registro.idVoto(),
+                assembleiaRepository.getReferenceById(registro.assembleiaId()),
+                membroRepository.getReferenceById(registro.membroId()),
+                registro.decisao(),
+                registro.registradoEm()
+            ))
+            .toList());
+        registros.forEach(registro -> eventPublisher.publishEvent(
+            new VotoRegistradoEvent(registro.idVoto(), registro.assembleiaId(), registro.membroId(), registro.decisao())));
+    }
+}
@@ -9,20 +9,24 @@ import org.testcontainers.containers.PostgreSQLContainer;
 @TestConfiguration(proxyBeanMethods = false)
 public class TestContainersConfig {
 
+    private static PostgreSQLContainer<?> container;
+
     @Bean
-    static PostgreSQLContainer<?> postgresContainer() {
-        PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:15-alpine")
-                .withDatabaseName("urna_test")
-                .withUsername("test")
-                .withPassword("test")
-                .withReuse(true);
-        
-        container.start();
+    static synchronized PostgreSQLContainer<?> postgresContainer() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:15-alpine")
+                    .withDatabaseName("urna_test")
+                    .withUsername("test")
+                    .withPassword("test")
+                    .withReuse(true);
+            
+            container.start();
+        }
         return container;
     }
     
     @DynamicPropertySource
-    static void configureProperties(DynamicPropertyRegistry registry) {
+    public static void configureProperties(DynamicPropertyRegistry registry) {
         PostgreSQLContainer<?> postgres = postgresContainer();
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
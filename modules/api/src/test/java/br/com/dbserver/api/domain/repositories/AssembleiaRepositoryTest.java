@@ -4,14 +4,21 @@ import br.com.dbserver.api.BaseRepositoryTest;
 import br.com.dbserver.api.domain.entities.Assembleia;
 import br.com.dbserver.api.domain.entities.Pauta;
 import br.com.dbserver.api.domain.entities.StatusAssembleia;
+import br.com.dbserver.api.domain.specifications.AssembleiaSpecifications;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,6 +31,9 @@ class AssembleiaRepositoryTest extends BaseRepositoryTest {
     @Autowired
     private PautaRepository pautaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Pauta pauta1;
     private Pauta pauta2;
     private Pauta pauta3;
@@ -133,6 +143,15 @@ class AssembleiaRepositoryTest extends BaseRepositoryTest {
         assertThat(closedCount).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("Deve retornar apenas as assembleias abertas dentre as informadas para gravação de votos")
+    void shouldFindIdsAbertas() {
+        List<UUID> abertas = assembleiaRepository.findIdsAbertas(List.of(
+            assembleia1.getIdAssembleia(), assembleia3.getIdAssembleia(), UUID.randomUUID()));
+
+        assertThat(abertas).containsExactly(assembleia1.getIdAssembleia());
+    }
+
     @Test
     @DisplayName("Deve buscar assembleias abertas ordenadas por data")
     void shouldFindOpenAssembleias() {
@@ -201,4 +220,109 @@ class AssembleiaRepositoryTest extends BaseRepositoryTest {
         assertThat(closedAssembleias).hasSize(1);
         assertThat(closedAssembleias.get(0)).isEqualTo(assembleia3);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve buscar assembleias com prazo de abertura ou encerramento pendente")
+    void shouldFindAssembleiasComPrazoPendente() {
+        OffsetDateTime agora = OffsetDateTime.now();
+        Assembleia agendada = assembleiaRepository.save(new Assembleia(pauta1, agora.plusHours(1), null));
+        Assembleia comEncerramento = assembleiaRepository.save(new Assembleia(pauta2, null, agora.plusHours(2)));
+        
+        List<Assembleia> pendentes = assembleiaRepository.findComPrazoPendente();
+        
+        assertThat(agendada.getStatus()).isEqualTo(StatusAssembleia.Agendada);
+        assertThat(pendentes).containsExactlyInAnyOrder(agendada, comEncerramento);
+    }
+
+    @Test
+    @DisplayName("Deve abrir e encerrar em lote as assembleias com prazo vencido")
+    void shouldOpenAndCloseAssembleiasVencidas() {
+        OffsetDateTime agora = OffsetDateTime.now();
+        Assembleia agendada = assembleiaRepository.save(new Assembleia(pauta1, agora.plusMinutes(10), agora.plusHours(1)));
+        Assembleia aberta = assembleiaRepository.save(new Assembleia(pauta2, null, agora.plusMinutes(30)));
+        OffsetDateTime referencia = agora.plusMinutes(45);
+        
+        int abertas = assembleiaRepository.openAgendadasVencidas(referencia);
+        int encerradas = assembleiaRepository.closeVencidas(referencia);
+        
+        assertThat(abertas).isEqualTo(1);
+        assertThat(encerradas).isEqualTo(1);
+        assertThat(assembleiaRepository.findById(agendada.getIdAssembleia()))
+            .get().extracting(Assembleia::getStatus).isEqualTo(StatusAssembleia.Aberta);
+        Assembleia encerrada = assembleiaRepository.findById(aberta.getIdAssembleia()).orElseThrow();
+        assertThat(encerrada.getStatus()).isEqualTo(StatusAssembleia.Encerrada);
+        assertThat(encerrada.getFinalizadaEm()).isEqualTo(encerrada.getEncerraEm());
+        assertThat(assembleiaRepository.findEncerradasSemResultadoFinal()).containsExactlyInAnyOrder(assembleia3, encerrada);
+    }
+
+    @Test
+    @DisplayName("Deve combinar status e período na busca paginada por especificação")
+    void shouldFindAssembleiasBySpecificationCombiningFilters() {
+        OffsetDateTime oneHourAgo = OffsetDateTime.now().minusHours(1);
+        OffsetDateTime oneHourLater = OffsetDateTime.now().plusHours(1);
+        
+        Page<Assembleia> abertas = assembleiaRepository.findAll(
+                AssembleiaSpecifications.filtrar(StatusAssembleia.Aberta, oneHourAgo, oneHourLater),
+                PageRequest.of(0, 1, Sort.by("iniciadaEm")));
+        Page<Assembleia> encerradasNoFuturo = assembleiaRepository.findAll(
+                AssembleiaSpecifications.filtrar(StatusAssembleia.Encerrada, oneHourLater, null),
+                PageRequest.of(0, 10));
+        
+        assertThat(abertas.getTotalElements()).isEqualTo(2);
+        assertThat(abertas.getTotalPages()).isEqualTo(2);
+        assertThat(abertas.getContent()).containsExactly(assembleia1);
+        assertThat(encerradasNoFuturo).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar todas as assembleias na busca por especificação sem filtros")
+    void shouldFindAllAssembleiasBySpecificationWithoutFilters() {
+        Page<Assembleia> todas = assembleiaRepository.findAll(
+                AssembleiaSpecifications.filtrar(null, null, null),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "iniciadaEm")));
+        
+        assertThat(todas.getTotalElements()).isEqualTo(3);
+        assertThat(todas.getContent()).extracting(assembleia -> assembleia.getPauta().getTitulo())
+                .containsExactlyInAnyOrder(pauta1.getTitulo(), pauta2.getTitulo(), pauta3.getTitulo());
+    }
+
+    @Test
+    @DisplayName("Deve buscar a página seguinte ao cursor combinando os filtros da listagem")
+    void shouldFindAssembleiasAfterCursorWithFilters() {
+        OffsetDateTime iniciadaEm = OffsetDateTime.now().minusDays(1);
+        Assembleia empate1 = new Assembleia(UUID.randomUUID(), pauta1, StatusAssembleia.Aberta, iniciadaEm, null);
+        Assembleia empate2 = new Assembleia(UUID.randomUUID(), pauta2, StatusAssembleia.Aberta, iniciadaEm, null);
+        assembleiaRepository.saveAll(List.of(empate1, empate2));
+        entityManager.flush();
+        entityManager.clear();
+        List<Assembleia> abertas = assembleiaRepository.findAll(
+                AssembleiaSpecifications.filtrar(StatusAssembleia.Aberta, null, null), AssembleiaSpecifications.ORDENACAO_CURSOR);
+        
+        Slice<Assembleia> primeira = assembleiaRepository.findBy(
+                AssembleiaSpecifications.filtrar(StatusAssembleia.Aberta, null, null),
+                consulta -> consulta.project("pauta").slice(PageRequest.of(0, 3, AssembleiaSpecifications.ORDENACAO_CURSOR)));
+        Assembleia ultima = primeira.getContent().get(2);
+        Slice<Assembleia> segunda = assembleiaRepository.findBy(
+                AssembleiaSpecifications.filtrar(StatusAssembleia.Aberta, null, null)
+                        .and(AssembleiaSpecifications.aposCursor(ultima.getIniciadaEm(), ultima.getIdAssembleia())),
+                consulta -> consulta.project("pauta").slice(PageRequest.of(0, 3, AssembleiaSpecifications.ORDENACAO_CURSOR)));
+        
+        assertThat(abertas).hasSize(4);
+        assertThat(primeira.hasNext()).isTrue();
+        assertThat(primeira.getContent()).containsExactlyElementsOf(abertas.subList(0, 3));
+        assertThat(segunda.hasNext()).isFalse();
+        assertThat(segunda.getContent()).containsExactly(abertas.get(3));
+    }
+
+    @Test
+    @DisplayName("Deve buscar uma fatia de assembleias por especificação sem contagem")
+    void shouldFindAssembleiasSliceBySpecificationWithoutCount() {
+        Slice<Assembleia> abertas = assembleiaRepository.findBy(
+                AssembleiaSpecifications.filtrar(StatusAssembleia.Aberta, null, null),
+                consulta -> consulta.project("pauta").slice(PageRequest.of(0, 1, Sort.by("iniciadaEm"))));
+        
+        assertThat(abertas).isNotInstanceOf(Page.class);
+        assertThat(abertas.getContent()).containsExactly(assembleia1);
+        assertThat(abertas.hasNext()).isTrue();
+    }
+}
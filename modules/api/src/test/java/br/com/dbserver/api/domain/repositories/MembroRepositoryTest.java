@@ -58,6 +58,16 @@ class MembroRepositoryTest extends BaseRepositoryTest {
         assertThat(foundMembro.get().getCpf().getValue()).isEqualTo("12345678901");
     }
 
+    @Test
+    @DisplayName("Deve buscar membros por lista de CPFs ignorando CPFs inexistentes")
+    void shouldFindMembrosByCpfList() {
+        List<Membro> foundMembros = membroRepository.findByCpfIn(List.of("12345678901", "45678912345", "99999999999"));
+        
+        assertThat(foundMembros).hasSize(2);
+        assertThat(foundMembros).extracting(Membro::getNome)
+                .containsExactlyInAnyOrder("Eduardo Martins Costa", "Ricardo Santos Lima");
+    }
+
     @Test
     @DisplayName("Deve retornar vazio quando buscar por CPF inexistente")
     void shouldReturnEmptyForNonexistentCpf() {
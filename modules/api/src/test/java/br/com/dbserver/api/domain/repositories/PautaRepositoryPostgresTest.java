@@ -0,0 +1,104 @@
+package br.com.dbserver.api.domain.repositories;
+
+import br.com.dbserver.api.BaseRepositoryTest;
+import br.com.dbserver.api.config.TestContainersConfig;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.service.busca.PautaBuscaPostgres;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes da busca de pautas no PostgreSQL")
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PautaBuscaPostgres.class)
+class PautaRepositoryPostgresTest extends BaseRepositoryTest {
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        TestContainersConfig.configureProperties(registry);
+    }
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private PautaBuscaPostgres pautaBuscaPostgres;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Pauta pauta1;
+    private Pauta pauta2;
+
+    @BeforeEach
+    void setUp() {
+        pautaRepository.deleteAll();
+        
+        pauta1 = new Pauta("Aprovação do Orçamento 2025", "Discussão sobre o orçamento anual do condomínio");
+        pauta2 = new Pauta("Reforma da Piscina", "Orçamentos da reforma e aprovação dos fornecedores");
+        Pauta pauta3 = new Pauta("Mudança no Regimento Interno", "Alteração dos horários de funcionamento da academia");
+        
+        pautaRepository.saveAllAndFlush(List.of(pauta1, pauta2, pauta3));
+    }
+
+    @Test
+    @DisplayName("Deve buscar pautas pelo texto completo em ordem de relevância")
+    void shouldSearchPautasByFullTextOrderedByRelevance() {
+        assertThat(pautaBuscaPostgres.isTextoCompleto()).isTrue();
+        
+        List<Object[]> resultados = pautaRepository.searchTextoCompleto(PautaBuscaPostgres.consulta("orçamento"), 10);
+        
+        assertThat(resultados).extracting(resultado -> resultado[0])
+                .containsExactly(pauta1.getIdPauta(), pauta2.getIdPauta());
+        assertThat(((Number) resultados.get(0)[2]).doubleValue())
+                .isGreaterThan(((Number) resultados.get(1)[2]).doubleValue());
+    }
+
+    @Test
+    @DisplayName("Deve tratar o último termo da busca pelo texto completo como prefixo")
+    void shouldSearchPautasByFullTextWithPrefix() {
+        List<Object[]> resultados = pautaRepository.searchTextoCompleto(PautaBuscaPostgres.consulta("reforma pisc"), 10);
+        
+        assertThat(resultados).extracting(resultado -> resultado[1]).containsExactly("Reforma da Piscina");
+    }
+
+    @Test
+    @DisplayName("Deve utilizar o índice GIN na busca pelo texto completo")
+    void shouldUseGinIndexForFullTextSearch() {
+        String plano = explicar("SELECT id_pauta FROM pautas WHERE busca @@ to_tsquery('portuguese', 'orçamento')");
+        
+        assertThat(plano).contains("pautas_busca_idx");
+    }
+
+    @Test
+    @DisplayName("Deve utilizar o índice de trigramas na busca por trecho da descrição")
+    void shouldUseTrigramIndexForSubstringSearch() {
+        Page<Pauta> encontradas = pautaRepository.searchByTituloOrDescricao("fornecedor", PageRequest.of(0, 10));
+        String plano = explicar("SELECT id_pauta FROM pautas WHERE lower(descricao) LIKE '%fornecedor%'");
+        
+        assertThat(encontradas.getContent()).containsExactly(pauta2);
+        assertThat(plano).contains("pautas_descricao_trgm_idx");
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explicar(String consulta) {
+        // Com poucas linhas o planejador prefere a leitura sequencial; desabilitá-la confirma que o índice atende a consulta
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        List<Object> linhas = entityManager.createNativeQuery("EXPLAIN " + consulta).getResultList();
+        return linhas.stream().map(String::valueOf).reduce("", (plano, linha) -> plano + linha + "\n");
+    }
+}
@@ -2,14 +2,24 @@ package br.com.dbserver.api.domain.repositories;
 
 import br.com.dbserver.api.BaseRepositoryTest;
 import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.specifications.PautaSpecifications;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -19,6 +29,9 @@ class PautaRepositoryTest extends BaseRepositoryTest {
     @Autowired
     private PautaRepository pautaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Pauta pauta1;
     private Pauta pauta2;
     private Pauta pauta3;
@@ -67,6 +80,38 @@ class PautaRepositoryTest extends BaseRepositoryTest {
                 .containsExactlyInAnyOrder("Aprovação do Orçamento 2025", "Aprovação de Melhorias");
     }
 
+    @Test
+    @DisplayName("Deve buscar pautas por título ou descrição com paginação e ordenação")
+    void shouldSearchPautasByTitleOrDescriptionPaged() {
+        Page<Pauta> primeiraPagina = pautaRepository.searchByTituloOrDescricao("APROVAÇÃO", PageRequest.of(0, 1, Sort.by("titulo")));
+        Page<Pauta> segundaPagina = pautaRepository.searchByTituloOrDescricao("APROVAÇÃO", PageRequest.of(1, 1, Sort.by("titulo")));
+        
+        assertThat(primeiraPagina.getTotalElements()).isEqualTo(2);
+        assertThat(primeiraPagina.getContent()).extracting(Pauta::getTitulo).containsExactly("Aprovação de Melhorias");
+        assertThat(segundaPagina.getContent()).extracting(Pauta::getTitulo).containsExactly("Aprovação do Orçamento 2025");
+    }
+
+    @Test
+    @DisplayName("Deve tratar caracteres curinga literalmente na busca por título ou descrição")
+    void shouldEscapeWildcardsWhenSearchingPautas() {
+        Page<Pauta> foundPautas = pautaRepository.searchByTituloOrDescricao("%", PageRequest.of(0, 10));
+        
+        assertThat(foundPautas.getTotalElements()).isZero();
+        assertThat(foundPautas.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as pautas em lotes ordenados por identificador")
+    void shouldFindPautasInBatchesAfterId() {
+        List<Pauta> primeiroLote = pautaRepository.findLoteAposId(new UUID(0L, 0L), PageRequest.of(0, 2));
+        List<Pauta> segundoLote = pautaRepository.findLoteAposId(primeiroLote.get(1).getIdPauta(), PageRequest.of(0, 2));
+        
+        assertThat(primeiroLote).hasSize(2);
+        assertThat(segundoLote).hasSize(1);
+        assertThat(Stream.concat(primeiroLote.stream(), segundoLote.stream()))
+                .containsExactlyInAnyOrder(pauta1, pauta2, pauta3);
+    }
+
     @Test
     @DisplayName("Deve buscar pautas por descrição contendo texto")
     void shouldFindPautasByDescriptionContaining() {
@@ -148,4 +193,62 @@ class PautaRepositoryTest extends BaseRepositoryTest {
         
         assertThat(savedPauta.getCriadaEm()).isBetween(beforeSave, afterSave);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve percorrer as pautas por cursor, desempatando pela chave primária")
+    void shouldPaginatePautasByCursor() {
+        OffsetDateTime criadaEm = OffsetDateTime.now().minusDays(1);
+        pautaRepository.saveAll(List.of(
+            new Pauta(UUID.randomUUID(), "Aprovação de Contas", "Prestação de contas do exercício anterior", criadaEm),
+            new Pauta(UUID.randomUUID(), "Aprovação de Obras", "Cronograma de obras da fachada", criadaEm),
+            new Pauta(UUID.randomUUID(), "Eleição do Síndico", "Eleição para o próximo mandato", criadaEm)
+        ));
+        entityManager.flush();
+        entityManager.clear();
+        List<Pauta> esperadas = pautaRepository.findAll(PautaSpecifications.ORDENACAO_CURSOR);
+        
+        List<Pauta> percorridas = new ArrayList<>();
+        Slice<Pauta> pagina = pautaRepository.findBy(Specification.unrestricted(), consulta -> consulta.slice(PageRequest.of(0, 2, PautaSpecifications.ORDENACAO_CURSOR)));
+        percorridas.addAll(pagina.getContent());
+        while (pagina.hasNext()) {
+            Pauta ultima = percorridas.get(percorridas.size() - 1);
+            pagina = pautaRepository.findBy(PautaSpecifications.aposCursor(ultima.getCriadaEm(), ultima.getIdPauta()), consulta -> consulta.slice(PageRequest.of(0, 2, PautaSpecifications.ORDENACAO_CURSOR)));
+            percorridas.addAll(pagina.getContent());
+        }
+        
+        assertThat(esperadas).hasSize(6);
+        assertThat(percorridas).containsExactlyElementsOf(esperadas);
+    }
+
+    @Test
+    @DisplayName("Deve combinar o filtro de texto com a posição do cursor")
+    void shouldCombineSearchFilterWithCursor() {
+        entityManager.flush();
+        entityManager.clear();
+        
+        List<Pauta> aprovacoes = pautaRepository.findAll(PautaSpecifications.filtrar("APROVAÇÃO", null, null), PautaSpecifications.ORDENACAO_CURSOR);
+        Pauta primeira = aprovacoes.get(0);
+        
+        List<Pauta> seguintes = pautaRepository.findAll(
+                PautaSpecifications.filtrar("aprovação", null, null).and(PautaSpecifications.aposCursor(primeira.getCriadaEm(), primeira.getIdPauta())),
+                PautaSpecifications.ORDENACAO_CURSOR);
+        
+        assertThat(aprovacoes).containsExactlyInAnyOrder(pauta1, pauta3);
+        assertThat(seguintes).containsExactly(aprovacoes.get(1));
+    }
+
+    @Test
+    @DisplayName("Deve buscar uma fatia de pautas sem contagem, indicando se há próxima página")
+    void shouldFindPautasSliceWithoutCount() {
+        Slice<Pauta> primeira = pautaRepository.findBy(PautaSpecifications.filtrar(null, null, null),
+                consulta -> consulta.slice(PageRequest.of(0, 2, Sort.by("titulo"))));
+        Slice<Pauta> ultima = pautaRepository.findBy(PautaSpecifications.filtrar(null, null, null),
+                consulta -> consulta.slice(PageRequest.of(1, 2, Sort.by("titulo"))));
+        
+        assertThat(primeira).isNotInstanceOf(Page.class);
+        assertThat(primeira.getContent()).containsExactly(pauta3, pauta1);
+        assertThat(primeira.hasNext()).isTrue();
+        assertThat(ultima.getContent()).containsExactly(pauta2);
+        assertThat(ultima.hasNext()).isFalse();
+    }
+}
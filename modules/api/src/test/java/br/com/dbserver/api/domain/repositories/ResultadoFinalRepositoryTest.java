@@ -0,0 +1,112 @@
+package br.com.dbserver.api.domain.repositories;
+
+import br.com.dbserver.api.BaseRepositoryTest;
+import br.com.dbserver.api.domain.entities.*;
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Testes do repositório de resultados finais")
+class ResultadoFinalRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    private ResultadoFinalRepository resultadoFinalRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private AssembleiaRepository assembleiaRepository;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private MembroRepository membroRepository;
+
+    private Pauta pauta;
+    private Assembleia assembleia;
+
+    @BeforeEach
+    void setUp() {
+        pauta = new Pauta("Reforma da Fachada", "Aprovação da pintura e reparos da fachada do condomínio");
+        pautaRepository.save(pauta);
+
+        assembleia = new Assembleia(pauta);
+        assembleiaRepository.save(assembleia);
+
+        Membro membro1 = new Membro("Ana Paula Ferreira", "12312312312");
+        Membro membro2 = new Membro("Bruno Henrique Lima", "45645645645");
+        Membro membro3 = new Membro("Carla Souza Mendes", "78978978978");
+        membroRepository.saveAll(List.of(membro1, membro2, membro3));
+
+        votoRepository.saveAll(List.of(
+                new Voto(assembleia, membro1, Decisao.Concordo),
+                new Voto(assembleia, membro2, Decisao.Discordo),
+                new Voto(assembleia, membro3, Decisao.Discordo)));
+    }
+
+    @Test
+    @DisplayName("Deve salvar o resultado final com hash verificável")
+    void shouldSaveResultadoFinalWithHash() {
+        resultadoFinalRepository.saveAndFlush(new ResultadoFinal(assembleia.getIdAssembleia(), 1, 2));
+
+        assertThat(resultadoFinalRepository.findById(assembleia.getIdAssembleia()))
+                .get()
+                .satisfies(resultado -> {
+                    assertThat(resultado.getTotalVotos()).isEqualTo(3L);
+                    assertThat(resultado.getHash()).hasSize(64);
+                    assertThat(resultado.isIntegro()).isTrue();
+                });
+    }
+
+    @Test
+    @DisplayName("Deve recontar os votos por decisão na tabela de votos")
+    void shouldRecountVotosByDecisao() {
+        assertThat(votoRepository.recountVotosByDecisaoForAssembleia(assembleia.getIdAssembleia()))
+                .extracting(linha -> tuple(linha[0], linha[1]))
+                .containsExactlyInAnyOrder(tuple(Decisao.Concordo, 1L), tuple(Decisao.Discordo, 2L));
+    }
+
+    @Test
+    @DisplayName("Deve utilizar o resultado selado nas consultas de resultado")
+    void shouldReadSealedResultado() {
+        Assembleia aberta = assembleiaRepository.save(new Assembleia(pauta));
+        ResultadoFinal selado = resultadoFinalRepository.save(new ResultadoFinal(assembleia.getIdAssembleia(), 10, 5));
+
+        assertThat(votoRepository.findResultadosSeladosByPauta(pauta.getIdPauta()))
+                .extracting(ResultadoAssembleiaDTO::getAssembleiaId, ResultadoAssembleiaDTO::getConcordo,
+                        ResultadoAssembleiaDTO::getDiscordo, ResultadoAssembleiaDTO::getHashResultado)
+                .containsExactlyInAnyOrder(
+                        tuple(assembleia.getIdAssembleia(), 10L, 5L, selado.getHash()),
+                        tuple(aberta.getIdAssembleia(), 0L, 0L, null));
+        assertThat(votoRepository.findResultadoByAssembleia(assembleia.getIdAssembleia()))
+                .get()
+                .extracting(ResultadoAssembleiaDTO::getTotalVotos)
+                .isEqualTo(15L);
+    }
+
+    @Test
+    @DisplayName("Deve expor nas consultas de resultado a divergência registrada na selagem")
+    void shouldExposeDivergenteResultado() {
+        resultadoFinalRepository.saveAndFlush(new ResultadoFinal(assembleia.getIdAssembleia(), 1, 2, true));
+        Assembleia aberta = assembleiaRepository.save(new Assembleia(pauta));
+
+        assertThat(votoRepository.findResultadoByAssembleia(assembleia.getIdAssembleia()))
+                .get()
+                .extracting(ResultadoAssembleiaDTO::getResultadoDivergente)
+                .isEqualTo(true);
+        assertThat(votoRepository.findResultadosSeladosByPauta(pauta.getIdPauta()))
+                .extracting(ResultadoAssembleiaDTO::getAssembleiaId, ResultadoAssembleiaDTO::getResultadoDivergente)
+                .containsExactlyInAnyOrder(
+                        tuple(assembleia.getIdAssembleia(), true),
+                        tuple(aberta.getIdAssembleia(), null));
+    }
+}
@@ -2,6 +2,7 @@ package br.com.dbserver.api.domain.repositories;
 
 import br.com.dbserver.api.BaseRepositoryTest;
 import br.com.dbserver.api.domain.entities.*;
+import br.com.dbserver.api.dto.VotoDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -157,6 +160,46 @@ class VotoRepositoryTest extends BaseRepositoryTest {
         }
     }
 
+    @Test
+    @DisplayName("Deve percorrer os votos de uma assembleia como DTOs ordenados por data de registro")
+    void shouldStreamVotosByAssembleiaOrderedByRegistrationDate() {
+        List<VotoDTO> exportados;
+        try (Stream<VotoDTO> votos = votoRepository.streamByAssembleiaId(assembleia1.getIdAssembleia())) {
+            exportados = votos.toList();
+        }
+        
+        assertThat(exportados).extracting(VotoDTO::getIdVoto)
+                .containsExactlyInAnyOrder(voto1.getIdVoto(), voto2.getIdVoto());
+        assertThat(exportados).extracting(VotoDTO::getAssembleiaId).containsOnly(assembleia1.getIdAssembleia());
+        assertThat(exportados).extracting(VotoDTO::getMembroId)
+                .containsExactlyInAnyOrder(membro1.getIdMembro(), membro2.getIdMembro());
+        assertThat(exportados.get(0).getRegistradoEm()).isBeforeOrEqualTo(exportados.get(1).getRegistradoEm());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todos os votos da assembleia em ordem de registro, desempatando pelo identificador")
+    void shouldStreamAllVotosInRegistrationOrderWithIdTieBreak() {
+        Membro membro4 = new Membro("Marcos Vinicius Rocha", "32165498700");
+        Membro membro5 = new Membro("Juliana Alves Pereira", "74185296300");
+        membroRepository.saveAll(List.of(membro4, membro5));
+        OffsetDateTime inicio = voto3.getRegistradoEm().plusMinutes(1);
+        Voto ultimo = new Voto(new UUID(0L, 1L), assembleia2, membro1, Decisao.Discordo, inicio.plusMinutes(30));
+        Voto empateSegundo = new Voto(new UUID(0L, 3L), assembleia2, membro2, Decisao.Concordo, inicio.plusMinutes(10));
+        Voto primeiro = new Voto(new UUID(0L, 4L), assembleia2, membro4, Decisao.Concordo, inicio);
+        Voto empatePrimeiro = new Voto(new UUID(0L, 2L), assembleia2, membro5, Decisao.Discordo, inicio.plusMinutes(10));
+        votoRepository.saveAll(List.of(ultimo, empateSegundo, primeiro, empatePrimeiro));
+        
+        List<VotoDTO> exportados;
+        try (Stream<VotoDTO> votos = votoRepository.streamByAssembleiaId(assembleia2.getIdAssembleia())) {
+            exportados = votos.toList();
+        }
+        
+        assertThat(exportados).extracting(VotoDTO::getIdVoto).containsExactly(
+                voto3.getIdVoto(), primeiro.getIdVoto(), empatePrimeiro.getIdVoto(), empateSegundo.getIdVoto(), ultimo.getIdVoto());
+        assertThat(exportados).extracting(VotoDTO::getDecisao).containsExactly(
+                Decisao.Concordo, Decisao.Concordo, Decisao.Discordo, Decisao.Concordo, Decisao.Discordo);
+    }
+
     @Test
     @DisplayName("Deve buscar votos por período de registro")
     void shouldFindVotosByRegistrationPeriod() {
@@ -182,6 +225,28 @@ class VotoRepositoryTest extends BaseRepositoryTest {
         assertThat(votoNotExists).isFalse();
     }
 
+    @Test
+    @DisplayName("Deve buscar identificadores dos membros que votaram na assembleia")
+    void shouldFindMembroIdsByAssembleiaId() {
+        List<UUID> membroIds = votoRepository.findMembroIdsByAssembleiaId(assembleia1.getIdAssembleia());
+        
+        assertThat(membroIds).containsExactlyInAnyOrder(membro1.getIdMembro(), membro2.getIdMembro());
+    }
+
+    @Test
+    @DisplayName("Deve buscar pares de assembleia e membro com voto registrado")
+    void shouldFindVotosExistentes() {
+        List<Object[]> pares = votoRepository.findVotosExistentes(
+                List.of(assembleia1.getIdAssembleia(), assembleia2.getIdAssembleia()),
+                List.of(membro1.getIdMembro(), membro3.getIdMembro()));
+        
+        assertThat(pares).hasSize(2);
+        assertThat(pares).extracting(par -> List.of(par[0], par[1]))
+                .containsExactlyInAnyOrder(
+                        List.of(assembleia1.getIdAssembleia(), membro1.getIdMembro()),
+                        List.of(assembleia2.getIdAssembleia(), membro3.getIdMembro()));
+    }
+
     @Test
     @DisplayName("Deve contar votos por decisão para assembleia")
     void shouldCountVotosByDecisaoForAssembleia() {
@@ -244,4 +309,33 @@ class VotoRepositoryTest extends BaseRepositoryTest {
         
         assertThat(foundVotos).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve inserir voto diretamente quando a assembleia estiver aberta")
+    void shouldInsertVotoWhenAssembleiaIsOpen() {
+        UUID idVoto = UUID.randomUUID();
+        
+        int inserted = votoRepository.insertIfAssembleiaAberta(
+            idVoto, assembleia2.getIdAssembleia(), membro1.getIdMembro(), Decisao.Discordo, OffsetDateTime.now());
+        
+        assertThat(inserted).isEqualTo(1);
+        assertThat(votoRepository.findById(idVoto))
+            .hasValueSatisfying(voto -> assertThat(voto.getDecisao()).isEqualTo(Decisao.Discordo));
+    }
+
+    @Test
+    @DisplayName("Não deve inserir voto diretamente quando a assembleia estiver encerrada ou o membro não existir")
+    void shouldNotInsertVotoWhenAssembleiaIsClosedOrMembroDoesNotExist() {
+        assembleia2.close();
+        assembleiaRepository.saveAndFlush(assembleia2);
+        
+        int closedInserted = votoRepository.insertIfAssembleiaAberta(
+            UUID.randomUUID(), assembleia2.getIdAssembleia(), membro1.getIdMembro(), Decisao.Concordo, OffsetDateTime.now());
+        int unknownMembroInserted = votoRepository.insertIfAssembleiaAberta(
+            UUID.randomUUID(), assembleia1.getIdAssembleia(), UUID.randomUUID(), Decisao.Concordo, OffsetDateTime.now());
+        
+        assertThat(closedInserted).isZero();
+        assertThat(unknownMembroInserted).isZero();
+        assertThat(votoRepository.count()).isEqualTo(3L);
+    }
+}
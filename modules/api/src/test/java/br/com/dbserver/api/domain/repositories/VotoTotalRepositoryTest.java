@@ -0,0 +1,124 @@
+package br.com.dbserver.api.domain.repositories;
+
+import br.com.dbserver.api.BaseRepositoryTest;
+import br.com.dbserver.api.domain.entities.*;
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Testes do repositório de totais de votos")
+class VotoTotalRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired
+    private VotoTotalRepository votoTotalRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private AssembleiaRepository assembleiaRepository;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private MembroRepository membroRepository;
+
+    private Assembleia assembleia;
+    private Membro membro1;
+    private Membro membro2;
+    private Membro membro3;
+
+    @BeforeEach
+    void setUp() {
+        Pauta pauta = new Pauta("Troca do Portão da Garagem", "Aprovação do orçamento para substituição do portão automático da garagem");
+        pautaRepository.save(pauta);
+
+        assembleia = new Assembleia(pauta);
+        assembleiaRepository.save(assembleia);
+
+        membro1 = new Membro("Lucas Almeida Costa", "11122233344");
+        membro2 = new Membro("Fernanda Ribeiro Gomes", "55566677788");
+        membro3 = new Membro("Marcos Vinicius Rocha", "99988877766");
+        membroRepository.saveAll(List.of(membro1, membro2, membro3));
+    }
+
+    @Test
+    @DisplayName("Deve criar e incrementar a parcela de um total")
+    void shouldCreateAndIncrementTotal() {
+        UUID assembleiaId = assembleia.getIdAssembleia();
+
+        votoTotalRepository.incrementar(assembleiaId, Decisao.Concordo, 0, 1);
+        votoTotalRepository.incrementar(assembleiaId, Decisao.Concordo, 0, 2);
+
+        assertThat(votoTotalRepository.findByAssembleiaId(assembleiaId))
+                .singleElement()
+                .satisfies(total -> {
+                    assertThat(total.getDecisao()).isEqualTo(Decisao.Concordo);
+                    assertThat(total.getSlot()).isZero();
+                    assertThat(total.getTotal()).isEqualTo(3L);
+                });
+    }
+
+    @Test
+    @DisplayName("Deve somar as parcelas de todos os slots nas contagens")
+    void shouldSumAllSlotsWhenCounting() {
+        UUID assembleiaId = assembleia.getIdAssembleia();
+
+        votoTotalRepository.incrementar(assembleiaId, Decisao.Concordo, 0, 2);
+        votoTotalRepository.incrementar(assembleiaId, Decisao.Concordo, 3, 5);
+        votoTotalRepository.incrementar(assembleiaId, Decisao.Discordo, 1, 4);
+
+        assertThat(votoTotalRepository.findByAssembleiaId(assembleiaId)).hasSize(3);
+        assertThat(votoRepository.countByAssembleia(assembleia)).isEqualTo(11L);
+        assertThat(votoRepository.countByAssembleiaAndDecisao(assembleia, Decisao.Concordo)).isEqualTo(7L);
+        assertThat(votoRepository.countVotosByDecisaoForAssembleia(assembleia))
+                .extracting(linha -> tuple(linha[0], linha[1]))
+                .containsExactlyInAnyOrder(tuple(Decisao.Concordo, 7L), tuple(Decisao.Discordo, 4L));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar os totais ao salvar votos individualmente e em lote")
+    void shouldUpdateTotalsWhenSavingVotos() {
+        votoRepository.save(new Voto(assembleia, membro1, Decisao.Concordo));
+        votoRepository.saveAll(List.of(
+                new Voto(assembleia, membro2, Decisao.Concordo),
+                new Voto(assembleia, membro3, Decisao.Discordo)));
+
+        assertThat(votoTotalRepository.findByAssembleiaId(assembleia.getIdAssembleia()).stream()
+                .mapToLong(VotoTotal::getTotal)
+                .sum()).isEqualTo(3L);
+        assertThat(votoRepository.countByAssembleia(assembleia)).isEqualTo(3L);
+        assertThat(votoRepository.countByAssembleiaAndDecisao(assembleia, Decisao.Discordo)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve consolidar o resultado da assembleia a partir dos totais")
+    void shouldAggregateResultadoByAssembleia() {
+        votoRepository.saveAll(List.of(
+                new Voto(assembleia, membro1, Decisao.Concordo),
+                new Voto(assembleia, membro2, Decisao.Concordo),
+                new Voto(assembleia, membro3, Decisao.Discordo)));
+
+        assertThat(votoRepository.findResultadoByAssembleia(assembleia.getIdAssembleia()))
+                .get()
+                .extracting(ResultadoAssembleiaDTO::getTotalVotos)
+                .isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Deve retornar zero para assembleia sem votos")
+    void shouldReturnZeroForAssembleiaWithoutVotos() {
+        assertThat(votoTotalRepository.findByAssembleiaId(assembleia.getIdAssembleia())).isEmpty();
+        assertThat(votoRepository.countByAssembleia(assembleia)).isZero();
+        assertThat(votoRepository.countVotosByDecisaoForAssembleia(assembleia)).isEmpty();
+    }
+}
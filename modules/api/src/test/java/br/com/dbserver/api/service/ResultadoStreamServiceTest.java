@@ -0,0 +1,183 @@
+package br.com.dbserver.api.service;
+
+import br.com.dbserver.api.config.ResultadoStreamConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.events.ResultadoSeladoEvent;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes do stream de resultados parciais")
+class ResultadoStreamServiceTest {
+
+    private AssembleiaRepository assembleiaRepository;
+    private VotoRepository votoRepository;
+    private ResultadoStreamService service;
+    private Assembleia assembleia;
+
+    @BeforeEach
+    void setUp() {
+        assembleiaRepository = mock(AssembleiaRepository.class);
+        votoRepository = mock(VotoRepository.class);
+        service = new ResultadoStreamService(assembleiaRepository, votoRepository, new ResultadoStreamConfig(), new ObjectMapper()) {
+            @Override
+            SseEmitter criarCliente() {
+                return new ClienteGravado();
+            }
+        };
+        assembleia = new Assembleia(new Pauta(UUID.randomUUID(), "Reforma da Piscina", "Autorização para reforma da área de lazer", null));
+        when(assembleiaRepository.findById(assembleia.getIdAssembleia())).thenReturn(Optional.of(assembleia));
+    }
+
+    @Test
+    @DisplayName("Não deve contar em dobro os votos confirmados durante a contagem inicial")
+    void shouldNotDoubleCountVotesCommittedDuringSeedQuery() {
+        AtomicInteger consultas = new AtomicInteger();
+        when(votoRepository.countVotosByDecisaoForAssembleia(assembleia)).thenAnswer(invocacao -> {
+            if (consultas.incrementAndGet() == 1) {
+                service.onVotoRegistrado(voto(Decisao.Concordo));
+            }
+            return totais(1L);
+        });
+
+        ClienteGravado cliente = assinar();
+        service.publicar();
+
+        assertThat(cliente.eventos).singleElement().asString()
+            .startsWith("event:resultado")
+            .contains("\"concordo\":1,");
+        verify(votoRepository, times(2)).countVotosByDecisaoForAssembleia(assembleia);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar uma rajada de votos em um único envio")
+    void shouldCoalesceBurstIntoSingleEvent() {
+        when(votoRepository.countVotosByDecisaoForAssembleia(assembleia)).thenReturn(totais(0L));
+        ClienteGravado cliente = assinar();
+
+        for (int i = 0; i < 5; i++) {
+            service.onVotoRegistrado(voto(Decisao.Concordo));
+        }
+        service.publicar();
+        service.publicar();
+
+        assertThat(cliente.eventos).hasSize(2);
+        assertThat(cliente.eventos.get(1)).contains("\"totalVotos\":5,");
+    }
+
+    @Test
+    @DisplayName("Deve descartar o canal somente na desconexão do último cliente")
+    void shouldDropChannelOnLastDisconnect() {
+        when(votoRepository.countVotosByDecisaoForAssembleia(assembleia)).thenReturn(totais(0L));
+        ClienteGravado primeiro = assinar();
+        ClienteGravado segundo = assinar();
+
+        primeiro.complete();
+        ClienteGravado terceiro = assinar();
+        verify(votoRepository, times(1)).countVotosByDecisaoForAssembleia(assembleia);
+
+        segundo.complete();
+        terceiro.complete();
+        assinar();
+        verify(votoRepository, times(2)).countVotosByDecisaoForAssembleia(assembleia);
+    }
+
+    @Test
+    @DisplayName("Deve enviar o resultado selado e concluir a conexão no encerramento")
+    void shouldSendFinalEventAndCompleteOnClose() {
+        when(votoRepository.countVotosByDecisaoForAssembleia(assembleia)).thenReturn(totais(2L));
+        ClienteGravado cliente = assinar();
+
+        service.onResultadoSelado(new ResultadoSeladoEvent(assembleia.getIdAssembleia(), 3, 1));
+        service.onVotoRegistrado(voto(Decisao.Discordo));
+        service.publicar();
+
+        assertThat(cliente.eventos).hasSize(2);
+        assertThat(cliente.eventos.get(1)).startsWith("event:encerramento").contains("\"totalVotos\":4,");
+        assertThat(cliente.concluido).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve enviar apenas o resultado final a um cliente de assembleia já encerrada")
+    void shouldOnlySendFinalEventForClosedAssembleia() {
+        assembleia.close();
+        when(votoRepository.findResultadoByAssembleia(assembleia.getIdAssembleia())).thenReturn(Optional.of(
+            new ResultadoAssembleiaDTO(assembleia.getIdAssembleia(), assembleia.getStatus(), null, null, 7L, 2L, "hash")));
+
+        ClienteGravado cliente = assinar();
+
+        assertThat(cliente.eventos).singleElement().asString()
+            .startsWith("event:encerramento")
+            .contains("\"totalVotos\":9,");
+        assertThat(cliente.concluido).isTrue();
+        verify(votoRepository, never()).countVotosByDecisaoForAssembleia(any());
+    }
+
+    private ClienteGravado assinar() {
+        return (ClienteGravado) service.assinar(assembleia.getIdAssembleia()).orElseThrow();
+    }
+
+    private VotoRegistradoEvent voto(Decisao decisao) {
+        return new VotoRegistradoEvent(UUID.randomUUID(), assembleia.getIdAssembleia(), UUID.randomUUID(), decisao);
+    }
+
+    private static List<Object[]> totais(long concordo) {
+        List<Object[]> linhas = new ArrayList<>();
+        linhas.add(new Object[] {Decisao.Concordo, concordo});
+        return linhas;
+    }
+
+    /**
+     * Conexão que registra os eventos enviados e executa os callbacks de conclusão, sem depender
+     * de uma requisição HTTP.
+     */
+    private static final class ClienteGravado extends SseEmitter {
+        private final List<String> eventos = new ArrayList<>();
+        private final List<Runnable> aoConcluir = new ArrayList<>();
+        private boolean concluido;
+
+        @Override
+        public void send(SseEventBuilder evento) {
+            if (concluido) {
+                throw new IllegalStateException("Conexão concluída");
+            }
+            eventos.add(evento.build().stream()
+                .map(parte -> String.valueOf(parte.getData()))
+                .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            aoConcluir.add(callback);
+        }
+
+        @Override
+        public void complete() {
+            concluido = true;
+            aoConcluir.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.dbserver.api.service;
+
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.VotoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes da exportação de votos em NDJSON")
+class VotoExportacaoServiceTest {
+
+    private final UUID assembleiaId = UUID.randomUUID();
+    private final OffsetDateTime inicio = OffsetDateTime.parse("2025-03-10T19:00:00Z");
+
+    private VotoRepository votoRepository;
+    private ObjectMapper objectMapper;
+    private VotoExportacaoService service;
+    private AtomicBoolean cursorFechado;
+
+    @BeforeEach
+    void setUp() {
+        votoRepository = mock(VotoRepository.class);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        service = new VotoExportacaoService(mock(AssembleiaRepository.class), votoRepository, objectMapper);
+        cursorFechado = new AtomicBoolean();
+    }
+
+    @Test
+    @DisplayName("Deve escrever um voto por linha, na ordem lida do banco")
+    void shouldWriteOneVotePerLineInCursorOrder() throws IOException {
+        List<VotoDTO> votos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            votos.add(new VotoDTO(UUID.randomUUID(), assembleiaId, UUID.randomUUID(),
+                i % 2 == 0 ? Decisao.Concordo : Decisao.Discordo, inicio.plusSeconds(i)));
+        }
+        cursor(votos);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        long exportados = service.exportar(assembleiaId, saida);
+
+        String conteudo = saida.toString(StandardCharsets.UTF_8);
+        assertThat(exportados).isEqualTo(5);
+        assertThat(conteudo).endsWith("\n").doesNotContain("\n\n");
+        List<VotoDTO> linhas = new ArrayList<>();
+        for (String linha : conteudo.split("\n")) {
+            assertThat(linha).startsWith("{").endsWith("}");
+            linhas.add(objectMapper.readValue(linha, VotoDTO.class));
+        }
+        assertThat(linhas).extracting(VotoDTO::getIdVoto)
+            .containsExactlyElementsOf(votos.stream().map(VotoDTO::getIdVoto).toList());
+        assertThat(linhas).extracting(VotoDTO::getDecisao)
+            .containsExactly(Decisao.Concordo, Decisao.Discordo, Decisao.Concordo, Decisao.Discordo, Decisao.Concordo);
+        assertThat(linhas).extracting(voto -> voto.getRegistradoEm().toInstant())
+            .isSorted();
+        assertThat(cursorFechado).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve escrever nada para uma assembleia sem votos")
+    void shouldWriteNothingWithoutVotes() throws IOException {
+        cursor(List.of());
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        assertThat(service.exportar(assembleiaId, saida)).isZero();
+        assertThat(saida.size()).isZero();
+        assertThat(cursorFechado).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve fechar o cursor e propagar a falha quando a escrita for interrompida, sem fechar a saída")
+    void shouldCloseCursorAndPropagateWriteFailure() {
+        List<VotoDTO> votos = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            votos.add(new VotoDTO(UUID.randomUUID(), assembleiaId, UUID.randomUUID(), Decisao.Concordo, inicio.plusSeconds(i)));
+        }
+        cursor(votos);
+        AtomicBoolean saidaFechada = new AtomicBoolean();
+        OutputStream desconectada = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Conexão encerrada pelo cliente");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Conexão encerrada pelo cliente");
+            }
+
+            @Override
+            public void close() {
+                saidaFechada.set(true);
+            }
+        };
+
+        assertThatThrownBy(() -> service.exportar(assembleiaId, desconectada))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Conexão encerrada pelo cliente");
+        assertThat(cursorFechado).isTrue();
+        assertThat(saidaFechada).isFalse();
+    }
+
+    private void cursor(List<VotoDTO> votos) {
+        when(votoRepository.streamByAssembleiaId(assembleiaId))
+            .thenReturn(votos.stream().onClose(() -> cursorFechado.set(true)));
+    }
+}
@@ -0,0 +1,176 @@
+package br.com.dbserver.api.service;
+
+import br.com.dbserver.api.config.VotoGroupCommitConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Membro;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.entities.Voto;
+import br.com.dbserver.api.domain.exceptions.AssembleiaClosedException;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.domain.repositories.MembroRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.service.cache.VotoDuplicidadeIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes do group commit de votos")
+class VotoGroupCommitterTest {
+
+    private static final Duration ESPERA = Duration.ofSeconds(5);
+
+    private VotoRepository votoRepository;
+    private AssembleiaRepository assembleiaRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private VotoGroupCommitter committer;
+    private final List<List<UUID>> gravacoes = new ArrayList<>();
+
+    private final Pauta pauta = new Pauta(UUID.randomUUID(), "Reforma da Piscina", "Autorização para reforma da área de lazer", null);
+    private final Assembleia assembleia = new Assembleia(pauta);
+    private final Membro ana = new Membro("Ana Paula Ferreira", "12312312312");
+    private final Membro bruno = new Membro("Bruno Henrique Lima", "45645645645");
+    private final Membro carla = new Membro("Carla Souza Mendes", "78978978978");
+
+    @BeforeEach
+    void setUp() {
+        votoRepository = mock(VotoRepository.class);
+        assembleiaRepository = mock(AssembleiaRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+
+        VotoGroupCommitConfig config = new VotoGroupCommitConfig();
+        config.setEnabled(true);
+        config.setLanes(1);
+        config.setMaxBatchSize(3);
+        config.setMaxWait(Duration.ofSeconds(1));
+
+        when(assembleiaRepository.findIdsAbertas(any())).thenReturn(List.of(assembleia.getIdAssembleia()));
+        committer = new VotoGroupCommitter(votoRepository, assembleiaRepository, mock(MembroRepository.class),
+            mock(PlatformTransactionManager.class), config, eventPublisher, mock(VotoDuplicidadeIndex.class),
+            new VotoGravacoesEmAndamento());
+        committer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        committer.stop();
+    }
+
+    @Test
+    @DisplayName("Deve gravar os votos concorrentes em um único grupo")
+    void shouldWriteConcurrentVotesInSingleGroup() {
+        registrarGravacoes();
+
+        List<CompletableFuture<Voto>> futures = List.of(
+            committer.submit(voto(ana)), committer.submit(voto(bruno)), committer.submit(voto(carla)));
+
+        futures.forEach(future -> assertThat(future).succeedsWithin(ESPERA));
+        assertThat(gravacoes).hasSize(1);
+        assertThat(gravacoes.get(0)).hasSize(3);
+        verify(assembleiaRepository, times(1)).findIdsAbertas(any());
+        verify(eventPublisher, times(3)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Deve regravar individualmente os votos de um grupo recusado, falhando apenas o voto problemático")
+    void shouldRetryEachVoteWhenGroupCommitFails() {
+        Voto recusado = voto(bruno);
+        when(votoRepository.saveAll(any())).thenAnswer(invocacao -> {
+            List<Voto> votos = invocacao.getArgument(0);
+            if (votos.size() > 1 || votos.get(0).getIdVoto().equals(recusado.getIdVoto())) {
+                throw new DataIntegrityViolationException("votos_assembleia_membro_uk");
+            }
+            return votos;
+        });
+
+        CompletableFuture<Voto> primeiro = committer.submit(voto(ana));
+        CompletableFuture<Voto> segundo = committer.submit(recusado);
+        CompletableFuture<Voto> terceiro = committer.submit(voto(carla));
+
+        assertThat(primeiro).succeedsWithin(ESPERA);
+        assertThat(terceiro).succeedsWithin(ESPERA);
+        assertThat(segundo).failsWithin(ESPERA)
+            .withThrowableThat()
+            .withCauseInstanceOf(DataIntegrityViolationException.class);
+        verify(votoRepository, times(4)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar os votos de assembleias encerradas antes da gravação do grupo")
+    void shouldRejectVotesOfClosedAssembleias() {
+        registrarGravacoes();
+        Assembleia encerrada = new Assembleia(pauta);
+
+        CompletableFuture<Voto> aberto = committer.submit(voto(ana));
+        CompletableFuture<Voto> fechado = committer.submit(new Voto(encerrada, bruno, Decisao.Concordo));
+
+        assertThat(aberto).succeedsWithin(ESPERA);
+        assertThat(fechado).failsWithin(ESPERA)
+            .withThrowableThat()
+            .withCauseInstanceOf(AssembleiaClosedException.class);
+        assertThat(gravacoes).flatExtracting(ids -> ids).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar os votos em espera quando a thread da fila terminar por falha inesperada")
+    void shouldFailOrphanedVotesWhenWorkerDies() {
+        when(votoRepository.saveAll(any())).thenThrow(new OutOfMemoryError("simulado"));
+
+        CompletableFuture<Voto> emGravacao = committer.submit(voto(ana));
+
+        assertThat(emGravacao).failsWithin(ESPERA)
+            .withThrowableThat()
+            .withCauseInstanceOf(IllegalStateException.class)
+            .withRootCauseInstanceOf(OutOfMemoryError.class);
+        assertThat(committer.submit(voto(bruno))).failsWithin(ESPERA)
+            .withThrowableThat()
+            .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Deve gravar os votos enfileirados antes do encerramento e recusar os posteriores")
+    void shouldDrainQueueOnShutdown() throws InterruptedException {
+        registrarGravacoes();
+        CompletableFuture<Voto> enfileirado = committer.submit(voto(ana));
+
+        committer.stop();
+
+        assertThat(enfileirado).isCompleted();
+        assertThat(enfileirado).succeedsWithin(Duration.ZERO);
+        assertThatThrownBy(() -> committer.submit(voto(bruno)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Group commit de votos não está ativo");
+    }
+
+    private void registrarGravacoes() {
+        when(votoRepository.saveAll(any())).thenAnswer(invocacao -> {
+            List<Voto> votos = invocacao.getArgument(0);
+            synchronized (gravacoes) {
+                gravacoes.add(votos.stream().map(Voto::getIdVoto).toList());
+            }
+            return votos;
+        });
+    }
+
+    private Voto voto(Membro membro) {
+        return new Voto(assembleia, membro, Decisao.Concordo);
+    }
+}
@@ -0,0 +1,245 @@
+package br.com.dbserver.api.service;
+
+import br.com.dbserver.api.config.VotoRegistroConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Membro;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.entities.Voto;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.exceptions.AssembleiaClosedException;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.domain.repositories.MembroRepository;
+import br.com.dbserver.api.domain.repositories.PautaRepository;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.VotoCreateDTO;
+import br.com.dbserver.api.dto.VotoCreateV2DTO;
+import br.com.dbserver.api.dto.VotoDTO;
+import br.com.dbserver.api.dto.VotoLoteItemDTO;
+import br.com.dbserver.api.dto.VotoLoteResultadoDTO;
+import br.com.dbserver.api.mapper.PautaMapper;
+import br.com.dbserver.api.mapper.VotoMapper;
+import br.com.dbserver.api.service.cache.AssembleiaAbertaCache;
+import br.com.dbserver.api.service.cache.MembroIdentidadeCache;
+import br.com.dbserver.api.service.cache.ResultadoEncerradoCache;
+import br.com.dbserver.api.service.cache.VotoDuplicidadeIndex;
+import br.com.dbserver.api.service.cache.VotoIdempotenciaStore;
+import br.com.dbserver.api.service.cache.VotoTotaisCache;
+import br.com.dbserver.api.service.journal.VotoJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes do serviço de votos")
+class VotoServiceTest {
+
+    private VotoRepository votoRepository;
+    private AssembleiaRepository assembleiaRepository;
+    private MembroRepository membroRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private VotoDuplicidadeIndex duplicidadeIndex;
+    private MembroIdentidadeCache membroIdentidadeCache;
+    private VotoRegistroConfig registroConfig;
+    private VotoService service;
+
+    private final Pauta pauta = new Pauta(UUID.randomUUID(), "Reforma da Piscina", "Autorização para reforma da área de lazer", null);
+    private final Assembleia assembleia = new Assembleia(pauta);
+    private final Membro ana = new Membro("Ana Paula Ferreira", "12312312312");
+    private final Membro bruno = new Membro("Bruno Henrique Lima", "45645645645");
+    private final Membro carla = new Membro("Carla Souza Mendes", "78978978978");
+
+    @BeforeEach
+    void setUp() {
+        votoRepository = mock(VotoRepository.class);
+        assembleiaRepository = mock(AssembleiaRepository.class);
+        membroRepository = mock(MembroRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        duplicidadeIndex = mock(VotoDuplicidadeIndex.class);
+        membroIdentidadeCache = mock(MembroIdentidadeCache.class);
+        registroConfig = new VotoRegistroConfig();
+        service = new VotoService(votoRepository, assembleiaRepository, membroRepository, mock(PautaRepository.class),
+            new VotoMapper(), mock(PautaMapper.class), mock(VotoGroupCommitter.class), new VotoGravacoesEmAndamento(),
+            mock(PlatformTransactionManager.class), duplicidadeIndex, eventPublisher,
+            mock(AssembleiaAbertaCache.class), membroIdentidadeCache, registroConfig,
+            mock(VotoIdempotenciaStore.class), mock(VotoJournal.class), mock(VotoTotaisCache.class),
+            mock(ResultadoEncerradoCache.class));
+    }
+
+    @Test
+    @DisplayName("Deve registrar o lote com uma única gravação e recusar individualmente os itens inválidos")
+    void shouldRegisterBatchAndRejectInvalidItems() {
+        UUID inexistente = UUID.randomUUID();
+        cadastro(List.of(ana, bruno, carla));
+        when(votoRepository.findVotosExistentes(anyCollection(), anyCollection()))
+            .thenReturn(List.<Object[]>of(new Object[] {assembleia.getIdAssembleia(), carla.getIdMembro()}));
+
+        VotoLoteResultadoDTO resultado = service.registerBatchV2(List.of(
+            voto(ana, Decisao.Concordo),
+            new VotoCreateV2DTO(inexistente, ana.getNome(), "12312312312", Decisao.Concordo),
+            new VotoCreateV2DTO(assembleia.getIdAssembleia(), "Daniel Costa", "32132132132", Decisao.Concordo),
+            new VotoCreateV2DTO(assembleia.getIdAssembleia(), "Bruno Lima", "45645645645", Decisao.Concordo),
+            voto(carla, Decisao.Discordo),
+            voto(ana, Decisao.Discordo),
+            voto(bruno, Decisao.Discordo)));
+
+        assertThat(resultado.getItens())
+            .extracting(VotoLoteItemDTO::getIndice, VotoLoteItemDTO::getStatus)
+            .containsExactly(
+                tuple(0, VotoLoteItemDTO.Status.REGISTRADO),
+                tuple(1, VotoLoteItemDTO.Status.ERRO),
+                tuple(2, VotoLoteItemDTO.Status.ERRO),
+                tuple(3, VotoLoteItemDTO.Status.ERRO),
+                tuple(4, VotoLoteItemDTO.Status.DUPLICADO),
+                tuple(5, VotoLoteItemDTO.Status.DUPLICADO),
+                tuple(6, VotoLoteItemDTO.Status.REGISTRADO));
+        assertThat(resultado.getTotalRegistrados()).isEqualTo(2);
+
+        ArgumentCaptor<Iterable<Voto>> gravados = captorVotos();
+        verify(votoRepository).saveAllAndFlush(gravados.capture());
+        assertThat(gravados.getValue()).extracting(voto -> voto.getMembro().getIdMembro())
+            .containsExactly(ana.getIdMembro(), bruno.getIdMembro());
+        verify(eventPublisher, times(2)).publishEvent(any(VotoRegistradoEvent.class));
+        verify(votoRepository, never()).insertIfAssembleiaAberta(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve regravar os votos individualmente quando o banco recusar a gravação do lote")
+    void shouldFallBackToPerItemWritesOnDataIntegrityViolation() {
+        cadastro(List.of(ana, bruno, carla));
+        when(votoRepository.findVotosExistentes(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(votoRepository.saveAllAndFlush(any())).thenThrow(new DataIntegrityViolationException("votos_assembleia_membro_uk"));
+        UUID assembleiaId = assembleia.getIdAssembleia();
+        when(votoRepository.insertIfAssembleiaAberta(any(), eq(assembleiaId), eq(ana.getIdMembro()), any(), any())).thenReturn(1);
+        when(votoRepository.insertIfAssembleiaAberta(any(), eq(assembleiaId), eq(bruno.getIdMembro()), any(), any()))
+            .thenThrow(new DataIntegrityViolationException("votos_assembleia_membro_uk"));
+        when(votoRepository.insertIfAssembleiaAberta(any(), eq(assembleiaId), eq(carla.getIdMembro()), any(), any())).thenReturn(0);
+
+        VotoLoteResultadoDTO resultado = service.registerBatchV2(List.of(
+            voto(ana, Decisao.Concordo),
+            voto(bruno, Decisao.Concordo),
+            voto(carla, Decisao.Discordo)));
+
+        assertThat(resultado.getItens())
+            .extracting(VotoLoteItemDTO::getStatus, VotoLoteItemDTO::getMensagem)
+            .containsExactly(
+                tuple(VotoLoteItemDTO.Status.REGISTRADO, null),
+                tuple(VotoLoteItemDTO.Status.DUPLICADO, "Membro já votou nesta assembleia"),
+                tuple(VotoLoteItemDTO.Status.ERRO, String.format(
+                    "Assembleia %s está encerrada. Não é possível registrar ou alterar votos.", assembleiaId)));
+        verify(votoRepository).incrementarTotal(assembleiaId, Decisao.Concordo, 1);
+        verify(votoRepository, times(1)).incrementarTotal(any(), any(), anyLong());
+        ArgumentCaptor<VotoRegistradoEvent> eventos = ArgumentCaptor.forClass(VotoRegistradoEvent.class);
+        verify(eventPublisher).publishEvent(eventos.capture());
+        assertThat(eventos.getAllValues()).extracting(VotoRegistradoEvent::membroId).containsExactly(ana.getIdMembro());
+    }
+
+    @Test
+    @DisplayName("Deve registrar o voto no modo otimista apenas com a inserção condicional e a atualização do total")
+    void shouldRegisterOptimisticVoteWithoutValidationQueries() {
+        registroConfig.setModo(VotoRegistroConfig.Modo.OTIMISTA);
+        when(membroIdentidadeCache.identificar(ana.getCpf().getValue(), ana.getNome()))
+            .thenReturn(Optional.of(new MembroIdentidadeCache.Identificacao(ana.getIdMembro(), true)));
+        when(votoRepository.insertIfAssembleiaAberta(any(), eq(assembleia.getIdAssembleia()), eq(ana.getIdMembro()),
+            eq(Decisao.Concordo), any())).thenReturn(1);
+
+        VotoDTO registrado = service.registerV2(voto(ana, Decisao.Concordo));
+
+        assertThat(registrado.getAssembleiaId()).isEqualTo(assembleia.getIdAssembleia());
+        assertThat(registrado.getMembroId()).isEqualTo(ana.getIdMembro());
+        verify(votoRepository).incrementarTotal(assembleia.getIdAssembleia(), Decisao.Concordo, 1);
+        ArgumentCaptor<VotoRegistradoEvent> evento = ArgumentCaptor.forClass(VotoRegistradoEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertThat(evento.getValue().idVoto()).isEqualTo(registrado.getIdVoto());
+        verify(assembleiaRepository, never()).findById(any());
+        verify(membroRepository, never()).existsById(any());
+        verify(duplicidadeIndex, never()).jaVotou(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve reportar o motivo da recusa no modo otimista quando nenhuma linha for inserida")
+    void shouldReportRejectionReasonWhenOptimisticInsertAffectsNoRows() {
+        registroConfig.setModo(VotoRegistroConfig.Modo.OTIMISTA);
+        UUID assembleiaId = assembleia.getIdAssembleia();
+        UUID membroId = ana.getIdMembro();
+        when(votoRepository.insertIfAssembleiaAberta(any(), any(), any(), any(), any())).thenReturn(0);
+        VotoCreateDTO dto = new VotoCreateDTO(assembleiaId, membroId, Decisao.Discordo);
+
+        when(assembleiaRepository.findById(assembleiaId)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> service.register(dto))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Assembleia não encontrada: " + assembleiaId);
+
+        when(assembleiaRepository.findById(assembleiaId)).thenReturn(Optional.of(assembleia));
+        assertThatThrownBy(() -> service.register(dto))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Membro não encontrado: " + membroId);
+
+        when(membroRepository.existsById(membroId)).thenReturn(true);
+        assertThatThrownBy(() -> service.register(dto))
+            .isInstanceOf(AssembleiaClosedException.class);
+
+        verify(votoRepository, never()).incrementarTotal(any(), any(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o voto duplicado no modo otimista pela restrição única e marcá-lo no índice")
+    void shouldRejectOptimisticDuplicateThroughUniqueConstraint() {
+        registroConfig.setModo(VotoRegistroConfig.Modo.OTIMISTA);
+        UUID assembleiaId = assembleia.getIdAssembleia();
+        when(votoRepository.insertIfAssembleiaAberta(any(), any(), any(), any(), any()))
+            .thenThrow(new DataIntegrityViolationException("votos_assembleia_membro_uk"));
+
+        assertThatThrownBy(() -> service.register(new VotoCreateDTO(assembleiaId, bruno.getIdMembro(), Decisao.Concordo)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Membro já votou nesta assembleia");
+
+        verify(duplicidadeIndex).marcar(assembleiaId, bruno.getIdMembro());
+        verify(votoRepository, never()).incrementarTotal(any(), any(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private void cadastro(List<Membro> membros) {
+        when(assembleiaRepository.findAllById(any())).thenAnswer(invocacao -> {
+            List<Assembleia> encontradas = new ArrayList<>();
+            for (UUID id : invocacao.<Iterable<UUID>>getArgument(0)) {
+                if (id.equals(assembleia.getIdAssembleia())) {
+                    encontradas.add(assembleia);
+                }
+            }
+            return encontradas;
+        });
+        when(membroRepository.findByCpfIn(any())).thenReturn(membros);
+    }
+
+    private VotoCreateV2DTO voto(Membro membro, Decisao decisao) {
+        return new VotoCreateV2DTO(assembleia.getIdAssembleia(), membro.getNome(), membro.getCpf().getValue(), decisao);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Iterable<Voto>> captorVotos() {
+        return ArgumentCaptor.forClass(Iterable.class);
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.dbserver.api.service.agenda;
+
+import br.com.dbserver.api.config.AgendaAssembleiasConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.events.AssembleiaAgendadaEvent;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import br.com.dbserver.api.service.AssembleiaService;
+import br.com.dbserver.api.service.cache.AssembleiaAbertaCache;
+import br.com.dbserver.api.service.cache.VotoDuplicidadeIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes da agenda de abertura e encerramento de assembleias")
+class AgendaAssembleiasTest {
+
+    private AssembleiaService assembleiaService;
+    private AssembleiaRepository assembleiaRepository;
+    private VotoDuplicidadeIndex duplicidadeIndex;
+    private AgendaAssembleias agenda;
+    private Pauta pauta;
+
+    @BeforeEach
+    void setUp() {
+        assembleiaService = mock(AssembleiaService.class);
+        assembleiaRepository = mock(AssembleiaRepository.class);
+        duplicidadeIndex = mock(VotoDuplicidadeIndex.class);
+        AgendaAssembleiasConfig config = new AgendaAssembleiasConfig();
+        config.setTick(Duration.ofMillis(10));
+        config.setAquecimento(Duration.ofMillis(50));
+        agenda = new AgendaAssembleias(assembleiaService, assembleiaRepository, mock(AssembleiaAbertaCache.class), duplicidadeIndex, config);
+        pauta = new Pauta(UUID.randomUUID(), "Reforma da Piscina", "Autorização para reforma da área de lazer", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        agenda.stop();
+    }
+
+    @Test
+    @DisplayName("Deve preparar o índice e abrir a assembleia no horário agendado")
+    void shouldWarmUpAndOpenOnSchedule() {
+        Assembleia assembleia = new Assembleia(pauta, OffsetDateTime.now().plusNanos(Duration.ofMillis(200).toNanos()), null);
+        when(assembleiaRepository.findComPrazoPendente()).thenReturn(List.of(assembleia));
+        when(assembleiaRepository.findById(assembleia.getIdAssembleia())).thenReturn(Optional.of(assembleia));
+
+        agenda.start();
+
+        verify(duplicidadeIndex, timeout(2_000)).preparar(assembleia.getIdAssembleia());
+        verify(assembleiaService, timeout(2_000)).openById(assembleia.getIdAssembleia());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar os prazos anteriores ao reagendamento e executar os novos")
+    void shouldIgnoreStaleDeadlinesAfterRescheduling() {
+        Assembleia assembleia = new Assembleia(pauta, OffsetDateTime.now().plusNanos(Duration.ofMillis(200).toNanos()), null);
+        when(assembleiaRepository.findComPrazoPendente()).thenReturn(List.of(assembleia));
+        when(assembleiaRepository.findById(assembleia.getIdAssembleia())).thenReturn(Optional.of(assembleia));
+        agenda.start();
+
+        assembleia.reagendar(OffsetDateTime.now().plusHours(1), OffsetDateTime.now().plusNanos(Duration.ofMillis(300).toNanos()).plusHours(1));
+        agenda.onAssembleiaAgendada(AssembleiaAgendadaEvent.of(assembleia));
+
+        verify(assembleiaService, after(600).never()).openById(any());
+        verify(duplicidadeIndex, never()).preparar(any());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar no novo horário uma assembleia aberta cujo encerramento foi reagendado")
+    void shouldCloseOnRescheduledDeadline() {
+        Assembleia assembleia = new Assembleia(pauta, null, OffsetDateTime.now().plusHours(1));
+        when(assembleiaRepository.findComPrazoPendente()).thenReturn(List.of(assembleia));
+        when(assembleiaRepository.findById(assembleia.getIdAssembleia())).thenReturn(Optional.of(assembleia));
+        agenda.start();
+
+        assembleia.reagendar(null, OffsetDateTime.now().plusNanos(Duration.ofMillis(100).toNanos()));
+        agenda.onAssembleiaAgendada(AssembleiaAgendadaEvent.of(assembleia));
+
+        verify(assembleiaService, timeout(2_000)).closeById(assembleia.getIdAssembleia());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o prazo de uma assembleia excluída")
+    void shouldDiscardDeadlineOfDeletedAssembleia() {
+        Assembleia assembleia = new Assembleia(pauta, null, OffsetDateTime.now().plusNanos(Duration.ofMillis(100).toNanos()));
+        when(assembleiaRepository.findComPrazoPendente()).thenReturn(List.of(assembleia));
+        when(assembleiaRepository.findById(assembleia.getIdAssembleia())).thenReturn(Optional.empty());
+
+        agenda.start();
+
+        verify(assembleiaRepository, timeout(2_000)).findById(assembleia.getIdAssembleia());
+        verify(assembleiaService, after(300).never()).closeById(any());
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.dbserver.api.service.agenda;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes da roda de temporizadores")
+class RodaTemporizadoresTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    @DisplayName("Deve expirar um prazo já vencido no próximo tick")
+    void shouldExpirePastDeadlineOnNextTick() {
+        RodaTemporizadores<String> roda = new RodaTemporizadores<>(TICK, 1_000);
+        roda.agendar(0, "vencido");
+
+        List<String> expiradas = new ArrayList<>();
+        roda.avancar(1_000 + TICK - 1, expiradas);
+        assertThat(expiradas).isEmpty();
+
+        roda.avancar(1_000 + TICK, expiradas);
+        assertThat(expiradas).containsExactly("vencido");
+        assertThat(roda.pendentes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descer os prazos dos níveis superiores e expirá-los no tick exato")
+    void shouldCascadeAcrossLevelsAndExpireOnExactTick() {
+        RodaTemporizadores<String> roda = new RodaTemporizadores<>(TICK, 0);
+        roda.agendar(5_000 * TICK, "nivel2");
+        roda.agendar(70 * TICK, "nivel1");
+        roda.agendar(3 * TICK, "nivel0");
+        assertThat(roda.pendentes()).isEqualTo(3);
+
+        List<String> expiradas = new ArrayList<>();
+        roda.avancar(70 * TICK - 1, expiradas);
+        assertThat(expiradas).containsExactly("nivel0");
+
+        roda.avancar(70 * TICK, expiradas);
+        assertThat(expiradas).containsExactly("nivel0", "nivel1");
+
+        roda.avancar(5_000 * TICK - 1, expiradas);
+        assertThat(expiradas).hasSize(2);
+        assertThat(roda.pendentes()).isEqualTo(1);
+
+        roda.avancar(5_000 * TICK, expiradas);
+        assertThat(expiradas).containsExactly("nivel0", "nivel1", "nivel2");
+        assertThat(roda.pendentes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve devolver em ordem de prazo os temporizadores vencidos em um único avanço")
+    void shouldReturnExpiredTasksInDeadlineOrder() {
+        RodaTemporizadores<String> roda = new RodaTemporizadores<>(TICK, 0);
+        roda.agendar(4_500 * TICK, "terceiro");
+        roda.agendar(100 * TICK, "segundo");
+        roda.agendar(TICK, "primeiro");
+
+        List<String> expiradas = new ArrayList<>();
+        roda.avancar(10_000 * TICK, expiradas);
+
+        assertThat(expiradas).containsExactly("primeiro", "segundo", "terceiro");
+    }
+
+    @Test
+    @DisplayName("Deve manter em espera os prazos além do alcance da roda e expirá-los no tick exato")
+    void shouldHoldDeadlinesBeyondRangeUntilTheyFit() {
+        long alcance = 1L << 24;
+        RodaTemporizadores<String> roda = new RodaTemporizadores<>(1, 0);
+        roda.agendar(alcance + 100, "distante");
+
+        List<String> expiradas = new ArrayList<>();
+        roda.avancar(alcance + 99, expiradas);
+        assertThat(expiradas).isEmpty();
+        assertThat(roda.pendentes()).isEqualTo(1);
+
+        roda.avancar(alcance + 100, expiradas);
+        assertThat(expiradas).containsExactly("distante");
+    }
+}
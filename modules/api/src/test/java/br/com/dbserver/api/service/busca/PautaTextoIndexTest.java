@@ -0,0 +1,135 @@
+package br.com.dbserver.api.service.busca;
+
+import br.com.dbserver.api.config.BuscaPautasConfig;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.events.PautaAlteradaEvent;
+import br.com.dbserver.api.domain.events.PautaExcluidaEvent;
+import br.com.dbserver.api.domain.repositories.PautaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes do índice de busca textual de pautas")
+class PautaTextoIndexTest {
+
+    private PautaRepository pautaRepository;
+    private PautaBuscaPostgres pautaBuscaPostgres;
+    private BuscaPautasConfig config;
+    private PautaTextoIndex index;
+
+    private final Pauta piscina = new Pauta(new UUID(0L, 1L), "Reforma da Piscina", "Autorização para reforma da área de lazer", null);
+    private final Pauta portaria = new Pauta(new UUID(0L, 2L), "Portaria remota", "Substituição da portaria por monitoramento, incluindo a área da piscina", null);
+    private final Pauta orcamento = new Pauta(new UUID(0L, 3L), "Orçamento anual", "Aprovação das contas do condomínio", null);
+
+    @BeforeEach
+    void setUp() {
+        pautaRepository = mock(PautaRepository.class);
+        pautaBuscaPostgres = mock(PautaBuscaPostgres.class);
+        config = new BuscaPautasConfig();
+        config.setTamanhoLote(2);
+        index = new PautaTextoIndex(pautaRepository, pautaBuscaPostgres, config);
+    }
+
+    @Test
+    @DisplayName("Deve ficar pronto somente após a construção, lendo as pautas em lotes")
+    void shouldBecomeReadyAfterBuildingInBatches() {
+        lotes(List.of(piscina, portaria, orcamento));
+        assertThat(index.isPronto()).isFalse();
+
+        index.construir();
+
+        assertThat(index.isPronto()).isTrue();
+        assertThat(index.buscar("orcamento", 10)).extracting(PautaTextoIndex.Resultado::idPauta)
+            .containsExactly(orcamento.getIdPauta());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e maiúsculas e ordenar as ocorrências no título antes das da descrição")
+    void shouldIgnoreAccentsAndRankTitleMatchesFirst() {
+        lotes(List.of(piscina, portaria, orcamento));
+        index.construir();
+
+        List<PautaTextoIndex.Resultado> resultados = index.buscar("PISCÍNA", 10);
+
+        assertThat(resultados).extracting(PautaTextoIndex.Resultado::idPauta)
+            .containsExactly(piscina.getIdPauta(), portaria.getIdPauta());
+        assertThat(resultados.get(0).relevancia()).isGreaterThan(resultados.get(1).relevancia());
+    }
+
+    @Test
+    @DisplayName("Deve exigir todos os termos e tratar o último como prefixo")
+    void shouldRequireAllTermsAndTreatLastAsPrefix() {
+        lotes(List.of(piscina, portaria, orcamento));
+        index.construir();
+
+        assertThat(index.buscar("area pisc", 10)).extracting(PautaTextoIndex.Resultado::idPauta)
+            .containsExactlyInAnyOrder(piscina.getIdPauta(), portaria.getIdPauta());
+        assertThat(index.buscar("reforma portaria", 10)).isEmpty();
+        assertThat(index.buscar("pisc area", 10)).isEmpty();
+        assertThat(index.buscar("pisc", 1)).extracting(PautaTextoIndex.Resultado::idPauta)
+            .containsExactly(piscina.getIdPauta());
+    }
+
+    @Test
+    @DisplayName("Deve refletir as pautas alteradas e excluídas nesta instância")
+    void shouldApplyLocalChanges() {
+        lotes(List.of(piscina, orcamento));
+        index.construir();
+
+        index.onPautaAlterada(new PautaAlteradaEvent(orcamento.getIdPauta(), "Orçamento da piscina", "Aprovação das contas"));
+        index.onPautaExcluida(new PautaExcluidaEvent(piscina.getIdPauta()));
+
+        assertThat(index.buscar("piscina", 10)).extracting(PautaTextoIndex.Resultado::idPauta)
+            .containsExactly(orcamento.getIdPauta());
+        assertThat(index.buscar("reforma", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve incorporar na reconstrução as pautas alteradas através de outras instâncias")
+    void shouldPickUpExternalChangesOnRebuild() {
+        lotes(List.of(piscina, orcamento));
+        index.construir();
+        assertThat(index.buscar("portaria", 10)).isEmpty();
+
+        lotes(List.of(piscina, portaria));
+        index.construir();
+
+        assertThat(index.buscar("portaria", 10)).extracting(PautaTextoIndex.Resultado::idPauta)
+            .containsExactly(portaria.getIdPauta());
+        assertThat(index.buscar("orcamento", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve manter o índice quando a busca textual completa do PostgreSQL estiver disponível")
+    void shouldNotMaintainIndexWhenPostgresFullTextIsAvailable() {
+        when(pautaBuscaPostgres.isTextoCompleto()).thenReturn(true);
+
+        index.start();
+        index.onPautaAlterada(PautaAlteradaEvent.of(piscina));
+
+        assertThat(index.isPronto()).isFalse();
+        assertThat(index.buscar("piscina", 10)).isEmpty();
+        verify(pautaRepository, never()).findLoteAposId(any(), any());
+    }
+
+    private void lotes(List<Pauta> pautas) {
+        when(pautaRepository.findLoteAposId(any(), any())).thenReturn(List.of());
+        UUID ultimo = new UUID(0L, 0L);
+        for (int i = 0; i < pautas.size(); i += config.getTamanhoLote()) {
+            List<Pauta> lote = pautas.subList(i, Math.min(i + config.getTamanhoLote(), pautas.size()));
+            when(pautaRepository.findLoteAposId(eq(ultimo), any())).thenReturn(lote);
+            ultimo = lote.get(lote.size() - 1).getIdPauta();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.repositories.AssembleiaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes do cache de assembleias abertas")
+class AssembleiaAbertaCacheTest {
+
+    private AssembleiaRepository assembleiaRepository;
+    private UrnaCacheConfig config;
+    private AssembleiaAbertaCache cache;
+    private Pauta pauta;
+
+    @BeforeEach
+    void setUp() {
+        assembleiaRepository = mock(AssembleiaRepository.class);
+        when(assembleiaRepository.findById(any())).thenReturn(Optional.empty());
+        config = new UrnaCacheConfig();
+        cache = new AssembleiaAbertaCache(assembleiaRepository, config);
+        pauta = new Pauta(UUID.randomUUID(), "Reforma da Piscina", "Autorização para reforma da área de lazer", null);
+    }
+
+    @Test
+    @DisplayName("Deve servir a assembleia aberta do cache após a primeira consulta")
+    void shouldServeOpenAssembleiaFromCache() {
+        Assembleia assembleia = cadastrar(new Assembleia(pauta));
+
+        Optional<Assembleia> primeira = cache.buscar(assembleia.getIdAssembleia());
+        Optional<Assembleia> segunda = cache.buscar(assembleia.getIdAssembleia());
+
+        assertThat(primeira).contains(assembleia);
+        assertThat(segunda).hasValueSatisfying(copia -> {
+            assertThat(copia.getIdAssembleia()).isEqualTo(assembleia.getIdAssembleia());
+            assertThat(copia.getPauta().getIdPauta()).isEqualTo(pauta.getIdPauta());
+            assertThat(copia.isOpen()).isTrue();
+            assertThat(copia.getIniciadaEm()).isEqualTo(assembleia.getIniciadaEm());
+        });
+        verify(assembleiaRepository, times(1)).findById(assembleia.getIdAssembleia());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar assembleias encerradas ou inexistentes")
+    void shouldNotCacheClosedOrMissingAssembleias() {
+        Assembleia encerrada = new Assembleia(pauta);
+        encerrada.close();
+        cadastrar(encerrada);
+        UUID inexistente = UUID.randomUUID();
+
+        assertThat(cache.buscar(encerrada.getIdAssembleia())).hasValueSatisfying(a -> assertThat(a.isEncerrada()).isTrue());
+        cache.buscar(encerrada.getIdAssembleia());
+        assertThat(cache.buscar(inexistente)).isEmpty();
+        cache.buscar(inexistente);
+
+        verify(assembleiaRepository, times(2)).findById(encerrada.getIdAssembleia());
+        verify(assembleiaRepository, times(2)).findById(inexistente);
+    }
+
+    @Test
+    @DisplayName("Deve consultar novamente o banco após a invalidação")
+    void shouldReloadAfterInvalidation() {
+        Assembleia assembleia = cadastrar(new Assembleia(pauta));
+        cache.buscar(assembleia.getIdAssembleia());
+
+        cache.invalidar(assembleia.getIdAssembleia());
+        assembleia.close();
+
+        assertThat(cache.buscar(assembleia.getIdAssembleia())).hasValueSatisfying(a -> assertThat(a.isOpen()).isFalse());
+        verify(assembleiaRepository, times(2)).findById(assembleia.getIdAssembleia());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar o estado lido durante uma invalidação concorrente")
+    void shouldDiscardStateReadDuringConcurrentInvalidation() {
+        Assembleia assembleia = new Assembleia(pauta);
+        when(assembleiaRepository.findById(assembleia.getIdAssembleia())).thenAnswer(invocacao -> {
+            cache.invalidar(assembleia.getIdAssembleia());
+            return Optional.of(assembleia);
+        });
+
+        cache.buscar(assembleia.getIdAssembleia());
+        cache.buscar(assembleia.getIdAssembleia());
+
+        verify(assembleiaRepository, times(2)).findById(assembleia.getIdAssembleia());
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de assembleias armazenadas")
+    void shouldLimitCachedAssembleias() {
+        config.getAssembleiasAbertas().setMaxEntradas(1);
+        Assembleia primeira = cadastrar(new Assembleia(pauta));
+        Assembleia segunda = cadastrar(new Assembleia(pauta));
+
+        cache.buscar(primeira.getIdAssembleia());
+        cache.buscar(segunda.getIdAssembleia());
+        cache.buscar(segunda.getIdAssembleia());
+        cache.buscar(primeira.getIdAssembleia());
+
+        verify(assembleiaRepository, times(1)).findById(segunda.getIdAssembleia());
+        verify(assembleiaRepository, times(2)).findById(primeira.getIdAssembleia());
+    }
+
+    private Assembleia cadastrar(Assembleia assembleia) {
+        when(assembleiaRepository.findById(assembleia.getIdAssembleia())).thenReturn(Optional.of(assembleia));
+        return assembleia;
+    }
+}
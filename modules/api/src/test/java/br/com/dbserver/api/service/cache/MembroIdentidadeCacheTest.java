@@ -0,0 +1,121 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.entities.Membro;
+import br.com.dbserver.api.domain.repositories.MembroRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes do cache de identidade dos membros")
+class MembroIdentidadeCacheTest {
+
+    private MembroRepository membroRepository;
+    private UrnaCacheConfig config;
+    private final Map<String, Membro> membros = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        membroRepository = mock(MembroRepository.class);
+        when(membroRepository.findByCpf(anyString()))
+            .thenAnswer(invocacao -> Optional.ofNullable(membros.get(invocacao.<String>getArgument(0))));
+        config = new UrnaCacheConfig();
+    }
+
+    @Test
+    @DisplayName("Deve identificar o membro pelo cache após a primeira consulta")
+    void shouldIdentifyMembroFromCacheAfterFirstLookup() {
+        MembroIdentidadeCache cache = new MembroIdentidadeCache(membroRepository, config);
+        Membro membro = cadastrar("12345678901", "Maria Silva");
+
+        Optional<MembroIdentidadeCache.Identificacao> primeira = cache.identificar("12345678901", "Maria Silva");
+        Optional<MembroIdentidadeCache.Identificacao> segunda = cache.identificar("12345678901", "  MARIA SILVA ");
+
+        assertThat(primeira).contains(new MembroIdentidadeCache.Identificacao(membro.getIdMembro(), true));
+        assertThat(segunda).contains(new MembroIdentidadeCache.Identificacao(membro.getIdMembro(), true));
+        verify(membroRepository, times(1)).findByCpf("12345678901");
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no banco um nome divergente do cache")
+    void shouldConfirmMismatchedNameInDatabase() {
+        MembroIdentidadeCache cache = new MembroIdentidadeCache(membroRepository, config);
+        Membro membro = cadastrar("12345678901", "Maria Silva");
+        cache.identificar("12345678901", "Maria Silva");
+
+        Optional<MembroIdentidadeCache.Identificacao> identificacao = cache.identificar("12345678901", "João Souza");
+
+        assertThat(identificacao).contains(new MembroIdentidadeCache.Identificacao(membro.getIdMembro(), false));
+        verify(membroRepository, times(2)).findByCpf("12345678901");
+    }
+
+    @Test
+    @DisplayName("Deve consultar sempre o banco para CPFs inexistentes ou inválidos")
+    void shouldNotCacheMissingOrInvalidCpf() {
+        MembroIdentidadeCache cache = new MembroIdentidadeCache(membroRepository, config);
+
+        assertThat(cache.identificar("99999999999", "Ninguém")).isEmpty();
+        assertThat(cache.identificar("99999999999", "Ninguém")).isEmpty();
+        assertThat(cache.identificar("123", "Ninguém")).isEmpty();
+
+        verify(membroRepository, times(2)).findByCpf("99999999999");
+        verify(membroRepository, times(1)).findByCpf("123");
+    }
+
+    @Test
+    @DisplayName("Deve manter todos os membros, encontrados por sondagem linear, ao expandir a tabela")
+    void shouldKeepAllMembrosWhenTableGrows() {
+        config.getMembros().setMaxMembros(10_000);
+        MembroIdentidadeCache cache = new MembroIdentidadeCache(membroRepository, config);
+        Map<String, UUID> ids = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            String cpf = String.format("%011d", i);
+            ids.put(cpf, cadastrar(cpf, "Membro " + i).getIdMembro());
+            cache.identificar(cpf, "Membro " + i);
+        }
+
+        ids.forEach((cpf, id) -> assertThat(cache.identificar(cpf, "Membro " + Long.parseLong(cpf)))
+            .contains(new MembroIdentidadeCache.Identificacao(id, true)));
+        verify(membroRepository, times(5_000)).findByCpf(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve deixar de armazenar membros ao atingir a capacidade máxima")
+    void shouldStopCachingAtMaximumCapacity() {
+        config.getMembros().setMaxMembros(1);
+        MembroIdentidadeCache cache = new MembroIdentidadeCache(membroRepository, config);
+        int capacidade = 1024 / 4 * 3;
+        for (int i = 0; i < capacidade; i++) {
+            String cpf = String.format("%011d", i);
+            cadastrar(cpf, "Membro " + i);
+            cache.identificar(cpf, "Membro " + i);
+        }
+        String excedente = String.format("%011d", capacidade);
+        cadastrar(excedente, "Excedente");
+
+        cache.identificar(excedente, "Excedente");
+        cache.identificar(excedente, "Excedente");
+        cache.identificar("00000000000", "Membro 0");
+
+        verify(membroRepository, times(2)).findByCpf(excedente);
+        verify(membroRepository, times(1)).findByCpf("00000000000");
+    }
+
+    private Membro cadastrar(String cpf, String nome) {
+        Membro membro = new Membro(UUID.randomUUID(), nome, null);
+        membros.put(cpf, membro);
+        return membro;
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.events.AssembleiaExcluidaEvent;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes do índice de duplicidade de votos")
+class VotoDuplicidadeIndexTest {
+
+    private VotoRepository votoRepository;
+    private UrnaCacheConfig config;
+    private VotoDuplicidadeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        votoRepository = mock(VotoRepository.class);
+        when(votoRepository.findMembroIdsByAssembleiaId(any())).thenReturn(List.of());
+        config = new UrnaCacheConfig();
+        index = new VotoDuplicidadeIndex(votoRepository, config);
+    }
+
+    @Test
+    @DisplayName("Deve carregar os votos da assembleia do banco uma única vez")
+    void shouldLoadAssembleiaFromDatabaseOnce() {
+        UUID assembleiaId = UUID.randomUUID();
+        UUID votou = UUID.randomUUID();
+        when(votoRepository.findMembroIdsByAssembleiaId(assembleiaId)).thenReturn(List.of(votou));
+
+        assertThat(index.jaVotou(assembleiaId, votou)).isTrue();
+        assertThat(index.jaVotou(assembleiaId, UUID.randomUUID())).isFalse();
+        verify(votoRepository, times(1)).findMembroIdsByAssembleiaId(assembleiaId);
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer votos marcados apenas na assembleia correspondente")
+    void shouldRecognizeMarkedVotesPerAssembleia() {
+        UUID assembleiaA = UUID.randomUUID();
+        UUID assembleiaB = UUID.randomUUID();
+        UUID membro = UUID.randomUUID();
+        index.preparar(assembleiaA);
+        index.preparar(assembleiaB);
+
+        index.marcar(assembleiaA, membro);
+
+        assertThat(index.jaVotou(assembleiaA, membro)).isTrue();
+        assertThat(index.jaVotou(assembleiaB, membro)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar marcações de assembleias ainda não carregadas")
+    void shouldIgnoreMarksForUnloadedAssembleia() {
+        UUID assembleiaId = UUID.randomUUID();
+        UUID membro = UUID.randomUUID();
+
+        index.marcar(assembleiaId, membro);
+
+        assertThat(index.jaVotou(assembleiaId, membro)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o bitmap da assembleia excluída")
+    void shouldDiscardBitmapOfDeletedAssembleia() {
+        UUID assembleiaId = UUID.randomUUID();
+        UUID membro = UUID.randomUUID();
+        index.preparar(assembleiaId);
+        index.marcar(assembleiaId, membro);
+
+        index.onAssembleiaExcluida(new AssembleiaExcluidaEvent(assembleiaId));
+
+        assertThat(index.jaVotou(assembleiaId, membro)).isFalse();
+        verify(votoRepository, times(2)).findMembroIdsByAssembleiaId(assembleiaId);
+    }
+
+    @Test
+    @DisplayName("Deve poupar uma vez as assembleias acessadas ao remover excedentes")
+    void shouldGiveSecondChanceToAccessedAssembleias() {
+        config.getDuplicidade().setMaxAssembleias(2);
+        UUID primeira = UUID.randomUUID();
+        UUID acessada = UUID.randomUUID();
+        UUID ociosa = UUID.randomUUID();
+        UUID nova = UUID.randomUUID();
+        index.preparar(primeira);
+        index.preparar(acessada);
+        index.preparar(ociosa);
+
+        index.jaVotou(acessada, UUID.randomUUID());
+        index.preparar(nova);
+
+        index.jaVotou(acessada, UUID.randomUUID());
+        index.jaVotou(nova, UUID.randomUUID());
+        verify(votoRepository, times(1)).findMembroIdsByAssembleiaId(acessada);
+        verify(votoRepository, times(1)).findMembroIdsByAssembleiaId(nova);
+
+        index.jaVotou(ociosa, UUID.randomUUID());
+        index.jaVotou(primeira, UUID.randomUUID());
+        verify(votoRepository, times(2)).findMembroIdsByAssembleiaId(ociosa);
+        verify(votoRepository, times(2)).findMembroIdsByAssembleiaId(primeira);
+    }
+
+    @Test
+    @DisplayName("Deve reiniciar a numeração de membros ao exceder o limite, recarregando os votos do banco")
+    void shouldResetMemberNumberingWhenLimitIsExceeded() {
+        config.getDuplicidade().setMaxMembros(3);
+        UUID assembleiaId = UUID.randomUUID();
+        UUID primeiro = UUID.randomUUID();
+        when(votoRepository.findMembroIdsByAssembleiaId(assembleiaId)).thenReturn(List.of(primeiro));
+        index.preparar(assembleiaId);
+
+        index.marcar(assembleiaId, UUID.randomUUID());
+        index.marcar(assembleiaId, UUID.randomUUID());
+        UUID ultimo = UUID.randomUUID();
+        index.marcar(assembleiaId, ultimo);
+
+        assertThat(index.jaVotou(assembleiaId, primeiro)).isTrue();
+        assertThat(index.jaVotou(assembleiaId, ultimo)).isFalse();
+        assertThat(index.jaVotou(assembleiaId, UUID.randomUUID())).isFalse();
+        verify(votoRepository, times(2)).findMembroIdsByAssembleiaId(assembleiaId);
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.dto.VotoDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes do armazenamento de chaves de idempotência")
+class VotoIdempotenciaStoreTest {
+
+    private UrnaCacheConfig config;
+    private VotoIdempotenciaStore store;
+    private AtomicInteger execucoes;
+
+    @BeforeEach
+    void setUp() {
+        config = new UrnaCacheConfig();
+        store = new VotoIdempotenciaStore(config);
+        execucoes = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve devolver o voto original ao repetir a chave com os mesmos dados")
+    void shouldReturnOriginalVotoForRepeatedKey() {
+        VotoDTO original = store.executar("v1", "chave", "dados", registro());
+        VotoDTO repetido = store.executar("v1", "chave", "dados", registro());
+
+        assertThat(repetido).isSameAs(original);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve executar sempre o registro quando a chave não for informada")
+    void shouldAlwaysExecuteWithoutKey() {
+        store.executar("v1", null, "dados", registro());
+        store.executar("v1", " ", "dados", registro());
+
+        assertThat(execucoes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a reutilização da chave com outros dados")
+    void shouldRejectKeyReuseWithDifferentData() {
+        store.executar("v1", "chave", "dados", registro());
+
+        assertThatThrownBy(() -> store.executar("v1", "chave", "outros dados", registro()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Idempotency-Key");
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve isolar a mesma chave recebida por endpoints diferentes")
+    void shouldScopeKeysPerEndpoint() {
+        VotoDTO v1 = store.executar("v1", "chave", "dados", registro());
+        VotoDTO v2 = store.executar("v2", "chave", "outros dados", registro());
+
+        assertThat(v2).isNotSameAs(v1);
+        assertThat(execucoes).hasValue(2);
+        assertThat(store.executar("v1", "chave", "dados", registro())).isSameAs(v1);
+    }
+
+    @Test
+    @DisplayName("Deve executar novamente o registro após a expiração da chave")
+    void shouldExecuteAgainAfterTtl() {
+        config.getIdempotencia().setTtl(Duration.ZERO);
+
+        VotoDTO original = store.executar("v1", "chave", "dados", registro());
+        VotoDTO novo = store.executar("v1", "chave", "outros dados", registro());
+
+        assertThat(novo).isNotSameAs(original);
+        assertThat(execucoes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Deve descartar as chaves mais antigas ao atingir o limite")
+    void shouldEvictOldestKeysWhenLimitIsReached() {
+        config.getIdempotencia().setMaxChaves(2);
+        store.executar("v1", "primeira", "dados", registro());
+        store.executar("v1", "segunda", "dados", registro());
+        store.executar("v1", "terceira", "dados", registro());
+
+        store.executar("v1", "terceira", "dados", registro());
+        assertThat(execucoes).hasValue(3);
+
+        store.executar("v1", "primeira", "dados", registro());
+        assertThat(execucoes).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar registros que falharam")
+    void shouldNotStoreFailedRegistrations() {
+        assertThatThrownBy(() -> store.executar("v1", "chave", "dados", () -> {
+            throw new IllegalArgumentException("Membro já votou nesta assembleia");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        store.executar("v1", "chave", "dados", registro());
+
+        assertThat(execucoes).hasValue(1);
+    }
+
+    private Supplier<VotoDTO> registro() {
+        return () -> {
+            execucoes.incrementAndGet();
+            return new VotoDTO(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), Decisao.Concordo, OffsetDateTime.now());
+        };
+    }
+}
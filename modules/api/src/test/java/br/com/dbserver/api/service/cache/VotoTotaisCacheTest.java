@@ -0,0 +1,128 @@
+package br.com.dbserver.api.service.cache;
+
+import br.com.dbserver.api.config.UrnaCacheConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Pauta;
+import br.com.dbserver.api.domain.events.AssembleiaExcluidaEvent;
+import br.com.dbserver.api.domain.events.VotoRegistradoEvent;
+import br.com.dbserver.api.domain.repositories.VotoRepository;
+import br.com.dbserver.api.dto.ResultadoAssembleiaDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes dos contadores de votos por assembleia")
+class VotoTotaisCacheTest {
+
+    private VotoRepository votoRepository;
+    private UrnaCacheConfig config;
+    private VotoTotaisCache cache;
+    private Pauta pauta;
+
+    @BeforeEach
+    void setUp() {
+        votoRepository = mock(VotoRepository.class);
+        config = new UrnaCacheConfig();
+        cache = new VotoTotaisCache(votoRepository, config);
+        pauta = new Pauta(UUID.randomUUID(), "Reforma da Piscina", "Autorização para reforma da área de lazer", null);
+    }
+
+    @Test
+    @DisplayName("Deve carregar os totais da tabela uma única vez")
+    void shouldLoadTotalsOnceWhileValid() {
+        Assembleia assembleia = new Assembleia(pauta);
+        totais(assembleia, 3L, 1L);
+
+        cache.totais(assembleia);
+        Map<Decisao, Long> totais = cache.totais(assembleia);
+
+        assertThat(totais).containsEntry(Decisao.Concordo, 3L).containsEntry(Decisao.Discordo, 1L);
+        verify(votoRepository, times(1)).countVotosByDecisaoForAssembleia(assembleia);
+    }
+
+    @Test
+    @DisplayName("Deve incrementar os contadores com os votos confirmados, sem consultar a tabela")
+    void shouldIncrementCountersOnCommittedVotes() {
+        Assembleia assembleia = new Assembleia(pauta);
+        totais(assembleia, 2L, null);
+        cache.totais(assembleia);
+
+        cache.onVotoRegistrado(new VotoRegistradoEvent(UUID.randomUUID(), assembleia.getIdAssembleia(), UUID.randomUUID(), Decisao.Discordo));
+        ResultadoAssembleiaDTO resultado = cache.resultado(assembleia);
+
+        assertThat(resultado.getConcordo()).isEqualTo(2L);
+        assertThat(resultado.getDiscordo()).isEqualTo(1L);
+        assertThat(resultado.getTotalVotos()).isEqualTo(3L);
+        assertThat(resultado.getHashResultado()).isNull();
+        verify(votoRepository, times(1)).countVotosByDecisaoForAssembleia(assembleia);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar os contadores somente pelos votos confirmados, sem reler a tabela")
+    void shouldNotReloadTotalsFromTable() {
+        Assembleia assembleia = new Assembleia(pauta);
+        totais(assembleia, 1L, null);
+        cache.totais(assembleia);
+        totais(assembleia, 5L, 2L);
+
+        cache.onVotoRegistrado(new VotoRegistradoEvent(UUID.randomUUID(), assembleia.getIdAssembleia(), UUID.randomUUID(), Decisao.Concordo));
+
+        assertThat(cache.totais(assembleia)).containsEntry(Decisao.Concordo, 2L).containsEntry(Decisao.Discordo, 0L);
+        verify(votoRepository, times(1)).countVotosByDecisaoForAssembleia(assembleia);
+    }
+
+    @Test
+    @DisplayName("Deve descartar as assembleias carregadas há mais tempo ao exceder o limite")
+    void shouldEvictOldestAssembleiaWhenLimitIsExceeded() {
+        config.getTotais().setMaxAssembleias(1);
+        Assembleia primeira = new Assembleia(pauta);
+        Assembleia segunda = new Assembleia(pauta);
+        totais(primeira, 1L, null);
+        totais(segunda, null, 1L);
+
+        cache.totais(primeira);
+        cache.totais(segunda);
+        cache.totais(segunda);
+        cache.totais(primeira);
+
+        verify(votoRepository, times(2)).countVotosByDecisaoForAssembleia(primeira);
+        verify(votoRepository, times(1)).countVotosByDecisaoForAssembleia(segunda);
+    }
+
+    @Test
+    @DisplayName("Deve descartar os contadores da assembleia excluída")
+    void shouldDiscardCountersOfDeletedAssembleia() {
+        Assembleia assembleia = new Assembleia(pauta);
+        totais(assembleia, 4L, null);
+        cache.totais(assembleia);
+
+        cache.onAssembleiaExcluida(new AssembleiaExcluidaEvent(assembleia.getIdAssembleia()));
+        totais(assembleia, null, null);
+
+        assertThat(cache.totais(assembleia)).containsEntry(Decisao.Concordo, 0L).containsEntry(Decisao.Discordo, 0L);
+        verify(votoRepository, times(2)).countVotosByDecisaoForAssembleia(assembleia);
+    }
+
+    private void totais(Assembleia assembleia, Long concordo, Long discordo) {
+        List<Object[]> linhas = new ArrayList<>();
+        if (concordo != null) {
+            linhas.add(new Object[] {Decisao.Concordo, concordo});
+        }
+        if (discordo != null) {
+            linhas.add(new Object[] {Decisao.Discordo, discordo});
+        }
+        when(votoRepository.countVotosByDecisaoForAssembleia(assembleia)).thenReturn(linhas);
+    }
+}
@@ -0,0 +1,220 @@
+package br.com.dbserver.api.service.journal;
+
+import br.com.dbserver.api.config.VotoJournalConfig;
+import br.com.dbserver.api.config.VotoRegistroConfig;
+import br.com.dbserver.api.domain.entities.Assembleia;
+import br.com.dbserver.api.domain.entities.Decisao;
+import br.com.dbserver.api.domain.entities.Membro;
+import br.com.dbserver.api.domain.entities.StatusAssembleia;
+import br.com.dbserver.api.domain.entities.Voto;
+import br.com.dbserver.api.domain.exceptions.AssembleiaClosedException;
+import br.com.dbserver.api.service.cache.VotoDuplicidadeIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Testes do journal de votos")
+class VotoJournalTest {
+
+    private static final int REGISTROS_POR_SEGMENTO = 4;
+
+    @TempDir
+    Path diretorio;
+
+    private VotoJournalConfig config;
+    private VotoRegistroConfig registroConfig;
+    private Assembleia assembleia;
+
+    @BeforeEach
+    void setUp() {
+        config = new VotoJournalConfig();
+        config.setDiretorio(diretorio.toString());
+        config.setTamanhoSegmento(DataSize.ofBytes((long) REGISTROS_POR_SEGMENTO * VotoJournal.TAMANHO_REGISTRO));
+        registroConfig = new VotoRegistroConfig();
+        registroConfig.setModo(VotoRegistroConfig.Modo.JOURNAL);
+        assembleia = new Assembleia(UUID.randomUUID(), null, StatusAssembleia.Aberta, OffsetDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("Deve recuperar os votos gravados ao reabrir o journal")
+    void shouldReplayRecordsAfterReopening() throws IOException {
+        VotoJournal journal = abrir();
+        Voto concordo = voto(Decisao.Concordo);
+        Voto discordo = voto(Decisao.Discordo);
+        journal.registrar(concordo);
+        journal.registrar(discordo);
+
+        VotoJournal reaberto = abrir();
+
+        List<VotoJournal.Registro> pendentes = reaberto.pendentes(10);
+        assertThat(pendentes).extracting(VotoJournal.Registro::sequencia).containsExactly(0L, 1L);
+        assertThat(pendentes.get(0).idVoto()).isEqualTo(concordo.getIdVoto());
+        assertThat(pendentes.get(0).assembleiaId()).isEqualTo(assembleia.getIdAssembleia());
+        assertThat(pendentes.get(0).membroId()).isEqualTo(concordo.getMembro().getIdMembro());
+        assertThat(pendentes.get(0).decisao()).isEqualTo(Decisao.Concordo);
+        assertThat(pendentes.get(0).registradoEm()).isEqualTo(concordo.getRegistradoEm());
+        assertThat(pendentes.get(1).decisao()).isEqualTo(Decisao.Discordo);
+        assertThatThrownBy(() -> reaberto.registrar(new Voto(UUID.randomUUID(), assembleia, discordo.getMembro(), Decisao.Concordo, OffsetDateTime.now())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Membro já votou nesta assembleia");
+    }
+
+    @Test
+    @DisplayName("Deve gravar a decisão com código fixo, independente da ordem do enum")
+    void shouldWriteStableDecisionCode() throws IOException {
+        VotoJournal journal = abrir();
+        journal.registrar(voto(Decisao.Concordo));
+        journal.registrar(voto(Decisao.Discordo));
+
+        byte[] segmento = Files.readAllBytes(diretorio.resolve("votos-000000000000.journal"));
+
+        assertThat(segmento[52]).isEqualTo((byte) 'C');
+        assertThat(segmento[VotoJournal.TAMANHO_REGISTRO + 52]).isEqualTo((byte) 'D');
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o journal no primeiro registro com CRC inválido")
+    void shouldStopReplayAtCorruptedRecord() throws IOException {
+        VotoJournal journal = abrir();
+        journal.registrar(voto(Decisao.Concordo));
+        journal.registrar(voto(Decisao.Concordo));
+        journal.registrar(voto(Decisao.Discordo));
+
+        corromper(VotoJournal.TAMANHO_REGISTRO + 30);
+        VotoJournal reaberto = abrir();
+
+        assertThat(reaberto.pendentes(10)).extracting(VotoJournal.Registro::sequencia).containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("Deve descartar um registro incompleto no fim do journal e sobrescrevê-lo")
+    void shouldOverwriteTornRecordAtTheEnd() throws IOException {
+        VotoJournal journal = abrir();
+        journal.registrar(voto(Decisao.Concordo));
+        journal.registrar(voto(Decisao.Discordo));
+        try (FileChannel canal = FileChannel.open(diretorio.resolve("votos-000000000000.journal"), StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.allocate(VotoJournal.TAMANHO_REGISTRO - 40), VotoJournal.TAMANHO_REGISTRO + 40);
+        }
+
+        VotoJournal reaberto = abrir();
+        Voto novo = voto(Decisao.Discordo);
+        reaberto.registrar(novo);
+
+        List<VotoJournal.Registro> pendentes = abrir().pendentes(10);
+        assertThat(pendentes).extracting(VotoJournal.Registro::sequencia).containsExactly(0L, 1L);
+        assertThat(pendentes.get(1).idVoto()).isEqualTo(novo.getIdVoto());
+    }
+
+    @Test
+    @DisplayName("Deve remover os segmentos projetados e retomar após o checkpoint")
+    void shouldRemoveProjectedSegmentsAndResumeAfterCheckpoint() throws IOException {
+        VotoJournal journal = abrir();
+        for (int i = 0; i < REGISTROS_POR_SEGMENTO + 2; i++) {
+            journal.registrar(voto(Decisao.Concordo));
+        }
+
+        journal.confirmarProjecao(journal.pendentes(REGISTROS_POR_SEGMENTO + 1));
+
+        assertThat(diretorio.resolve("votos-000000000000.journal")).doesNotExist();
+        assertThat(diretorio.resolve("votos-000000000001.journal")).exists();
+        assertThat(abrir().pendentes(10)).extracting(VotoJournal.Registro::sequencia)
+            .containsExactly((long) REGISTROS_POR_SEGMENTO + 1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar no lote os votos já gravados e os repetidos no próprio lote")
+    void shouldRejectDuplicatesInBatch() throws IOException {
+        VotoJournal journal = abrir();
+        Voto existente = voto(Decisao.Concordo);
+        journal.registrar(existente);
+        Voto novo = voto(Decisao.Discordo);
+        Voto repetido = new Voto(UUID.randomUUID(), assembleia, novo.getMembro(), Decisao.Concordo, OffsetDateTime.now());
+        Voto duplicado = new Voto(UUID.randomUUID(), assembleia, existente.getMembro(), Decisao.Discordo, OffsetDateTime.now());
+
+        List<Voto> recusados = journal.registrarLote(List.of(novo, repetido, duplicado));
+
+        assertThat(recusados).containsExactly(repetido, duplicado);
+        assertThat(journal.pendentes(10)).extracting(VotoJournal.Registro::idVoto)
+            .containsExactly(existente.getIdVoto(), novo.getIdVoto());
+    }
+
+    @Test
+    @DisplayName("Deve recusar votos de uma assembleia encerrada após a projeção dos já gravados")
+    void shouldRejectVotesOfClosedAssembleia() throws IOException {
+        VotoJournal journal = abrir();
+        journal.registrar(voto(Decisao.Concordo));
+        journal.confirmarProjecao(journal.pendentes(10));
+
+        journal.encerrar(assembleia.getIdAssembleia());
+
+        assertThat(journal.isEncerrada(assembleia.getIdAssembleia())).isTrue();
+        assertThatThrownBy(() -> journal.registrar(voto(Decisao.Discordo)))
+            .isInstanceOf(AssembleiaClosedException.class);
+        assertThat(journal.pendentes(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve voltar a aceitar votos quando o encerramento for cancelado")
+    void shouldAcceptVotesAgainAfterCancelledClosing() throws IOException {
+        VotoJournal journal = abrir();
+
+        journal.encerrar(assembleia.getIdAssembleia());
+        journal.cancelarEncerramento(assembleia.getIdAssembleia());
+
+        assertThat(journal.isEncerrada(assembleia.getIdAssembleia())).isFalse();
+        journal.registrar(voto(Decisao.Concordo));
+        assertThat(journal.pendentes(10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve falhar o encerramento e voltar a aceitar votos se os gravados não forem projetados a tempo")
+    void shouldFailClosingWhenPendingVotesAreNotProjected() throws IOException {
+        config.setEsperaProjecao(Duration.ofMillis(50));
+        VotoJournal journal = abrir();
+        journal.registrar(voto(Decisao.Concordo));
+
+        assertThatThrownBy(() -> journal.encerrar(assembleia.getIdAssembleia()))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(journal.isEncerrada(assembleia.getIdAssembleia())).isFalse();
+        journal.registrar(voto(Decisao.Discordo));
+        assertThat(journal.pendentes(10)).hasSize(2);
+    }
+
+    private VotoJournal abrir() throws IOException {
+        VotoJournal journal = new VotoJournal(config, registroConfig, mock(VotoDuplicidadeIndex.class));
+        journal.abrir();
+        return journal;
+    }
+
+    private Voto voto(Decisao decisao) {
+        Membro membro = new Membro(UUID.randomUUID(), "Membro", null);
+        return new Voto(UUID.randomUUID(), assembleia, membro, decisao, OffsetDateTime.now(ZoneOffset.ofHours(-3)));
+    }
+
+    private void corromper(long posicao) throws IOException {
+        try (FileChannel canal = FileChannel.open(diretorio.resolve("votos-000000000000.journal"), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer atual = ByteBuffer.allocate(1);
+            canal.read(atual, posicao);
+            canal.write(ByteBuffer.wrap(new byte[] {(byte) ~atual.get(0)}), posicao);
+        }
+    }
+}